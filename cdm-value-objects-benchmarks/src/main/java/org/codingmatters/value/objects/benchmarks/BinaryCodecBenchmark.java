@@ -0,0 +1,138 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import org.codingmatters.value.objects.benchmarks.deep.Deep;
+import org.codingmatters.value.objects.benchmarks.deep.binary.DeepBinaryReader;
+import org.codingmatters.value.objects.benchmarks.deep.binary.DeepBinaryWriter;
+import org.codingmatters.value.objects.benchmarks.enums.Enums;
+import org.codingmatters.value.objects.benchmarks.enums.binary.EnumsBinaryReader;
+import org.codingmatters.value.objects.benchmarks.enums.binary.EnumsBinaryWriter;
+import org.codingmatters.value.objects.benchmarks.flat.Flat;
+import org.codingmatters.value.objects.benchmarks.flat.binary.FlatBinaryReader;
+import org.codingmatters.value.objects.benchmarks.flat.binary.FlatBinaryWriter;
+import org.codingmatters.value.objects.benchmarks.lists.Lists;
+import org.codingmatters.value.objects.benchmarks.lists.binary.ListsBinaryReader;
+import org.codingmatters.value.objects.benchmarks.lists.binary.ListsBinaryWriter;
+import org.codingmatters.value.objects.benchmarks.temporals.Temporals;
+import org.codingmatters.value.objects.benchmarks.temporals.binary.TemporalsBinaryReader;
+import org.codingmatters.value.objects.benchmarks.temporals.binary.TemporalsBinaryWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated binary codecs, to compare with {@link JsonWriterBenchmark} and {@link JsonReaderBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BinaryCodecBenchmark {
+
+    @Param({"10", "1000"})
+    public int listSize;
+
+    private Flat flat;
+    private Deep deep;
+    private Lists lists;
+    private Enums enums;
+    private Temporals temporals;
+
+    private byte[] flatBytes;
+    private byte[] deepBytes;
+    private byte[] listsBytes;
+    private byte[] enumsBytes;
+    private byte[] temporalsBytes;
+
+    private final FlatBinaryWriter flatWriter = new FlatBinaryWriter();
+    private final DeepBinaryWriter deepWriter = new DeepBinaryWriter();
+    private final ListsBinaryWriter listsWriter = new ListsBinaryWriter();
+    private final EnumsBinaryWriter enumsWriter = new EnumsBinaryWriter();
+    private final TemporalsBinaryWriter temporalsWriter = new TemporalsBinaryWriter();
+
+    private final FlatBinaryReader flatReader = new FlatBinaryReader();
+    private final DeepBinaryReader deepReader = new DeepBinaryReader();
+    private final ListsBinaryReader listsReader = new ListsBinaryReader();
+    private final EnumsBinaryReader enumsReader = new EnumsBinaryReader();
+    private final TemporalsBinaryReader temporalsReader = new TemporalsBinaryReader();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+    private final DataOutputStream data = new DataOutputStream(this.out);
+
+    @Setup
+    public void setup() throws IOException {
+        this.flat = Fixtures.flat();
+        this.deep = Fixtures.deep();
+        this.lists = Fixtures.lists(this.listSize);
+        this.enums = Fixtures.enums();
+        this.temporals = Fixtures.temporals();
+
+        this.flatBytes = this.writeFlat();
+        this.deepBytes = this.writeDeepEmbedded();
+        this.listsBytes = this.writeListHeavy();
+        this.enumsBytes = this.writeEnumHeavy();
+        this.temporalsBytes = this.writeTemporalHeavy();
+    }
+
+    @Benchmark
+    public byte[] writeFlat() throws IOException {
+        this.out.reset();
+        this.flatWriter.write(this.data, this.flat);
+        return this.out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeDeepEmbedded() throws IOException {
+        this.out.reset();
+        this.deepWriter.write(this.data, this.deep);
+        return this.out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeListHeavy() throws IOException {
+        this.out.reset();
+        this.listsWriter.write(this.data, this.lists);
+        return this.out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeEnumHeavy() throws IOException {
+        this.out.reset();
+        this.enumsWriter.write(this.data, this.enums);
+        return this.out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeTemporalHeavy() throws IOException {
+        this.out.reset();
+        this.temporalsWriter.write(this.data, this.temporals);
+        return this.out.toByteArray();
+    }
+
+    @Benchmark
+    public Flat readFlat() throws IOException {
+        return this.flatReader.read(new DataInputStream(new ByteArrayInputStream(this.flatBytes)));
+    }
+
+    @Benchmark
+    public Deep readDeepEmbedded() throws IOException {
+        return this.deepReader.read(new DataInputStream(new ByteArrayInputStream(this.deepBytes)));
+    }
+
+    @Benchmark
+    public Lists readListHeavy() throws IOException {
+        return this.listsReader.read(new DataInputStream(new ByteArrayInputStream(this.listsBytes)));
+    }
+
+    @Benchmark
+    public Enums readEnumHeavy() throws IOException {
+        return this.enumsReader.read(new DataInputStream(new ByteArrayInputStream(this.enumsBytes)));
+    }
+
+    @Benchmark
+    public Temporals readTemporalHeavy() throws IOException {
+        return this.temporalsReader.read(new DataInputStream(new ByteArrayInputStream(this.temporalsBytes)));
+    }
+}
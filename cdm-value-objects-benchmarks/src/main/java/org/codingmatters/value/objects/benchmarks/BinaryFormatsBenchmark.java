@@ -0,0 +1,118 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.codingmatters.value.objects.values.ObjectValue;
+import org.codingmatters.value.objects.values.PropertyValue;
+import org.codingmatters.value.objects.values.json.ObjectValueReader;
+import org.codingmatters.value.objects.values.json.ObjectValueWriter;
+import org.codingmatters.value.objects.values.vals.Val;
+import org.codingmatters.value.objects.values.vals.json.ValReader;
+import org.codingmatters.value.objects.values.vals.json.ValWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes and reads a batch of ObjectValue / Val messages with the same writers and readers over json, smile (with
+ * shared string values) and cbor. Encoded batch sizes are listed in the module README.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BinaryFormatsBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    @Param({"100"})
+    public int batchSize;
+
+    private JsonFactory factory;
+    private ObjectValue[] objectValues;
+    private Val[] vals;
+    private byte[] encodedObjectValues;
+    private byte[] encodedVals;
+
+    @Setup
+    public void setup() throws IOException {
+        switch (this.format) {
+            case "smile":
+                this.factory = new SmileFactory().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+                break;
+            case "cbor":
+                this.factory = new CBORFactory();
+                break;
+            default:
+                this.factory = new JsonFactory();
+        }
+
+        this.objectValues = new ObjectValue[this.batchSize];
+        this.vals = new Val[this.batchSize];
+        for (int i = 0; i < this.batchSize; i++) {
+            long id = i;
+            this.objectValues[i] = ObjectValue.builder()
+                    .property("id", v -> v.longValue(id))
+                    .property("kind", v -> v.stringValue(id % 2 == 0 ? "even" : "odd"))
+                    .property("label", v -> v.stringValue("message " + id))
+                    .property("amount", v -> v.doubleValue(id * 1.25))
+                    .property("active", v -> v.booleanValue(id % 3 == 0))
+                    .property("payload", v -> v.bytesValue(new byte[64]))
+                    .property("values", PropertyValue.multipleDoubles(id, id + 0.5, id + 1.5))
+                    .property("owner", v -> v.objectValue(o -> o.property("name", n -> n.stringValue("owner")).property("team", n -> n.stringValue("team"))))
+                    .build();
+            this.vals[i] = Val.object()
+                    .property("id", Val.longValue(id))
+                    .property("kind", Val.stringValue(id % 2 == 0 ? "even" : "odd"))
+                    .property("label", Val.stringValue("message " + id))
+                    .property("amount", Val.doubleValue(id * 1.25))
+                    .property("active", Val.booleanValue(id % 3 == 0))
+                    .property("values", Val.array().with(Val.doubleValue(id + 0.5), Val.doubleValue(id + 1.5)).build())
+                    .property("owner", Val.object().property("name", Val.stringValue("owner")).property("team", Val.stringValue("team")).build())
+                    .build();
+        }
+        this.encodedObjectValues = this.writeObjectValues();
+        this.encodedVals = this.writeVals();
+    }
+
+    @Benchmark
+    public byte[] writeObjectValues() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(JsonGenerator generator = this.factory.createGenerator(out)) {
+            new ObjectValueWriter().writeArray(generator, this.objectValues);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public ObjectValue[] readObjectValues() throws IOException {
+        try(JsonParser parser = this.factory.createParser(this.encodedObjectValues)) {
+            return new ObjectValueReader().readArray(parser);
+        }
+    }
+
+    @Benchmark
+    public byte[] writeVals() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(JsonGenerator generator = this.factory.createGenerator(out)) {
+            new ValWriter().writeArray(generator, this.vals);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Val readVals() throws IOException {
+        try(JsonParser parser = this.factory.createParser(this.encodedVals)) {
+            return new ValReader().read(parser);
+        }
+    }
+}
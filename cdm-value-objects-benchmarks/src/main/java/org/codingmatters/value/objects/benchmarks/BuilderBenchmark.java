@@ -0,0 +1,47 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import org.codingmatters.value.objects.benchmarks.deep.Deep;
+import org.codingmatters.value.objects.benchmarks.enums.Enums;
+import org.codingmatters.value.objects.benchmarks.flat.Flat;
+import org.codingmatters.value.objects.benchmarks.lists.Lists;
+import org.codingmatters.value.objects.benchmarks.temporals.Temporals;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BuilderBenchmark {
+
+    @Param({"10", "1000"})
+    public int listSize;
+
+    @Benchmark
+    public Flat flat() {
+        return Fixtures.flat();
+    }
+
+    @Benchmark
+    public Deep deepEmbedded() {
+        return Fixtures.deep();
+    }
+
+    @Benchmark
+    public Lists listHeavy() {
+        return Fixtures.lists(this.listSize);
+    }
+
+    @Benchmark
+    public Enums enumHeavy() {
+        return Fixtures.enums();
+    }
+
+    @Benchmark
+    public Temporals temporalHeavy() {
+        return Fixtures.temporals();
+    }
+}
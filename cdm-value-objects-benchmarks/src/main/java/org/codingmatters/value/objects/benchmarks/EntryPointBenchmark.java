@@ -0,0 +1,61 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import org.codingmatters.value.objects.benchmarks.flat.Flat;
+import org.codingmatters.value.objects.benchmarks.flat.json.FlatReader;
+import org.codingmatters.value.objects.benchmarks.flat.json.FlatWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and writes a flat value the way most call sites do, with a new JsonFactory per call, and with the generated
+ * static entry points sharing one factory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EntryPointBenchmark {
+
+    private Flat flat;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        this.flat = Fixtures.flat();
+        this.json = Fixtures.json(generator -> new FlatWriter().write(generator, this.flat));
+    }
+
+    @Benchmark
+    public Flat readWithFactoryPerCall() throws IOException {
+        try(JsonParser parser = new JsonFactory().createParser(this.json)) {
+            return new FlatReader().read(parser);
+        }
+    }
+
+    @Benchmark
+    public Flat readBytes() throws IOException {
+        return FlatReader.read(this.json);
+    }
+
+    @Benchmark
+    public byte[] writeWithFactoryPerCall() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(JsonGenerator generator = new JsonFactory().createGenerator(out)) {
+            new FlatWriter().write(generator, this.flat);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] toBytes() throws IOException {
+        return FlatWriter.toBytes(this.flat);
+    }
+}
@@ -0,0 +1,173 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import org.codingmatters.value.objects.benchmarks.deep.Deep;
+import org.codingmatters.value.objects.benchmarks.enums.Enums;
+import org.codingmatters.value.objects.benchmarks.flat.Flat;
+import org.codingmatters.value.objects.benchmarks.lists.Lists;
+import org.codingmatters.value.objects.benchmarks.temporals.Temporals;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EqualityBenchmark {
+
+    @Param({"10", "1000"})
+    public int listSize;
+
+    private Flat flat;
+    private Flat flatCopy;
+    private Flat flatOther;
+    private DeclarationOrderFlat declarationOrderFlat;
+    private DeclarationOrderFlat declarationOrderFlatCopy;
+    private DeclarationOrderFlat declarationOrderFlatOther;
+    private Deep deep;
+    private Deep deepCopy;
+    private Lists lists;
+    private Lists listsCopy;
+    private Enums enums;
+    private Enums enumsCopy;
+    private Temporals temporals;
+    private Temporals temporalsCopy;
+
+    @Setup
+    public void setup() {
+        this.flat = Fixtures.flat();
+        this.flatCopy = Fixtures.flat();
+        this.flatOther = this.flat.withArchived(true);
+        this.declarationOrderFlat = new DeclarationOrderFlat(this.flat);
+        this.declarationOrderFlatCopy = new DeclarationOrderFlat(this.flatCopy);
+        this.declarationOrderFlatOther = new DeclarationOrderFlat(this.flatOther);
+        this.deep = Fixtures.deep();
+        this.deepCopy = Fixtures.deep();
+        this.lists = Fixtures.lists(this.listSize);
+        this.listsCopy = Fixtures.lists(this.listSize);
+        this.enums = Fixtures.enums();
+        this.enumsCopy = Fixtures.enums();
+        this.temporals = Fixtures.temporals();
+        this.temporalsCopy = Fixtures.temporals();
+    }
+
+    @Benchmark
+    public boolean flatEquals() {
+        return this.flat.equals(this.flatCopy);
+    }
+
+    @Benchmark
+    public boolean flatNotEquals() {
+        return this.flat.equals(this.flatOther);
+    }
+
+    @Benchmark
+    public boolean flatEqualsInDeclarationOrder() {
+        return this.declarationOrderFlat.equals(this.declarationOrderFlatCopy);
+    }
+
+    @Benchmark
+    public boolean flatNotEqualsInDeclarationOrder() {
+        return this.declarationOrderFlat.equals(this.declarationOrderFlatOther);
+    }
+
+    @Benchmark
+    public int flatHashCode() {
+        return this.flat.hashCode();
+    }
+
+    @Benchmark
+    public boolean deepEquals() {
+        return this.deep.equals(this.deepCopy);
+    }
+
+    @Benchmark
+    public int deepHashCode() {
+        return this.deep.hashCode();
+    }
+
+    @Benchmark
+    public boolean listsEquals() {
+        return this.lists.equals(this.listsCopy);
+    }
+
+    @Benchmark
+    public int listsHashCode() {
+        return this.lists.hashCode();
+    }
+
+    @Benchmark
+    public boolean enumsEquals() {
+        return this.enums.equals(this.enumsCopy);
+    }
+
+    @Benchmark
+    public int enumsHashCode() {
+        return this.enums.hashCode();
+    }
+
+    @Benchmark
+    public boolean temporalsEquals() {
+        return this.temporals.equals(this.temporalsCopy);
+    }
+
+    @Benchmark
+    public int temporalsHashCode() {
+        return this.temporals.hashCode();
+    }
+
+    /**
+     * Baseline : same fields as the generated FlatImpl, with the equals body generated before properties were compared
+     * by cost (direct field reads, declaration order).
+     */
+    static final class DeclarationOrderFlat {
+        private final String id;
+        private final String name;
+        private final String description;
+        private final String category;
+        private final Integer count;
+        private final Long total;
+        private final Float ratio;
+        private final Double score;
+        private final Boolean active;
+        private final Boolean archived;
+
+        DeclarationOrderFlat(Flat flat) {
+            this.id = flat.id();
+            this.name = flat.name();
+            this.description = flat.description();
+            this.category = flat.category();
+            this.count = flat.count();
+            this.total = flat.total();
+            this.ratio = flat.ratio();
+            this.score = flat.score();
+            this.active = flat.active();
+            this.archived = flat.archived();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            DeclarationOrderFlat that = (DeclarationOrderFlat) o;
+            return Objects.equals(this.id, that.id) &&
+                    Objects.equals(this.name, that.name) &&
+                    Objects.equals(this.description, that.description) &&
+                    Objects.equals(this.category, that.category) &&
+                    Objects.equals(this.count, that.count) &&
+                    Objects.equals(this.total, that.total) &&
+                    Objects.equals(this.ratio, that.ratio) &&
+                    Objects.equals(this.score, that.score) &&
+                    Objects.equals(this.active, that.active) &&
+                    Objects.equals(this.archived, that.archived);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.id, this.name, this.description, this.category, this.count, this.total, this.ratio, this.score, this.active, this.archived);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.codingmatters.value.objects.benchmarks.deep.Deep;
+import org.codingmatters.value.objects.benchmarks.enums.Enums;
+import org.codingmatters.value.objects.benchmarks.envelope.Envelope;
+import org.codingmatters.value.objects.benchmarks.envelope.envelope.Headers;
+import org.codingmatters.value.objects.benchmarks.envelope.envelope.body.Lines;
+import org.codingmatters.value.objects.benchmarks.flat.Flat;
+import org.codingmatters.value.objects.benchmarks.lists.Lists;
+import org.codingmatters.value.objects.benchmarks.lists.PrimitiveSeries;
+import org.codingmatters.value.objects.benchmarks.lists.Series;
+import org.codingmatters.value.objects.benchmarks.lists.lists.Items;
+import org.codingmatters.value.objects.benchmarks.temporals.Temporals;
+import org.codingmatters.value.objects.benchmarks.wide.Wide;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Fixtures {
+
+    static public final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    static public Flat flat() {
+        return Flat.builder()
+                .id("b5c0d9a2-6f3e-4c1a-9a7e-2f0c1d8e4b3a")
+                .name("flat value")
+                .description("a flat value object with only simple properties")
+                .category("benchmarks")
+                .count(42)
+                .total(1234567890123L)
+                .ratio(0.75f)
+                .score(98.6)
+                .active(true)
+                .archived(false)
+                .build();
+    }
+
+    static public Deep deep() {
+        return Deep.builder()
+                .id("deep")
+                .level1(level1 -> level1.name("level 1")
+                        .level2(level2 -> level2.name("level 2")
+                                .level3(level3 -> level3.name("level 3")
+                                        .level4(level4 -> level4.name("level 4").value(4L))
+                                )
+                        )
+                )
+                .build();
+    }
+
+    static public Lists lists(int size) {
+        List<String> names = new ArrayList<>(size);
+        List<Long> counts = new ArrayList<>(size);
+        List<Double> scores = new ArrayList<>(size);
+        List<Items> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            names.add("name-" + i);
+            counts.add((long) i);
+            scores.add(i / 10.0);
+            items.add(Items.builder().name("item-" + i).quantity(i).build());
+        }
+        return Lists.builder()
+                .names(names)
+                .counts(counts)
+                .scores(scores)
+                .items(items)
+                .build();
+    }
+
+    static public Series series(int size) {
+        List<Long> timestamps = new ArrayList<>(size);
+        List<Double> samples = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            timestamps.add(1500000000000L + i * 1000L);
+            samples.add(Math.sin(i / 100.0));
+        }
+        return Series.builder()
+                .timestamps(timestamps)
+                .samples(samples)
+                .build();
+    }
+
+    static public PrimitiveSeries primitiveSeries(int size) {
+        long[] timestamps = new long[size];
+        double[] samples = new double[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = 1500000000000L + i * 1000L;
+            samples[i] = Math.sin(i / 100.0);
+        }
+        return PrimitiveSeries.builder()
+                .timestamps(timestamps)
+                .samples(samples)
+                .build();
+    }
+
+    static public Envelope envelope(int lineCount) {
+        List<Lines> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(Lines.builder().sku("sku-" + i).label("line " + i + " label").quantity(i % 10 + 1).price(i * 1.25).build());
+        }
+        return Envelope.builder()
+                .id("7d1c2b4e-0a9f-4b6e-8c3d-5e2f1a0b9c8d")
+                .route("orders.eu-west")
+                .tenant("acme")
+                .timestamp(1500000000000L)
+                .headers(
+                        Headers.builder().name("content-type").value("application/json").build(),
+                        Headers.builder().name("trace-id").value("0af7651916cd43dd8448eb211c80319c").build()
+                )
+                .body(body -> body.author("benchmarks").tags("bulk", "priority").lines(lines))
+                .build();
+    }
+
+    static public Enums enums() {
+        return Enums.builder()
+                .status(Enums.Status.RUNNING)
+                .priority(Enums.Priority.HIGH)
+                .day(DayOfWeek.WEDNESDAY)
+                .month(Month.OCTOBER)
+                .statuses(Enums.Statuses.CREATED, Enums.Statuses.PENDING, Enums.Statuses.RUNNING, Enums.Statuses.SUCCEEDED)
+                .days(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.FRIDAY)
+                .build();
+    }
+
+    static public Temporals temporals() {
+        LocalDateTime now = LocalDateTime.of(2020, 3, 14, 15, 9, 26, 535000000);
+        return Temporals.builder()
+                .day(now.toLocalDate())
+                .at(now.toLocalTime())
+                .created(now)
+                .updated(now.plusHours(1))
+                .published(ZonedDateTime.of(now, ZoneId.of("Europe/Paris")))
+                .history(now.minusDays(3), now.minusDays(2), now.minusDays(1))
+                .days(now.toLocalDate().minusDays(1), now.toLocalDate(), now.toLocalDate().plusDays(1))
+                .build();
+    }
+
+    @FunctionalInterface
+    public interface JsonWriting {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    static public Wide wide() {
+        return Wide.builder()
+                .text1("text 1").text2("text 2").text3("text 3").text4("text 4").text5("text 5")
+                .text6("text 6").text7("text 7").text8("text 8").text9("text 9").text10("text 10")
+                .text11("text 11").text12("text 12").text13("text 13").text14("text 14").text15("text 15")
+                .text16("text 16").text17("text 17").text18("text 18").text19("text 19").text20("text 20")
+                .amount1(1L).amount2(2L).amount3(3L).amount4(4L).amount5(5L)
+                .amount6(6L).amount7(7L).amount8(8L).amount9(9L).amount10(10L)
+                .amount11(11L).amount12(12L).amount13(13L).amount14(14L).amount15(15L)
+                .amount16(16L).amount17(17L).amount18(18L).amount19(19L).amount20(20L)
+                .flag1(true).flag2(false).flag3(true).flag4(false).flag5(true)
+                .flag6(false).flag7(true).flag8(false).flag9(true).flag10(false)
+                .flag11(true).flag12(false).flag13(true).flag14(false).flag15(true)
+                .flag16(false).flag17(true).flag18(false).flag19(true).flag20(false)
+                .build();
+    }
+
+    static public byte[] json(JsonWriting writing) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            writing.write(generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,92 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import com.fasterxml.jackson.core.JsonParser;
+import org.codingmatters.value.objects.benchmarks.deep.Deep;
+import org.codingmatters.value.objects.benchmarks.deep.json.DeepReader;
+import org.codingmatters.value.objects.benchmarks.deep.json.DeepWriter;
+import org.codingmatters.value.objects.benchmarks.enums.Enums;
+import org.codingmatters.value.objects.benchmarks.enums.json.EnumsReader;
+import org.codingmatters.value.objects.benchmarks.enums.json.EnumsWriter;
+import org.codingmatters.value.objects.benchmarks.flat.Flat;
+import org.codingmatters.value.objects.benchmarks.flat.json.FlatReader;
+import org.codingmatters.value.objects.benchmarks.flat.json.FlatWriter;
+import org.codingmatters.value.objects.benchmarks.lists.Lists;
+import org.codingmatters.value.objects.benchmarks.lists.json.ListsReader;
+import org.codingmatters.value.objects.benchmarks.lists.json.ListsWriter;
+import org.codingmatters.value.objects.benchmarks.temporals.Temporals;
+import org.codingmatters.value.objects.benchmarks.temporals.json.TemporalsReader;
+import org.codingmatters.value.objects.benchmarks.temporals.json.TemporalsWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.codingmatters.value.objects.benchmarks.Fixtures.JSON_FACTORY;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class JsonReaderBenchmark {
+
+    @Param({"10", "1000"})
+    public int listSize;
+
+    private byte[] flat;
+    private byte[] deep;
+    private byte[] lists;
+    private byte[] enums;
+    private byte[] temporals;
+
+    private final FlatReader flatReader = new FlatReader();
+    private final DeepReader deepReader = new DeepReader();
+    private final ListsReader listsReader = new ListsReader();
+    private final EnumsReader enumsReader = new EnumsReader();
+    private final TemporalsReader temporalsReader = new TemporalsReader();
+
+    @Setup
+    public void setup() {
+        this.flat = Fixtures.json(generator -> new FlatWriter().write(generator, Fixtures.flat()));
+        this.deep = Fixtures.json(generator -> new DeepWriter().write(generator, Fixtures.deep()));
+        this.lists = Fixtures.json(generator -> new ListsWriter().write(generator, Fixtures.lists(this.listSize)));
+        this.enums = Fixtures.json(generator -> new EnumsWriter().write(generator, Fixtures.enums()));
+        this.temporals = Fixtures.json(generator -> new TemporalsWriter().write(generator, Fixtures.temporals()));
+    }
+
+    @Benchmark
+    public Flat flat() throws IOException {
+        try(JsonParser parser = JSON_FACTORY.createParser(this.flat)) {
+            return this.flatReader.read(parser);
+        }
+    }
+
+    @Benchmark
+    public Deep deepEmbedded() throws IOException {
+        try(JsonParser parser = JSON_FACTORY.createParser(this.deep)) {
+            return this.deepReader.read(parser);
+        }
+    }
+
+    @Benchmark
+    public Lists listHeavy() throws IOException {
+        try(JsonParser parser = JSON_FACTORY.createParser(this.lists)) {
+            return this.listsReader.read(parser);
+        }
+    }
+
+    @Benchmark
+    public Enums enumHeavy() throws IOException {
+        try(JsonParser parser = JSON_FACTORY.createParser(this.enums)) {
+            return this.enumsReader.read(parser);
+        }
+    }
+
+    @Benchmark
+    public Temporals temporalHeavy() throws IOException {
+        try(JsonParser parser = JSON_FACTORY.createParser(this.temporals)) {
+            return this.temporalsReader.read(parser);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.codingmatters.value.objects.benchmarks.deep.Deep;
+import org.codingmatters.value.objects.benchmarks.deep.json.DeepWriter;
+import org.codingmatters.value.objects.benchmarks.enums.Enums;
+import org.codingmatters.value.objects.benchmarks.enums.json.EnumsWriter;
+import org.codingmatters.value.objects.benchmarks.flat.Flat;
+import org.codingmatters.value.objects.benchmarks.flat.json.FlatWriter;
+import org.codingmatters.value.objects.benchmarks.lists.Lists;
+import org.codingmatters.value.objects.benchmarks.lists.json.ListsWriter;
+import org.codingmatters.value.objects.benchmarks.temporals.Temporals;
+import org.codingmatters.value.objects.benchmarks.temporals.json.TemporalsWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.codingmatters.value.objects.benchmarks.Fixtures.JSON_FACTORY;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class JsonWriterBenchmark {
+
+    @Param({"10", "1000"})
+    public int listSize;
+
+    private Flat flat;
+    private Deep deep;
+    private Lists lists;
+    private Enums enums;
+    private Temporals temporals;
+
+    private final FlatWriter flatWriter = new FlatWriter();
+    private final DeepWriter deepWriter = new DeepWriter();
+    private final ListsWriter listsWriter = new ListsWriter();
+    private final EnumsWriter enumsWriter = new EnumsWriter();
+    private final TemporalsWriter temporalsWriter = new TemporalsWriter();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+
+    @Setup
+    public void setup() {
+        this.flat = Fixtures.flat();
+        this.deep = Fixtures.deep();
+        this.lists = Fixtures.lists(this.listSize);
+        this.enums = Fixtures.enums();
+        this.temporals = Fixtures.temporals();
+    }
+
+    @Benchmark
+    public int flat() throws IOException {
+        this.out.reset();
+        try(JsonGenerator generator = JSON_FACTORY.createGenerator(this.out)) {
+            this.flatWriter.write(generator, this.flat);
+        }
+        return this.out.size();
+    }
+
+    @Benchmark
+    public int deepEmbedded() throws IOException {
+        this.out.reset();
+        try(JsonGenerator generator = JSON_FACTORY.createGenerator(this.out)) {
+            this.deepWriter.write(generator, this.deep);
+        }
+        return this.out.size();
+    }
+
+    @Benchmark
+    public int listHeavy() throws IOException {
+        this.out.reset();
+        try(JsonGenerator generator = JSON_FACTORY.createGenerator(this.out)) {
+            this.listsWriter.write(generator, this.lists);
+        }
+        return this.out.size();
+    }
+
+    @Benchmark
+    public int enumHeavy() throws IOException {
+        this.out.reset();
+        try(JsonGenerator generator = JSON_FACTORY.createGenerator(this.out)) {
+            this.enumsWriter.write(generator, this.enums);
+        }
+        return this.out.size();
+    }
+
+    @Benchmark
+    public int temporalHeavy() throws IOException {
+        this.out.reset();
+        try(JsonGenerator generator = JSON_FACTORY.createGenerator(this.out)) {
+            this.temporalsWriter.write(generator, this.temporals);
+        }
+        return this.out.size();
+    }
+}
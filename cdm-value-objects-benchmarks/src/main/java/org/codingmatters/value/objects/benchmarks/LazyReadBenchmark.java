@@ -0,0 +1,70 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import com.fasterxml.jackson.core.JsonParser;
+import org.codingmatters.value.objects.benchmarks.envelope.Envelope;
+import org.codingmatters.value.objects.benchmarks.envelope.json.EnvelopeReader;
+import org.codingmatters.value.objects.benchmarks.envelope.json.EnvelopeWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.codingmatters.value.objects.benchmarks.Fixtures.JSON_FACTORY;
+
+/**
+ * Routes an envelope on its route and tenant headers, reading it eagerly and lazily. The full variants also walk the
+ * body to give the cost of the lazy reader when everything is accessed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class LazyReadBenchmark {
+
+    @Param({"10", "1000"})
+    public int lineCount;
+
+    private byte[] json;
+
+    private final EnvelopeReader reader = new EnvelopeReader();
+
+    @Setup
+    public void setup() {
+        Envelope envelope = Fixtures.envelope(this.lineCount);
+        this.json = Fixtures.json(generator -> new EnvelopeWriter().write(generator, envelope));
+    }
+
+    @Benchmark
+    public int routeEager() throws IOException {
+        try(JsonParser parser = JSON_FACTORY.createParser(this.json)) {
+            return this.route(this.reader.read(parser));
+        }
+    }
+
+    @Benchmark
+    public int routeLazy() throws IOException {
+        return this.route(this.reader.readLazy(JSON_FACTORY, this.json));
+    }
+
+    @Benchmark
+    public int fullEager() throws IOException {
+        try(JsonParser parser = JSON_FACTORY.createParser(this.json)) {
+            return this.walk(this.reader.read(parser));
+        }
+    }
+
+    @Benchmark
+    public int fullLazy() throws IOException {
+        return this.walk(this.reader.readLazy(JSON_FACTORY, this.json));
+    }
+
+    private int route(Envelope envelope) {
+        return envelope.route().hashCode() + envelope.tenant().hashCode();
+    }
+
+    private int walk(Envelope envelope) {
+        return this.route(envelope) + envelope.headers().size() + envelope.body().lines().size();
+    }
+}
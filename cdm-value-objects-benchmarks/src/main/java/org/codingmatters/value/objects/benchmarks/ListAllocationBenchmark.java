@@ -0,0 +1,98 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import com.fasterxml.jackson.core.JsonParser;
+import org.codingmatters.value.objects.benchmarks.flat.Flat;
+import org.codingmatters.value.objects.benchmarks.flat.json.FlatReader;
+import org.codingmatters.value.objects.benchmarks.flat.json.FlatWriter;
+import org.codingmatters.value.objects.benchmarks.lists.Lists;
+import org.codingmatters.value.objects.benchmarks.lists.json.ListsReader;
+import org.codingmatters.value.objects.benchmarks.lists.json.ListsWriter;
+import org.codingmatters.value.objects.benchmarks.lists.lists.Items;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.codingmatters.value.objects.benchmarks.Fixtures.JSON_FACTORY;
+
+/**
+ * Large list and array reading, and large list property updates, run with -prof gc to get the allocated bytes per
+ * operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ListAllocationBenchmark {
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    private Lists listsValue;
+    private Lists appended;
+    private byte[] lists;
+    private byte[] flatArray;
+    private List<String> names;
+    private List<Long> counts;
+    private List<Double> scores;
+    private List<Items> items;
+
+    private final ListsReader listsReader = new ListsReader();
+    private final FlatReader flatReader = new FlatReader();
+
+    @Setup
+    public void setup() {
+        Lists listsValue = Fixtures.lists(this.size);
+        this.listsValue = listsValue;
+        this.lists = Fixtures.json(generator -> new ListsWriter().write(generator, listsValue));
+        this.names = listsValue.names().stream().collect(Collectors.toList());
+        this.counts = listsValue.counts().stream().collect(Collectors.toList());
+        this.scores = listsValue.scores().stream().collect(Collectors.toList());
+        this.items = listsValue.items().stream().collect(Collectors.toList());
+
+        Flat[] flats = new Flat[this.size];
+        for (int i = 0; i < flats.length; i++) {
+            flats[i] = Fixtures.flat();
+        }
+        this.flatArray = Fixtures.json(generator -> new FlatWriter().writeArray(generator, flats));
+    }
+
+    @Setup(Level.Iteration)
+    public void resetAppended() {
+        this.appended = this.listsValue;
+    }
+
+    @Benchmark
+    public Lists readListProperties() throws IOException {
+        try(JsonParser parser = JSON_FACTORY.createParser(this.lists)) {
+            return this.listsReader.read(parser);
+        }
+    }
+
+    @Benchmark
+    public Flat[] readArray() throws IOException {
+        try(JsonParser parser = JSON_FACTORY.createParser(this.flatArray)) {
+            return this.flatReader.readArray(parser);
+        }
+    }
+
+    @Benchmark
+    public Lists buildFromCollections() {
+        return Lists.builder()
+                .names(this.names)
+                .counts(this.counts)
+                .scores(this.scores)
+                .items(this.items)
+                .build();
+    }
+
+    @Benchmark
+    public Lists appendToListProperty() {
+        this.appended = this.appended.withNames(this.appended.names().toBuilder().with("appended").build());
+        return this.appended;
+    }
+}
@@ -0,0 +1,98 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import org.codingmatters.value.objects.benchmarks.deep.Deep;
+import org.codingmatters.value.objects.benchmarks.enums.Enums;
+import org.codingmatters.value.objects.benchmarks.flat.Flat;
+import org.codingmatters.value.objects.benchmarks.lists.Lists;
+import org.codingmatters.value.objects.benchmarks.temporals.Temporals;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MapConversionBenchmark {
+
+    @Param({"10", "1000"})
+    public int listSize;
+
+    private Flat flat;
+    private Map<?, ?> flatMap;
+    private Deep deep;
+    private Map<?, ?> deepMap;
+    private Lists lists;
+    private Map<?, ?> listsMap;
+    private Enums enums;
+    private Map<?, ?> enumsMap;
+    private Temporals temporals;
+    private Map<?, ?> temporalsMap;
+
+    @Setup
+    public void setup() {
+        this.flat = Fixtures.flat();
+        this.flatMap = this.flat.toMap();
+        this.deep = Fixtures.deep();
+        this.deepMap = this.deep.toMap();
+        this.lists = Fixtures.lists(this.listSize);
+        this.listsMap = this.lists.toMap();
+        this.enums = Fixtures.enums();
+        this.enumsMap = this.enums.toMap();
+        this.temporals = Fixtures.temporals();
+        this.temporalsMap = this.temporals.toMap();
+    }
+
+    @Benchmark
+    public Map<?, ?> flatToMap() {
+        return this.flat.toMap();
+    }
+
+    @Benchmark
+    public Flat flatFromMap() {
+        return Flat.fromMap(this.flatMap).build();
+    }
+
+    @Benchmark
+    public Map<?, ?> deepToMap() {
+        return this.deep.toMap();
+    }
+
+    @Benchmark
+    public Deep deepFromMap() {
+        return Deep.fromMap(this.deepMap).build();
+    }
+
+    @Benchmark
+    public Map<?, ?> listsToMap() {
+        return this.lists.toMap();
+    }
+
+    @Benchmark
+    public Lists listsFromMap() {
+        return Lists.fromMap(this.listsMap).build();
+    }
+
+    @Benchmark
+    public Map<?, ?> enumsToMap() {
+        return this.enums.toMap();
+    }
+
+    @Benchmark
+    public Enums enumsFromMap() {
+        return Enums.fromMap(this.enumsMap).build();
+    }
+
+    @Benchmark
+    public Map<?, ?> temporalsToMap() {
+        return this.temporals.toMap();
+    }
+
+    @Benchmark
+    public Temporals temporalsFromMap() {
+        return Temporals.fromMap(this.temporalsMap).build();
+    }
+}
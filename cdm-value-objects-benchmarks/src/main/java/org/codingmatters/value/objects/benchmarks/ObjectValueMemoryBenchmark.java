@@ -0,0 +1,78 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import org.codingmatters.value.objects.values.ObjectValue;
+import org.codingmatters.value.objects.values.PropertyValue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bytes per object are given by the gc profiler (gc.alloc.rate.norm). hashMapCopy reproduces the storage of the
+ * previous ObjectValue implementation : a HashMap copy of the builder's properties. repeatedValues builds objects from
+ * booleans, small longs, empty and null strings, shared by the property value cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ObjectValueMemoryBenchmark {
+
+    @Param({"5", "20"})
+    public int propertyCount;
+
+    static private final String[] NAMES = new String[100];
+    static {
+        for (int i = 0; i < NAMES.length; i++) {
+            NAMES[i] = "property" + i;
+        }
+    }
+
+    private Map<String, PropertyValue> properties;
+    private ObjectValue.Builder builder;
+
+    @Setup
+    public void setup() {
+        this.properties = new HashMap<>();
+        this.builder = ObjectValue.builder();
+        for (int i = 0; i < this.propertyCount; i++) {
+            PropertyValue value = PropertyValue.builder().stringValue("value " + i).build();
+            this.properties.put("property" + i, value);
+            this.builder.property("property" + i, value);
+        }
+    }
+
+    @Benchmark
+    public ObjectValue objectValue() {
+        return this.builder.build();
+    }
+
+    @Benchmark
+    public Map<String, PropertyValue> hashMapCopy() {
+        return new HashMap<>(this.properties);
+    }
+
+    @Benchmark
+    public ObjectValue repeatedValues() {
+        ObjectValue.Builder result = ObjectValue.builder();
+        for (int i = 0; i < this.propertyCount; i++) {
+            switch (i % 4) {
+                case 0:
+                    result.property(NAMES[i], builder -> builder.booleanValue(true));
+                    break;
+                case 1:
+                    result.property(NAMES[i], builder -> builder.longValue(0L));
+                    break;
+                case 2:
+                    result.property(NAMES[i], builder -> builder.stringValue(""));
+                    break;
+                default:
+                    result.property(NAMES[i], builder -> builder.stringValue(null));
+            }
+        }
+        return result.build();
+    }
+}
@@ -0,0 +1,87 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import org.codingmatters.value.objects.benchmarks.flat.Flat;
+import org.codingmatters.value.objects.benchmarks.flat.json.FlatReader;
+import org.codingmatters.value.objects.benchmarks.flat.json.FlatWriter;
+import org.codingmatters.value.objects.values.json.ParallelJsonReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.codingmatters.value.objects.benchmarks.Fixtures.JSON_FACTORY;
+
+/**
+ * Reads a newline delimited json file of flat values : sequentially with the generated reader, and with the
+ * ParallelJsonReader over the memory mapped file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ParallelReadBenchmark {
+
+    @Param({"200000"})
+    public int valueCount;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private File file;
+    private final FlatReader reader = new FlatReader();
+
+    @Setup
+    public void setup() throws IOException {
+        this.file = File.createTempFile("parallel-read", ".ndjson");
+        this.file.deleteOnExit();
+
+        Flat flat = Fixtures.flat();
+        FlatWriter writer = new FlatWriter();
+        try(OutputStream out = new FileOutputStream(this.file); JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            for (int i = 0; i < this.valueCount; i++) {
+                writer.write(generator, flat);
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.file.delete();
+    }
+
+    @Benchmark
+    public long sequential() throws IOException {
+        long result = 0;
+        try(JsonParser parser = JSON_FACTORY.createParser(this.file)) {
+            while(parser.nextToken() != null) {
+                if(this.reader.read(parser) != null) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long parallelOrdered() throws IOException {
+        LongAdder result = new LongAdder();
+        new ParallelJsonReader<>(JSON_FACTORY, this.reader::read, this.parallelism).readLines(this.file, true, value -> result.increment());
+        return result.sum();
+    }
+
+    @Benchmark
+    public long parallelUnordered() throws IOException {
+        LongAdder result = new LongAdder();
+        new ParallelJsonReader<>(JSON_FACTORY, this.reader::read, this.parallelism).readLines(this.file, false, value -> result.increment());
+        return result.sum();
+    }
+}
@@ -0,0 +1,83 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import org.codingmatters.value.objects.benchmarks.lists.PrimitiveSeries;
+import org.codingmatters.value.objects.benchmarks.lists.Series;
+import org.codingmatters.value.objects.benchmarks.lists.json.PrimitiveSeriesReader;
+import org.codingmatters.value.objects.benchmarks.lists.json.PrimitiveSeriesWriter;
+import org.codingmatters.value.objects.benchmarks.lists.json.SeriesReader;
+import org.codingmatters.value.objects.benchmarks.lists.json.SeriesWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.codingmatters.value.objects.benchmarks.Fixtures.JSON_FACTORY;
+
+/**
+ * Reads and writes a time series of long timestamps and double samples, as boxed value lists and as list:primitive
+ * hinted lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PrimitiveListBenchmark {
+
+    @Param({"100000"})
+    public int sampleCount;
+
+    private Series series;
+    private PrimitiveSeries primitiveSeries;
+    private byte[] json;
+
+    private final SeriesReader seriesReader = new SeriesReader();
+    private final SeriesWriter seriesWriter = new SeriesWriter();
+    private final PrimitiveSeriesReader primitiveSeriesReader = new PrimitiveSeriesReader();
+    private final PrimitiveSeriesWriter primitiveSeriesWriter = new PrimitiveSeriesWriter();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(4 * 1024 * 1024);
+
+    @Setup
+    public void setup() {
+        this.series = Fixtures.series(this.sampleCount);
+        this.primitiveSeries = Fixtures.primitiveSeries(this.sampleCount);
+        this.json = Fixtures.json(generator -> this.seriesWriter.write(generator, this.series));
+    }
+
+    @Benchmark
+    public Series readBoxed() throws IOException {
+        try(JsonParser parser = JSON_FACTORY.createParser(this.json)) {
+            return this.seriesReader.read(parser);
+        }
+    }
+
+    @Benchmark
+    public PrimitiveSeries readPrimitive() throws IOException {
+        try(JsonParser parser = JSON_FACTORY.createParser(this.json)) {
+            return this.primitiveSeriesReader.read(parser);
+        }
+    }
+
+    @Benchmark
+    public int writeBoxed() throws IOException {
+        this.out.reset();
+        try(JsonGenerator generator = JSON_FACTORY.createGenerator(this.out)) {
+            this.seriesWriter.write(generator, this.series);
+        }
+        return this.out.size();
+    }
+
+    @Benchmark
+    public int writePrimitive() throws IOException {
+        this.out.reset();
+        try(JsonGenerator generator = JSON_FACTORY.createGenerator(this.out)) {
+            this.primitiveSeriesWriter.write(generator, this.primitiveSeries);
+        }
+        return this.out.size();
+    }
+}
@@ -0,0 +1,90 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.codingmatters.value.objects.values.ObjectValue;
+import org.codingmatters.value.objects.values.PropertyValue;
+import org.codingmatters.value.objects.values.json.JsonProjection;
+import org.codingmatters.value.objects.values.json.ObjectValueReader;
+import org.codingmatters.value.objects.values.json.ProjectedObjectValueReader;
+import org.codingmatters.value.objects.values.vals.json.ValCursor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extracts a.b[*].c from newline delimited json documents : full read then navigation, projected read, and
+ * allocation free cursor walk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ProjectionBenchmark {
+
+    @Param({"100"})
+    public int documentCount;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final JsonProjection projection = JsonProjection.of("a.b[*].c");
+    private byte[] ndjson;
+
+    @Setup
+    public void setup() {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < this.documentCount; i++) {
+            result.append("{\"id\": \"doc-").append(i).append("\", \"payload\": {\"text\": \"lorem ipsum dolor sit amet\", \"values\": [");
+            for (int j = 0; j < 20; j++) {
+                result.append(j > 0 ? ", " : "").append(i * j);
+            }
+            result.append("]}, \"a\": {\"b\": [");
+            for (int j = 0; j < 5; j++) {
+                result.append(j > 0 ? ", " : "").append("{\"c\": ").append(j + 0.5).append(", \"d\": \"unused ").append(j).append("\"}");
+            }
+            result.append("]}}\n");
+        }
+        this.ndjson = result.toString().getBytes();
+    }
+
+    @Benchmark
+    public double fullRead() throws IOException {
+        double result = 0.0;
+        ObjectValueReader reader = new ObjectValueReader();
+        try(JsonParser parser = this.jsonFactory.createParser(this.ndjson)) {
+            while(parser.nextToken() != null) {
+                ObjectValue value = reader.read(parser);
+                for (PropertyValue.Value b : value.property("a").single().objectValue().property("b").multiple()) {
+                    result += b.objectValue().property("c").single().primitiveDoubleValue();
+                }
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int projectedRead() throws IOException {
+        int result = 0;
+        ProjectedObjectValueReader reader = new ProjectedObjectValueReader(this.projection);
+        try(JsonParser parser = this.jsonFactory.createParser(this.ndjson)) {
+            while(parser.nextToken() != null) {
+                result += reader.read(parser).propertyNameList().size();
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double cursor() throws IOException {
+        double result = 0.0;
+        try(JsonParser parser = this.jsonFactory.createParser(this.ndjson)) {
+            ValCursor cursor = new ValCursor(parser, this.projection);
+            while(cursor.next()) {
+                result += cursor.doubleValue();
+            }
+        }
+        return result;
+    }
+}
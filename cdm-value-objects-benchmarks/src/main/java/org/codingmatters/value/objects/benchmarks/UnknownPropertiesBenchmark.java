@@ -0,0 +1,126 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.codingmatters.value.objects.benchmarks.flat.Flat;
+import org.codingmatters.value.objects.benchmarks.flat.json.FlatReader;
+import org.codingmatters.value.objects.benchmarks.flat.json.FlatWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.codingmatters.value.objects.benchmarks.Fixtures.JSON_FACTORY;
+
+/**
+ * Reads flat values from documents where 90% of the properties are unknown to the reader : nested objects, arrays and
+ * scalars. skipByDepthCount and skipChildren compare the unknown property skipping strategies on the same documents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class UnknownPropertiesBenchmark {
+
+    private byte[] document;
+
+    private final FlatReader reader = new FlatReader();
+
+    @Setup
+    public void setup() {
+        Flat flat = Fixtures.flat();
+        this.document = Fixtures.json(generator -> {
+            generator.writeStartObject();
+            for (int i = 0; i < 30; i++) {
+                generator.writeFieldName("unknown-object-" + i);
+                this.writeNested(generator, 3);
+                generator.writeFieldName("unknown-array-" + i);
+                generator.writeStartArray();
+                for (int j = 0; j < 5; j++) {
+                    generator.writeNumber(j);
+                    generator.writeString("element " + j);
+                }
+                generator.writeEndArray();
+                generator.writeStringField("unknown-string-" + i, "unknown value " + i);
+                if(i < 10) {
+                    this.writeKnownProperty(generator, flat, i);
+                }
+            }
+            generator.writeEndObject();
+        });
+    }
+
+    private void writeNested(JsonGenerator generator, int depth) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", "level " + depth);
+        generator.writeNumberField("value", depth);
+        if(depth > 0) {
+            generator.writeFieldName("nested");
+            this.writeNested(generator, depth - 1);
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeKnownProperty(JsonGenerator generator, Flat flat, int index) throws IOException {
+        switch (index) {
+            case 0: generator.writeStringField("id", flat.id()); break;
+            case 1: generator.writeStringField("name", flat.name()); break;
+            case 2: generator.writeStringField("description", flat.description()); break;
+            case 3: generator.writeStringField("category", flat.category()); break;
+            case 4: generator.writeNumberField("count", flat.count()); break;
+            case 5: generator.writeNumberField("total", flat.total()); break;
+            case 6: generator.writeNumberField("ratio", flat.ratio()); break;
+            case 7: generator.writeNumberField("score", flat.score()); break;
+            case 8: generator.writeBooleanField("active", flat.active()); break;
+            case 9: generator.writeBooleanField("archived", flat.archived()); break;
+        }
+    }
+
+    @Benchmark
+    public Flat generatedReader() throws IOException {
+        try(JsonParser parser = JSON_FACTORY.createParser(this.document)) {
+            return this.reader.read(parser);
+        }
+    }
+
+    @Benchmark
+    public int skipByDepthCount() throws IOException {
+        int fields = 0;
+        try(JsonParser parser = JSON_FACTORY.createParser(this.document)) {
+            parser.nextToken();
+            while (parser.nextToken() != JsonToken.END_OBJECT) {
+                fields++;
+                parser.nextToken();
+                if(parser.currentToken().isStructStart()) {
+                    int level = 1;
+                    do {
+                        parser.nextToken();
+                        if (parser.currentToken().isStructStart()) {
+                            level++;
+                        } if (parser.currentToken().isStructEnd()) {
+                            level--;
+                        }
+                    } while(level > 0);
+                }
+            }
+        }
+        return fields;
+    }
+
+    @Benchmark
+    public int skipChildren() throws IOException {
+        int fields = 0;
+        try(JsonParser parser = JSON_FACTORY.createParser(this.document)) {
+            parser.nextToken();
+            while (parser.nextToken() != JsonToken.END_OBJECT) {
+                fields++;
+                parser.nextToken();
+                parser.skipChildren();
+            }
+        }
+        return fields;
+    }
+}
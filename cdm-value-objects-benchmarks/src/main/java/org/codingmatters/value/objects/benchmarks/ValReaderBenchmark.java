@@ -0,0 +1,63 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.codingmatters.value.objects.values.vals.Val;
+import org.codingmatters.value.objects.values.vals.json.ValReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads numeric heavy documents : an array of objects holding longs, decimals and exponent notation doubles.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ValReaderBenchmark {
+
+    @Param({"1000"})
+    public int elementCount;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private byte[] longs;
+    private byte[] doubles;
+
+    @Setup
+    public void setup() {
+        StringBuilder longs = new StringBuilder("[");
+        StringBuilder doubles = new StringBuilder("[");
+        for (int i = 0; i < this.elementCount; i++) {
+            longs.append(i > 0 ? "," : "")
+                    .append("{\"id\":").append(i)
+                    .append(",\"count\":").append(i * 31L)
+                    .append(",\"total\":").append(i * 1234567L)
+                    .append(",\"values\":[").append(i).append(",").append(-i).append(",").append(i * 7).append("]}");
+            doubles.append(i > 0 ? "," : "")
+                    .append("{\"id\":").append(i)
+                    .append(",\"ratio\":").append(i / 7.0)
+                    .append(",\"amount\":").append(i * 100.25)
+                    .append(",\"values\":[").append(i + 0.5).append(",").append(i).append(".5e3,").append(-i / 3.0).append("]}");
+        }
+        this.longs = longs.append("]").toString().getBytes();
+        this.doubles = doubles.append("]").toString().getBytes();
+    }
+
+    @Benchmark
+    public Val readLongs() throws IOException {
+        try(JsonParser parser = this.jsonFactory.createParser(this.longs)) {
+            return new ValReader().read(parser);
+        }
+    }
+
+    @Benchmark
+    public Val readDoubles() throws IOException {
+        try(JsonParser parser = this.jsonFactory.createParser(this.doubles)) {
+            return new ValReader().read(parser);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.codingmatters.value.objects.benchmarks;
+
+import org.codingmatters.value.objects.benchmarks.deep.Deep;
+import org.codingmatters.value.objects.benchmarks.enums.Enums;
+import org.codingmatters.value.objects.benchmarks.flat.Flat;
+import org.codingmatters.value.objects.benchmarks.lists.Lists;
+import org.codingmatters.value.objects.benchmarks.temporals.Temporals;
+import org.codingmatters.value.objects.benchmarks.wide.Wide;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class WitherBenchmark {
+
+    @Param({"10", "1000"})
+    public int listSize;
+
+    private Flat flat;
+    private Deep deep;
+    private Lists lists;
+    private Enums enums;
+    private Temporals temporals;
+    private Wide wide;
+
+    private final LocalDateTime updated = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+    @Setup
+    public void setup() {
+        this.flat = Fixtures.flat();
+        this.deep = Fixtures.deep();
+        this.lists = Fixtures.lists(this.listSize);
+        this.enums = Fixtures.enums();
+        this.temporals = Fixtures.temporals();
+        this.wide = Fixtures.wide();
+    }
+
+    @Benchmark
+    public Flat flatWithName() {
+        return this.flat.withName("changed");
+    }
+
+    @Benchmark
+    public Deep deepWithId() {
+        return this.deep.withId("changed");
+    }
+
+    @Benchmark
+    public Deep deepWithChangedLevel1() {
+        return this.deep.withChangedLevel1(level1 -> level1.name("changed"));
+    }
+
+    @Benchmark
+    public Lists listsWithNames() {
+        return this.lists.withNames(this.lists.names());
+    }
+
+    @Benchmark
+    public Enums enumsWithStatus() {
+        return this.enums.withStatus(Enums.Status.SUCCEEDED);
+    }
+
+    @Benchmark
+    public Temporals temporalsWithUpdated() {
+        return this.temporals.withUpdated(this.updated);
+    }
+
+    @Benchmark
+    public Wide wideWithAmount() {
+        return this.wide.withAmount10(42L);
+    }
+
+    @Benchmark
+    public Wide wideThroughBuilder() {
+        return Wide.from(this.wide).amount10(42L).build();
+    }
+
+    @Benchmark
+    public Wide wideChanged() {
+        return this.wide.changed(builder -> builder.amount10(42L).flag10(true).text10("changed"));
+    }
+
+    @Benchmark
+    public Wide wideChangedThroughFrom() {
+        return Wide.from(this.wide).amount10(42L).flag10(true).text10("changed").build();
+    }
+}
@@ -0,0 +1,48 @@
+package org.codingmatters.value.objects.demo;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.codingmatters.value.objects.demo.json.ValueWithBinaryReader;
+import org.codingmatters.value.objects.demo.json.ValueWithBinaryWriter;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class BinarySerializationFormatsTest {
+
+    static private final ValueWithBinary VALUE = ValueWithBinary.builder()
+            .binary(new byte[]{0, 1, 2, 127, -128, -1})
+            .build();
+
+    @Test
+    public void givenUsingJsonFactory__whenSerializingThenDeserializing__thenBinaryIsBase64() throws Exception {
+        assertThat(this.roundTrip(VALUE, new JsonFactory()), is(VALUE));
+    }
+
+    @Test
+    public void givenUsingCborFactory__whenSerializingThenDeserializing__thenBinaryIsNative() throws Exception {
+        assertThat(this.roundTrip(VALUE, new CBORFactory()), is(VALUE));
+    }
+
+    @Test
+    public void givenUsingSmileFactory__whenSerializingThenDeserializing__thenBinaryIsNative() throws Exception {
+        assertThat(this.roundTrip(VALUE, new SmileFactory()), is(VALUE));
+    }
+
+    private ValueWithBinary roundTrip(ValueWithBinary value, JsonFactory factory) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(JsonGenerator generator = factory.createGenerator(out)) {
+            new ValueWithBinaryWriter().write(generator, value);
+        }
+        try(JsonParser parser = factory.createParser(out.toByteArray())) {
+            return new ValueWithBinaryReader().read(parser);
+        }
+    }
+}
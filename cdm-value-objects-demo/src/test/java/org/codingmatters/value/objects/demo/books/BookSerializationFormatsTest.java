@@ -6,6 +6,8 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.fasterxml.jackson.dataformat.ion.IonFactory;
 import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.codingmatters.value.objects.demo.books.binary.BookBinaryReader;
+import org.codingmatters.value.objects.demo.books.binary.BookBinaryWriter;
 import org.codingmatters.value.objects.demo.books.json.BookReader;
 import org.codingmatters.value.objects.demo.books.json.BookWriter;
 import org.codingmatters.value.objects.demo.books.review.ReviewRating;
@@ -14,14 +16,14 @@ import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.io.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import static org.codingmatters.value.objects.demo.books.BookTest.ENGLISH_DATE_FORMATTER;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 
 public class BookSerializationFormatsTest {
 
@@ -67,12 +69,14 @@ public class BookSerializationFormatsTest {
         byte[] cborBytes = this.serializeBookWith(CLEAN_CODE, this.cborFactory);
         byte[] ionBytes = this.serializeBookWith(CLEAN_CODE, this.ionFactory);
         byte[] smileBytes = this.serializeBookWith(CLEAN_CODE, this.smileFactory);
+        byte[] binaryBytes = this.serializeBookWithBinaryCodec(CLEAN_CODE);
 
         System.out.println("JSON size : " + jsonBytes.length);
 
         System.out.printf("CBOR   size : %8d bytes - %5.2f %%%n", cborBytes.length, this.percentage(jsonBytes.length, cborBytes.length));
         System.out.printf("ION    size : %8d bytes - %5.2f %%%n", cborBytes.length, this.percentage(jsonBytes.length, ionBytes.length));
         System.out.printf("SMILE  size : %8d bytes - %5.2f %%%n", cborBytes.length, this.percentage(jsonBytes.length, smileBytes.length));
+        System.out.printf("BINARY size : %8d bytes - %5.2f %%%n", binaryBytes.length, this.percentage(jsonBytes.length, binaryBytes.length));
     }
 
     @Test
@@ -99,6 +103,23 @@ public class BookSerializationFormatsTest {
         );
     }
 
+    @Test
+    public void givenUsingGeneratedBinaryCodec__whenSerializingThenDeserializing__thenIdempotent() throws Exception {
+        byte[] bytes = this.serializeBookWithBinaryCodec(CLEAN_CODE);
+
+        try(DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            assertThat(new BookBinaryReader().read(in), is(CLEAN_CODE));
+        }
+    }
+
+    @Test
+    public void givenUsingGeneratedBinaryCodec__whenSerializing__thenSmallerThanSmile() throws Exception {
+        assertThat(
+                this.serializeBookWithBinaryCodec(CLEAN_CODE).length,
+                is(lessThan(this.serializeBookWith(CLEAN_CODE, this.smileFactory).length))
+        );
+    }
+
     private double percentage(double reference, double length) {
         return 100 * (1 - length / reference);
     }
@@ -113,6 +134,14 @@ public class BookSerializationFormatsTest {
         return cborBytes;
     }
 
+    private byte[] serializeBookWithBinaryCodec(Book book) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(DataOutputStream data = new DataOutputStream(out)) {
+            new BookBinaryWriter().write(data, book);
+        }
+        return out.toByteArray();
+    }
+
     private Book deserialiseBookWith(byte[] bytes, JsonFactory factory) throws IOException {
         try(JsonParser parser = factory.createParser(bytes)) {
             return new BookReader().read(parser);
@@ -192,6 +192,33 @@ public class BookTest {
         assertThat(changed.author(), is(Person.builder().name("Arthur Miller").email("arthur@miller.com").build()));
     }
 
+    @Test
+    public void changedUnsetNestedProperty() throws Exception {
+        Book book = Book.builder().name("Death of a Salesman").build();
+
+        Book changed = book.withChangedAuthor(author -> author.name("Arthur Miller"));
+
+        assertThat(changed.author(), is(Person.builder().name("Arthur Miller").build()));
+        assertThat(changed.name(), is("Death of a Salesman"));
+    }
+
+    @Test
+    public void bulkChangeSharesUnchangedProperties() throws Exception {
+        Book book = Book.builder()
+                .name("Death of a Salesman")
+                .author(author -> author.name("Arthur Miller"))
+                .reviews(reviews -> reviews.reviewBody("very good"))
+                .build();
+
+        Book changed = book.changed(builder -> builder.isbn("978-0140481341").numberOfPages(144));
+
+        assertThat(changed.isbn(), is("978-0140481341"));
+        assertThat(changed.numberOfPages(), is(144));
+        assertThat(changed.author(), is(sameInstance(book.author())));
+        assertThat(changed.reviews(), is(sameInstance(book.reviews())));
+        assertThat(book.isbn(), is(nullValue()));
+    }
+
     @Test
     public void withNestedPropertyLambda() throws Exception {
         Book book = Book.builder()
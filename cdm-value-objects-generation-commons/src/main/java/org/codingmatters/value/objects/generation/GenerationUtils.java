@@ -5,6 +5,16 @@ import com.squareup.javapoet.TypeSpec;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 /**
  * Created by nelt on 3/30/17.
@@ -16,9 +26,80 @@ public class GenerationUtils {
 
     static public void writeJavaFile(File packageDestination, String pack, TypeSpec type) throws IOException {
         JavaFile file = JavaFile.builder(pack, type).build();
-        file.writeTo(packageDestination);
+        writeIfChanged(packageDestination, file);
         if(System.getProperty("spec.code.generator.debug", "false").equals("true")) {
             file.writeTo(System.out);
         }
     }
+
+    /**
+     * Unchanged files are left untouched so that their timestamps don't trigger downstream recompilation.
+     */
+    static private void writeIfChanged(File directory, JavaFile file) throws IOException {
+        Path output = directory.toPath();
+        if (! file.packageName.isEmpty()) {
+            for (String packageComponent : file.packageName.split("\\.")) {
+                output = output.resolve(packageComponent);
+            }
+        }
+        Files.createDirectories(output);
+        output = output.resolve(file.typeSpec.name + ".java");
+
+        byte[] content = file.toString().getBytes(StandardCharsets.UTF_8);
+        if(Files.exists(output) && Files.size(output) == content.length && Arrays.equals(Files.readAllBytes(output), content)) {
+            return;
+        }
+        Files.write(output, content);
+    }
+
+    @FunctionalInterface
+    public interface Generation<T> {
+        void generate(T item) throws IOException;
+    }
+
+    /**
+     * Runs the generation for each item, on a dedicated fork join pool when parallelism is greater than 1.
+     * Items must generate distinct files.
+     */
+    static public <T> void generateAll(List<T> items, int parallelism, Generation<T> generation) throws IOException {
+        if(parallelism <= 1 || items.size() <= 1) {
+            for (T item : items) {
+                generation.generate(item);
+            }
+            return;
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>(items.size());
+        for (T item : items) {
+            tasks.add(() -> {
+                generation.generate(item);
+                return null;
+            });
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("generation interrupted", e);
+        } catch (ExecutionException e) {
+            // fork join tasks wrap checked exceptions
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if(cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+            }
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if(e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IOException("generation failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package org.codingmatters.value.objects.generation;
+
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import org.codingmatters.value.objects.spec.PropertyCardinality;
+import org.codingmatters.value.objects.spec.PropertySpec;
+import org.codingmatters.value.objects.spec.TypeKind;
+
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Lists of long, int, double or boolean hinted with list:primitive are generated as LongValueList, IntValueList,
+ * DoubleValueList or BooleanValueList : ValueLists backed by a primitive array.
+ */
+public enum PrimitiveValueListType {
+    LONG(TypeName.LONG, Long.class, LongStream.class, LongPredicate.class),
+    INT(TypeName.INT, Integer.class, IntStream.class, IntPredicate.class),
+    DOUBLE(TypeName.DOUBLE, Double.class, DoubleStream.class, DoublePredicate.class),
+    BOOLEAN(TypeName.BOOLEAN, Boolean.class, null, null);
+
+    static public final String HINT = "list:primitive";
+
+    private final TypeName primitive;
+    private final Class<?> boxed;
+    private final Class<?> stream;
+    private final Class<?> predicate;
+
+    PrimitiveValueListType(TypeName primitive, Class<?> boxed, Class<?> stream, Class<?> predicate) {
+        this.primitive = primitive;
+        this.boxed = boxed;
+        this.stream = stream;
+        this.predicate = predicate;
+    }
+
+    static public PrimitiveValueListType forProperty(PropertySpec propertySpec) {
+        if(! PropertyCardinality.LIST.equals(propertySpec.typeSpec().cardinality())) return null;
+        if(! TypeKind.JAVA_TYPE.equals(propertySpec.typeSpec().typeKind())) return null;
+        if(! propertySpec.matchingHint(HINT).isPresent()) return null;
+        for (PrimitiveValueListType type : values()) {
+            if(type.boxed.getName().equals(propertySpec.typeSpec().typeRef())) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    public String accessorSuffix() {
+        return this.primitive.toString().substring(0, 1).toUpperCase() + this.primitive.toString().substring(1);
+    }
+
+    public String listName() {
+        return this.accessorSuffix() + "ValueList";
+    }
+
+    public String implementationName() {
+        return this.listName() + "Impl";
+    }
+
+    public TypeName primitive() {
+        return this.primitive;
+    }
+
+    public ArrayTypeName array() {
+        return ArrayTypeName.of(this.primitive);
+    }
+
+    public ClassName boxed() {
+        return ClassName.get(this.boxed);
+    }
+
+    public ClassName stream() {
+        return this.stream != null ? ClassName.get(this.stream) : null;
+    }
+
+    public String streamMethod() {
+        return this.stream != null ? this.primitive.toString() + "Stream" : null;
+    }
+
+    public TypeName predicate() {
+        return this.predicate != null ? ClassName.get(this.predicate) : ParameterizedTypeName.get(ClassName.get(Predicate.class), this.boxed());
+    }
+}
@@ -18,8 +18,10 @@ public class ValueCollectionConfiguration {
     private final ClassName valueSetImplementationType;
     private final ClassName valueSetBuilderType;
     private final ClassName valueSetChangerType;
+    private final String packageName;
 
     public ValueCollectionConfiguration(String packageName) {
+        this.packageName = packageName;
         this.valueListType = ClassName.get(packageName, "ValueList");
         this.optionalValueListType = ClassName.get(packageName + ".optional", "OptionalValueList");
         this.valueListImplementationType = ClassName.get(packageName, "ValueListImpl");
@@ -61,6 +63,14 @@ public class ValueCollectionConfiguration {
         return ParameterizedTypeName.get(this.valueListChangerType, type);
     }
 
+    public ClassName primitiveValueListType(PrimitiveValueListType type) {
+        return ClassName.get(this.packageName, type.listName());
+    }
+
+    public ClassName primitiveValueListImplType(PrimitiveValueListType type) {
+        return ClassName.get(this.packageName, type.implementationName());
+    }
+
     public ClassName valueSetType() {
         return valueSetType;
     }
@@ -46,7 +46,10 @@ public class ValueConfiguration {
 
     public TypeName propertyType(PropertySpec propertySpec) {
         TypeName singleType = this.propertySingleType(propertySpec);
-        if(propertySpec.typeSpec().cardinality().equals(PropertyCardinality.LIST)) {
+        PrimitiveValueListType primitiveList = this.primitiveValueList(propertySpec);
+        if(primitiveList != null) {
+            return this.collectionConfiguration.primitiveValueListType(primitiveList);
+        } else if(propertySpec.typeSpec().cardinality().equals(PropertyCardinality.LIST)) {
             return this.collectionConfiguration.valueListOfType(singleType);
         } else if(propertySpec.typeSpec().cardinality().equals(PropertyCardinality.SET)) {
             return this.collectionConfiguration.valueSetOfType(singleType);
@@ -55,6 +58,10 @@ public class ValueConfiguration {
         }
     }
 
+    public PrimitiveValueListType primitiveValueList(PropertySpec propertySpec) {
+        return PrimitiveValueListType.forProperty(propertySpec);
+    }
+
     public TypeName propertyOptionalType(PropertySpec propertySpec) {
         TypeName singleType = this.propertySingleType(propertySpec);
         if(propertySpec.typeSpec().cardinality().equals(PropertyCardinality.LIST)) {
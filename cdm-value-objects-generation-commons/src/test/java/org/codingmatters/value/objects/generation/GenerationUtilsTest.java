@@ -0,0 +1,60 @@
+package org.codingmatters.value.objects.generation;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class GenerationUtilsTest {
+
+    @Test
+    public void sequentialGeneration() throws Exception {
+        List<Integer> generated = new ArrayList<>();
+        GenerationUtils.generateAll(Arrays.asList(1, 2, 3), 1, generated::add);
+
+        assertThat(generated, contains(1, 2, 3));
+    }
+
+    @Test
+    public void parallelGeneration() throws Exception {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(i);
+        }
+        Set<Integer> generated = ConcurrentHashMap.newKeySet();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        GenerationUtils.generateAll(items, 4, item -> {
+            generated.add(item);
+            threads.add(Thread.currentThread().getName());
+        });
+
+        assertThat(generated, hasSize(100));
+        assertThat(threads, not(hasItem(Thread.currentThread().getName())));
+    }
+
+    @Test
+    public void parallelGenerationFailure() throws Exception {
+        try {
+            GenerationUtils.generateAll(Arrays.asList(1, 2, 3), 4, item -> {
+                if(item == 2) throw new IOException("failed generating " + item);
+            });
+            fail("should have failed");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("failed generating 2"));
+        }
+    }
+
+    @Test
+    public void emptyGeneration() throws Exception {
+        GenerationUtils.generateAll(Collections.<Integer>emptyList(), 4, item -> fail());
+    }
+}
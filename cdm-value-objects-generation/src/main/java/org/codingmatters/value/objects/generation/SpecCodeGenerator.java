@@ -11,7 +11,10 @@ import org.codingmatters.value.objects.spec.Spec;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
 
+import static org.codingmatters.value.objects.generation.GenerationUtils.generateAll;
 import static org.codingmatters.value.objects.generation.GenerationUtils.packageDir;
 import static org.codingmatters.value.objects.generation.GenerationUtils.writeJavaFile;
 import static org.codingmatters.value.objects.spec.PropertyCardinality.LIST;
@@ -26,11 +29,23 @@ public class SpecCodeGenerator {
     private final Spec spec;
     private final String rootPackage;
     private final File rootDirectory;
+    private final int parallelism;
+    private final boolean cachedHashCode;
 
     public SpecCodeGenerator(Spec spec, String rootPackage, File toDirectory) {
+        this(spec, rootPackage, toDirectory, 1);
+    }
+
+    public SpecCodeGenerator(Spec spec, String rootPackage, File toDirectory, int parallelism) {
+        this(spec, rootPackage, toDirectory, parallelism, false);
+    }
+
+    public SpecCodeGenerator(Spec spec, String rootPackage, File toDirectory, int parallelism, boolean cachedHashCode) {
         this.spec = spec;
         this.rootPackage = rootPackage;
         this.rootDirectory = toDirectory;
+        this.parallelism = parallelism;
+        this.cachedHashCode = cachedHashCode;
     }
 
     public void generate() throws IOException {
@@ -42,6 +57,12 @@ public class SpecCodeGenerator {
             writeJavaFile(packageDestination, this.rootPackage, new ValueListImplementation(this.rootPackage, valueListInterface).type());
             writeJavaFile(packageDestination, this.rootPackage + ".optional", new OptionalValueList(this.rootPackage, valueListInterface).type());
 
+            Set<PrimitiveValueListType> primitiveLists = EnumSet.noneOf(PrimitiveValueListType.class);
+            this.collectPrimitiveLists(this.spec, primitiveLists);
+            for (PrimitiveValueListType primitiveList : primitiveLists) {
+                writeJavaFile(packageDestination, this.rootPackage, new PrimitiveValueList(this.rootPackage, primitiveList).type());
+                writeJavaFile(packageDestination, this.rootPackage, new PrimitiveValueListImplementation(this.rootPackage, primitiveList).type());
+            }
         }
         if(this.hasPropertyWithCardinality(this.spec, SET)) {
             TypeSpec valueSetInterface = new ValueSet(this.rootPackage).type();
@@ -50,9 +71,7 @@ public class SpecCodeGenerator {
             writeJavaFile(packageDestination, this.rootPackage + ".optional", new OptionalValueSet(this.rootPackage, valueSetInterface).type());
         }
 
-        for (PackagedValueSpec valueSpec : new SpecPreprocessor(this.spec, this.rootPackage).packagedValueSpec()) {
-            this.generateValueTypesTo(valueSpec);
-        }
+        generateAll(new SpecPreprocessor(this.spec, this.rootPackage).packagedValueSpec(), this.parallelism, this::generateValueTypesTo);
     }
 
     private boolean hasPropertyWithCardinality(Spec spec, PropertyCardinality cardinality) {
@@ -78,16 +97,33 @@ public class SpecCodeGenerator {
         return false;
     }
 
+    private void collectPrimitiveLists(Spec spec, Set<PrimitiveValueListType> primitiveLists) {
+        for (PropertyHolderSpec valueSpec : spec.valueSpecs()) {
+            this.collectPrimitiveLists(valueSpec, primitiveLists);
+        }
+    }
+
+    private void collectPrimitiveLists(PropertyHolderSpec valueSpec, Set<PrimitiveValueListType> primitiveLists) {
+        for (PropertySpec propertySpec : valueSpec.propertySpecs()) {
+            PrimitiveValueListType primitiveList = PrimitiveValueListType.forProperty(propertySpec);
+            if(primitiveList != null) {
+                primitiveLists.add(primitiveList);
+            }
+            if(propertySpec.typeSpec().typeKind() == EMBEDDED) {
+                this.collectPrimitiveLists(propertySpec.typeSpec().embeddedValueSpec(), primitiveLists);
+            }
+        }
+    }
+
     private void generateValueTypesTo(PackagedValueSpec packagedValueSpec) throws IOException {
         File packageDestination = packageDir(this.rootDirectory, packagedValueSpec.packagename());
-        packageDestination.mkdirs();
 
         ValueConfiguration types = new ValueConfiguration(this.rootPackage, packagedValueSpec.packagename(), packagedValueSpec.valueSpec());
 
         TypeSpec valueInterface = new ValueInterface(types, packagedValueSpec.valueSpec().propertySpecs()).type();
         writeJavaFile(packageDestination, packagedValueSpec.packagename(), valueInterface);
 
-        TypeSpec valueImpl = new ValueImplementation(types, packagedValueSpec.valueSpec().propertySpecs()).type();
+        TypeSpec valueImpl = new ValueImplementation(types, packagedValueSpec.valueSpec().propertySpecs(), this.cachedHashCode).type();
         writeJavaFile(packageDestination, packagedValueSpec.packagename(), valueImpl);
 
         for (TypeSpec optionalType : new OptionalValue(types, packagedValueSpec.valueSpec().propertySpecs()).types()) {
@@ -132,6 +132,12 @@ public class ValueBuilder {
                         .addStatement("return this")
                         .build()
         );
+        PrimitiveValueListType primitiveList = this.types.primitiveValueList(propertySpec);
+        if(primitiveList != null) {
+            this.createPrimitiveListSetters(result, propertySpec, primitiveList);
+            return result;
+        }
+
         result.add(
                 MethodSpec.methodBuilder(propertySpec.name())
                         .varargs().addParameter(ArrayTypeName.of(this.types.propertySingleType(propertySpec)), propertySpec.name())
@@ -213,6 +219,43 @@ public class ValueBuilder {
         return result;
     }
 
+    private void createPrimitiveListSetters(List<MethodSpec> result, PropertySpec propertySpec, PrimitiveValueListType primitiveList) {
+        ClassName listType = this.types.collectionConfiguration().primitiveValueListType(primitiveList);
+        result.add(
+                MethodSpec.methodBuilder(propertySpec.name())
+                        .varargs().addParameter(primitiveList.array(), propertySpec.name())
+                        .returns(this.types.valueBuilderType())
+                        .addModifiers(PUBLIC)
+                        .addStatement("this.$N = $N != null ? $T.builder().with($N).build() : null",
+                                propertySpec.name(), propertySpec.name(), listType, propertySpec.name())
+                        .addStatement("return this")
+                        .build()
+        );
+        result.add(
+                MethodSpec.methodBuilder(propertySpec.name())
+                        .addParameter(listType, propertySpec.name())
+                        .returns(this.types.valueBuilderType())
+                        .addModifiers(PUBLIC)
+                        .addStatement("this.$N = $N", propertySpec.name(), propertySpec.name())
+                        .addStatement("return this")
+                        .build()
+        );
+        result.add(
+                MethodSpec.methodBuilder(propertySpec.name())
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Collection.class), primitiveList.boxed()), propertySpec.name())
+                        .returns(this.types.valueBuilderType())
+                        .addModifiers(PUBLIC)
+                        .beginControlFlow("try")
+                            .addStatement("this.$N = $N != null ? $T.builder().with($N).build() : null",
+                                    propertySpec.name(), propertySpec.name(), listType, propertySpec.name())
+                        .nextControlFlow("catch($T e)", IllegalArgumentException.class)
+                            .addStatement("throw new $T(e.getMessage() + $S, e)", IllegalArgumentException.class, " in " + propertySpec.name())
+                        .endControlFlow()
+                        .addStatement("return this")
+                        .build()
+        );
+    }
+
     private MethodSpec createBuildMethod() {
         String constructorParametersFormat = null;
         List<String> constructorParametersNames = new LinkedList<>();
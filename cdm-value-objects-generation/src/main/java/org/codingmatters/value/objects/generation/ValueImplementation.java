@@ -19,8 +19,13 @@ import static javax.lang.model.element.Modifier.*;
  */
 public class ValueImplementation {
 
+    private static final Set<String> CHEAP_EQUALITY_TYPES = new HashSet<>(Arrays.asList(
+            Integer.class.getName(), Long.class.getName(), Float.class.getName(), Double.class.getName(), Boolean.class.getName()
+    ));
+
     private final ValueConfiguration types;
     private final List<PropertySpec> propertySpecs;
+    private final boolean cachedHashCode;
 
     private final MethodSpec constructor;
     private final List<FieldSpec> fields;
@@ -35,8 +40,17 @@ public class ValueImplementation {
     private final FieldSpec localTimeTemporalFormatterField;
 
     public ValueImplementation(ValueConfiguration types, List<PropertySpec> propertySpecs) {
+        this(types, propertySpecs, false);
+    }
+
+    /**
+     * @param cachedHashCode when true, hash code is computed once and cached in the instance. Fields must not be mutated
+     *                       (byte arrays returned by getters, collections cast to their implementation).
+     */
+    public ValueImplementation(ValueConfiguration types, List<PropertySpec> propertySpecs, boolean cachedHashCode) {
         this.types = types;
         this.propertySpecs = propertySpecs;
+        this.cachedHashCode = cachedHashCode;
 
         this.constructor = this.createConstructor();
         this.fields = this.createFields();
@@ -53,13 +67,18 @@ public class ValueImplementation {
     }
 
     public TypeSpec type() {
-        return TypeSpec.classBuilder(this.types.valueImplType())
+        TypeSpec.Builder result = TypeSpec.classBuilder(this.types.valueImplType())
                 .addSuperinterface(this.types.valueType())
                 .addMethod(this.constructor)
-                .addFields(this.fields)
+                .addFields(this.fields);
+        if(this.cachedHashCode) {
+            result.addField(FieldSpec.builder(int.class, this.cachedHashCodeField(), PRIVATE).build());
+        }
+        return result
                 .addMethods(this.getters)
                 .addMethods(this.withers)
                 .addMethod(this.changedMethod)
+                .addMethod(this.createSeededBuilderMethod())
                 .addMethod(this.equalsMethod)
                 .addMethod(this.hashCodeMethod)
                 .addMethod(this.toStringMethod)
@@ -116,59 +135,130 @@ public class ValueImplementation {
             bindings.add(this.types.valueImplType());
             bindings.add(this.types.valueImplType());
 
-            statement += "return ";
-            boolean started = false;
-            for (PropertySpec propertySpec : propertySpecs) {
-                if(started) {
-                    statement += " && \n";
-                }
-                started = true;
-
-                statement += "$T.equals(this." + propertySpec.name() + ", that." + propertySpec.name() + ")";
-                if(this.isByteArrayType(propertySpec)) {
-                    bindings.add(ClassName.get(Arrays.class));
-                } else {
-                    bindings.add(ClassName.get(Objects.class));
-                }
+            if(this.cachedHashCode) {
+                String field = this.cachedHashCodeField();
+                statement += "if(this." + field + " != 0 && that." + field + " != 0 && this." + field + " != that." + field + ") return false;\n";
             }
 
+            statement += "return " + this.propertiesEquality("", bindings);
         } else {
             statement = "return true";
         }
 
+        List<Object> foreignBindings = new LinkedList<>();
+        foreignBindings.add(this.types.valueType());
+        foreignBindings.add(this.types.valueType());
+        String foreignStatement = "$T that = ($T) o;\nreturn " + (propertySpecs.size() > 0 ? this.propertiesEquality("()", foreignBindings) : "true");
+
         return MethodSpec.methodBuilder("equals")
                 .addModifiers(PUBLIC)
                 .addParameter(ClassName.bestGuess(Object.class.getName()), "o")
                 .returns(boolean.class)
                 .addAnnotation(ClassName.get(Override.class))
                 .addStatement("if (this == o) return true")
-                .addStatement("if (o == null || getClass() != o.getClass()) return false")
+                .addStatement("if (o == null) return false")
+                .beginControlFlow("if (getClass() != o.getClass())")
+                    .addStatement("if (! (o instanceof $T)) return false", this.types.valueType())
+                    .addStatement(foreignStatement, foreignBindings.toArray())
+                .endControlFlow()
                 .addStatement(statement, bindings.toArray())
                 .build();
     }
 
+    private String propertiesEquality(String thatAccessor, List<Object> bindings) {
+        String result = "";
+        boolean started = false;
+        for (PropertySpec propertySpec : this.propertySpecsByComparisonCost()) {
+            if(started) {
+                result += " && \n";
+            }
+            started = true;
+
+            result += "$T.equals(this." + propertySpec.name() + ", that." + propertySpec.name() + thatAccessor + ")";
+            if(this.isByteArrayType(propertySpec)) {
+                bindings.add(ClassName.get(Arrays.class));
+            } else {
+                bindings.add(ClassName.get(Objects.class));
+            }
+        }
+        return result;
+    }
+
+    private List<PropertySpec> propertySpecsByComparisonCost() {
+        List<PropertySpec> result = new ArrayList<>(this.propertySpecs);
+        result.sort(Comparator.comparingInt(this::comparisonCost));
+        return result;
+    }
+
+    private int comparisonCost(PropertySpec propertySpec) {
+        if(propertySpec.typeSpec().cardinality().isCollection()) {
+            return 3;
+        }
+        switch (propertySpec.typeSpec().typeKind()) {
+            case ENUM:
+                return 0;
+            case JAVA_TYPE:
+                if(this.isByteArrayType(propertySpec)) {
+                    return 2;
+                }
+                return CHEAP_EQUALITY_TYPES.contains(propertySpec.typeSpec().typeRef()) ? 0 : 1;
+            default:
+                return 3;
+        }
+    }
+
     private boolean isByteArrayType(PropertySpec propertySpec) {
         return propertySpec.typeSpec().typeKind().equals(TypeKind.JAVA_TYPE) && propertySpec.typeSpec().typeRef().equals(byte[].class.getName());
     }
 
     private MethodSpec createHashCode() {
+        CodeBlock.Builder computation = CodeBlock.builder();
+        for (PropertySpec propertySpec : propertySpecs) {
+            computation.addStatement("result = 31 * result + $T.hashCode(this.$N)",
+                    this.isByteArrayType(propertySpec) ? Arrays.class : Objects.class,
+                    propertySpec.name()
+            );
+        }
 
-        String statement = propertySpecs.stream()
-                .map(propertySpec -> "this." + propertySpec.name())
-                .collect(Collectors.joining(
-                        ", ",
-                        "return $T.deepHashCode(new $T[]{",
-                        "})"
-                ));
-
-        return MethodSpec.methodBuilder("hashCode")
+        MethodSpec.Builder result = MethodSpec.methodBuilder("hashCode")
                 .addModifiers(PUBLIC)
                 .returns(int.class)
-                .addAnnotation(ClassName.get(Override.class))
-                .addStatement(statement, Arrays.class, Object.class)
+                .addAnnotation(ClassName.get(Override.class));
+        if(this.cachedHashCode) {
+            result
+                    .addStatement("int result = this.$N", this.cachedHashCodeField())
+                    .beginControlFlow("if(result == 0)")
+                        .addStatement("result = 1")
+                        .addCode(computation.build())
+                        .addStatement("this.$N = result", this.cachedHashCodeField())
+                    .endControlFlow();
+        } else {
+            result
+                    .addStatement("int result = 1")
+                    .addCode(computation.build());
+        }
+        return result
+                .addStatement("return result")
                 .build();
     }
 
+    private String cachedHashCodeField() {
+        String result = "cachedHashCode";
+        while(this.hasProperty(result)) {
+            result = "_" + result;
+        }
+        return result;
+    }
+
+    private boolean hasProperty(String name) {
+        for (PropertySpec propertySpec : propertySpecs) {
+            if(propertySpec.name().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private MethodSpec createToString() {
         String statement =
                 propertySpecs.stream()
@@ -209,26 +299,46 @@ public class ValueImplementation {
                             .returns(this.types.valueType())
                             .addModifiers(PUBLIC)
                             .addParameter(this.types.propertyType(propertySpec), "value")
-                            .addStatement("return $T.from(this)." + propertySpec.name() + "(value).build()", this.types.valueType())
+                            .addStatement("return new $T($L)", this.types.valueImplType(), this.constructorArgumentsWith(propertySpec, CodeBlock.of("value")))
                             .build()
             );
             if(propertySpec.typeSpec().typeKind().isValueObject()) {
                 this.createChangedWithers(result, propertySpec);
             }
-            if(propertySpec.typeSpec().cardinality().isCollection()) {
+            if(this.types.primitiveValueList(propertySpec) != null) {
+                result.add(
+                        MethodSpec.methodBuilder(this.types.witherMethodName(propertySpec))
+                                .returns(this.types.valueType())
+                                .addModifiers(PUBLIC)
+                                .addParameter(ParameterizedTypeName.get(ClassName.get(Iterable.class), this.types.propertySingleType(propertySpec)), "values")
+                                .addStatement("$T list", this.types.propertyType(propertySpec))
+                                .beginControlFlow("try")
+                                    .addStatement("list = values != null ? $T.builder().with(values).build() : $T.builder().build()",
+                                            this.types.propertyType(propertySpec),
+                                            this.types.propertyType(propertySpec)
+                                    )
+                                .nextControlFlow("catch($T e)", IllegalArgumentException.class)
+                                    .addStatement("throw new $T(e.getMessage() + $S, e)", IllegalArgumentException.class, " in " + propertySpec.name())
+                                .endControlFlow()
+                                .addStatement("return new $T($L)", this.types.valueImplType(), this.constructorArgumentsWith(propertySpec, CodeBlock.of("list")))
+                                .build()
+                );
+            } else if(propertySpec.typeSpec().cardinality().isCollection()) {
                 result.add(
                         MethodSpec.methodBuilder(this.types.witherMethodName(propertySpec))
                                 .returns(this.types.valueType())
                                 .addModifiers(PUBLIC)
                                 .addParameter(ParameterizedTypeName.get(ClassName.get(Iterable.class), this.types.propertySingleType(propertySpec)), "values")
                                 .addStatement(
-                                        "return $T.from(this).$L(values != null ? $L.<$T>builder().with(values).build() : $L.<$T>builder().build()).build()",
-                                        this.types.valueType(),
-                                        propertySpec.name(),
-                                        propertySpec.typeSpec().cardinality().equals(PropertyCardinality.LIST) ? "ValueList" : "ValueSet",
-                                        this.types.propertySingleType(propertySpec),
-                                        propertySpec.typeSpec().cardinality().equals(PropertyCardinality.LIST) ? "ValueList" : "ValueSet",
-                                        this.types.propertySingleType(propertySpec)
+                                        "return new $T($L)",
+                                        this.types.valueImplType(),
+                                        this.constructorArgumentsWith(propertySpec, CodeBlock.of(
+                                                "values != null ? $L.<$T>builder().with(values).build() : $L.<$T>builder().build()",
+                                                propertySpec.typeSpec().cardinality().equals(PropertyCardinality.LIST) ? "ValueList" : "ValueSet",
+                                                this.types.propertySingleType(propertySpec),
+                                                propertySpec.typeSpec().cardinality().equals(PropertyCardinality.LIST) ? "ValueList" : "ValueSet",
+                                                this.types.propertySingleType(propertySpec)
+                                        ))
                                 )
                                 .build()
                 );
@@ -237,6 +347,23 @@ public class ValueImplementation {
         return result;
     }
 
+    private CodeBlock constructorArgumentsWith(PropertySpec changed, CodeBlock value) {
+        CodeBlock.Builder result = CodeBlock.builder();
+        boolean started = false;
+        for (PropertySpec propertySpec : this.propertySpecs) {
+            if(started) {
+                result.add(", ");
+            }
+            started = true;
+            if(propertySpec == changed) {
+                result.add(value);
+            } else {
+                result.add("this.$N", propertySpec.name());
+            }
+        }
+        return result.build();
+    }
+
     private void createChangedWithers(List<MethodSpec> result, PropertySpec propertySpec) {
         if(! propertySpec.typeSpec().cardinality().isCollection()) {
             result.add(
@@ -244,15 +371,12 @@ public class ValueImplementation {
                             .returns(this.types.valueType())
                             .addModifiers(PUBLIC)
                             .addParameter(this.types.valueObjectSingleType(propertySpec).nestedClass("Changer"), "changer")
-                            .addStatement("$T builder = $T.from(this)", this.types.valueType().nestedClass("Builder"), this.types.valueType())
-                            .addStatement("$T valueBuilder = $T.from(this.$L())",
-                                    this.types.valueObjectSingleType(propertySpec).nestedClass("Builder"),
-                                    this.types.valueObjectSingleType(propertySpec),
-                                    propertySpec.name()
+                            .addStatement("return this.$L(this.$N != null ? this.$N.changed(changer) : changer.configure($T.builder()).build())",
+                                    this.types.witherMethodName(propertySpec),
+                                    propertySpec.name(),
+                                    propertySpec.name(),
+                                    this.types.valueObjectSingleType(propertySpec)
                             )
-                            .addStatement("changer.configure(valueBuilder)")
-                            .addStatement("builder.$L(valueBuilder.build())", propertySpec.name())
-                            .addStatement("return builder.build()")
                             .build()
             );
             result.add(MethodSpec.methodBuilder(this.types.fromWitherMethodName(propertySpec))
@@ -313,7 +437,19 @@ public class ValueImplementation {
                 .addModifiers(PUBLIC)
                 .addParameter(this.types.valueChangerType(), "changer")
                 .returns(this.types.valueType())
-                .addStatement("return changer.configure($T.from(this)).build()", this.types.valueType())
+                .addStatement("return changer.configure(this.seededBuilder()).build()")
+                .build();
+    }
+
+    private MethodSpec createSeededBuilderMethod() {
+        CodeBlock.Builder setters = CodeBlock.builder();
+        for (PropertySpec propertySpec : this.propertySpecs) {
+            setters.add("\n.$N(this.$N)", propertySpec.name(), propertySpec.name());
+        }
+        return MethodSpec.methodBuilder("seededBuilder")
+                .addModifiers(PRIVATE)
+                .returns(this.types.valueBuilderType())
+                .addStatement("return $T.builder()$L", this.types.valueType(), setters.build())
                 .build();
     }
 
@@ -3,14 +3,18 @@ package org.codingmatters.value.objects.generation.collection;
 import com.squareup.javapoet.*;
 
 import javax.lang.model.element.Modifier;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * Created by nelt on 4/3/17.
+ *
+ * The generated builder shares the array of the collection it starts from, and hands its array over to the
+ * collections it builds. Appending to a shared array first claims the slots past size : only the first builder
+ * appending after a given size writes in place, the others copy the array.
  */
 public class CollectionBuilder {
     private final ClassName valueCollectionInterface;
@@ -22,46 +26,122 @@ public class CollectionBuilder {
     }
 
     public TypeSpec type() {
+        TypeVariableName e = TypeVariableName.get("E");
+        ParameterizedTypeName builderType = ParameterizedTypeName.get(this.valueCollectionInterface.nestedClass("Builder"), e);
+        ParameterizedTypeName implType = ParameterizedTypeName.get(this.valueCollectionImpl, e);
+
         return TypeSpec.classBuilder("Builder")
-                .addTypeVariable(TypeVariableName.get("E"))
+                .addTypeVariable(e)
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
-                .addField(FieldSpec.builder(
-                        ParameterizedTypeName.get(ClassName.get(LinkedList.class), TypeVariableName.get("E")),
-                        "delegate", Modifier.PRIVATE, Modifier.FINAL)
-                        .initializer("new $T<>()", LinkedList.class)
+                .addField(FieldSpec.builder(Object[].class, "elements", Modifier.PRIVATE)
+                        .initializer("new Object[0]")
+                        .build())
+                .addField(FieldSpec.builder(TypeName.INT, "size", Modifier.PRIVATE)
+                        .initializer("0")
+                        .build())
+                .addField(FieldSpec.builder(AtomicInteger.class, "claimed", Modifier.PRIVATE)
+                        .initializer("null")
+                        .build())
+                .addField(FieldSpec.builder(implType, "built", Modifier.PRIVATE)
+                        .initializer("null")
                         .build())
                 .addMethod(MethodSpec.methodBuilder("build")
                         .addModifiers(Modifier.PUBLIC)
-                        .returns(ParameterizedTypeName.get(valueCollectionInterface, TypeVariableName.get("E")))
-                        .addStatement("return new $T<>(this.delegate)", valueCollectionImpl)
+                        .returns(ParameterizedTypeName.get(valueCollectionInterface, e))
+                        .beginControlFlow("if(this.built == null)")
+                            .addStatement("this.built = new $T<>(this.elements, this.size, this.claimed)", this.valueCollectionImpl)
+                            .beginControlFlow("if(this.built.elements == this.elements)")
+                                .addStatement("this.claimed = this.built.claimed")
+                            .endControlFlow()
+                        .endControlFlow()
+                        .addStatement("return this.built")
                         .build())
 
                 .addMethod(MethodSpec.methodBuilder("with")
                         .addModifiers(Modifier.PUBLIC)
-                        .varargs().addParameter(ArrayTypeName.of(TypeVariableName.get("E")), "elements")
-                        .returns(ParameterizedTypeName.get(this.valueCollectionInterface.nestedClass("Builder"), TypeVariableName.get("E")))
-                        .addStatement("if(elements != null) {this.delegate.addAll($T.asList(elements));}", Arrays.class)
+                        .varargs().addParameter(ArrayTypeName.of(e), "elements")
+                        .returns(builderType)
+                        .addStatement("if(elements != null) {this.append(elements);}")
                         .addStatement("return this")
                         .build())
                 .addMethod(MethodSpec.methodBuilder("with")
                         .addModifiers(Modifier.PUBLIC)
-                        .addParameter(ParameterizedTypeName.get(ClassName.get(Iterable.class), TypeVariableName.get("E")), "elements")
-                        .returns(ParameterizedTypeName.get(this.valueCollectionInterface.nestedClass("Builder"), TypeVariableName.get("E")))
-                        .addStatement("if(elements != null) {elements.forEach(e -> this.delegate.add(e));}")
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Iterable.class), e), "elements")
+                        .returns(builderType)
+                        .beginControlFlow("if(elements instanceof $T && this.size == 0)", this.valueCollectionImpl)
+                            .addStatement("this.built = ($T) elements", implType)
+                            .addStatement("this.elements = this.built.elements")
+                            .addStatement("this.size = this.built.size")
+                            .addStatement("this.claimed = this.built.claimed")
+                        .nextControlFlow("else if(elements instanceof $T)", Collection.class)
+                            .addStatement("this.adopt((($T<E>) elements).toArray())", Collection.class)
+                        .nextControlFlow("else if(elements != null)")
+                            .addStatement("$T<E> collected = new $T<>()", List.class, ArrayList.class)
+                            .addStatement("elements.forEach(collected::add)")
+                            .addStatement("this.adopt(collected.toArray())")
+                        .endControlFlow()
                         .addStatement("return this")
                         .build())
                 .addMethod(MethodSpec.methodBuilder("filtered")
                         .addModifiers(Modifier.PUBLIC)
-                        .addParameter(ParameterizedTypeName.get(ClassName.get(Predicate.class), TypeVariableName.get("E")), "predicate")
-                        .returns(ParameterizedTypeName.get(this.valueCollectionInterface.nestedClass("Builder"), TypeVariableName.get("E")))
-                        //.addStatement("return builder<E>().with(this.delegate.stream().filter(predicate).collect($T.toList()))", Collectors.class)
-                        .addStatement("$T<E> filteredContent = new $T<>(this.delegate.stream().filter(predicate).collect($T.toList()))",
-                                LinkedList.class, LinkedList.class, Collectors.class
-                        )
-                        .addStatement("this.delegate.clear()")
-                        .addStatement("this.delegate.addAll(filteredContent)")
+                        .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                                .addMember("value", "$S", "unchecked")
+                                .build())
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Predicate.class), e), "predicate")
+                        .returns(builderType)
+                        .addStatement("Object[] kept = new Object[this.size]")
+                        .addStatement("int count = 0")
+                        .beginControlFlow("for (int i = 0; i < this.size; i++)")
+                            .beginControlFlow("if(predicate.test((E) this.elements[i]))")
+                                .addStatement("kept[count++] = this.elements[i]")
+                            .endControlFlow()
+                        .endControlFlow()
+                        .beginControlFlow("if(count < this.size)")
+                            .addStatement("this.elements = kept")
+                            .addStatement("this.size = count")
+                            .addStatement("this.claimed = null")
+                            .addStatement("this.built = null")
+                        .endControlFlow()
                         .addStatement("return this")
                         .build())
+                .addMethod(MethodSpec.methodBuilder("adopt")
+                        .addModifiers(Modifier.PRIVATE)
+                        .addParameter(Object[].class, "added")
+                        .beginControlFlow("if(this.size == 0 && added.getClass() == Object[].class)")
+                            .addStatement("this.elements = added")
+                            .addStatement("this.size = added.length")
+                            .addStatement("this.claimed = null")
+                            .addStatement("this.built = null")
+                        .nextControlFlow("else")
+                            .addStatement("this.append(added)")
+                        .endControlFlow()
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("append")
+                        .addModifiers(Modifier.PRIVATE)
+                        .addParameter(Object[].class, "added")
+                        .beginControlFlow("if(added.length == 0)")
+                            .addStatement("return")
+                        .endControlFlow()
+                        .addStatement("int required = this.size + added.length")
+                        .beginControlFlow("if(this.claimed != null)")
+                            .beginControlFlow("if(required > this.elements.length || ! this.claimed.compareAndSet(this.size, required))")
+                                .addStatement("this.grow(required)")
+                                .addStatement("this.claimed = null")
+                            .endControlFlow()
+                        .nextControlFlow("else if(required > this.elements.length)")
+                            .addStatement("this.grow(required)")
+                        .endControlFlow()
+                        .addStatement("$T.arraycopy(added, 0, this.elements, this.size, added.length)", System.class)
+                        .addStatement("this.size = required")
+                        .addStatement("this.built = null")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("grow")
+                        .addModifiers(Modifier.PRIVATE)
+                        .addParameter(TypeName.INT, "required")
+                        .addStatement("Object[] grown = new Object[$T.max($T.max(required, 10), this.size + (this.size >> 1))]", Math.class, Math.class)
+                        .addStatement("$T.arraycopy(this.elements, 0, grown, 0, this.size)", System.class)
+                        .addStatement("this.elements = grown")
+                        .build())
                 .build();
     }
 }
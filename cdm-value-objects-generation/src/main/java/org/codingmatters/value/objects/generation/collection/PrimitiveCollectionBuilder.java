@@ -0,0 +1,137 @@
+package org.codingmatters.value.objects.generation.collection;
+
+import com.squareup.javapoet.*;
+import org.codingmatters.value.objects.generation.PrimitiveValueListType;
+
+import javax.lang.model.element.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builder of the primitive lists, with the same array sharing and slot claiming as {@link CollectionBuilder}, on a
+ * primitive array.
+ */
+public class PrimitiveCollectionBuilder {
+    private final ClassName valueCollectionInterface;
+    private final ClassName valueCollectionImpl;
+    private final PrimitiveValueListType primitiveType;
+
+    public PrimitiveCollectionBuilder(ClassName valueCollectionInterface, ClassName valueCollectionImpl, PrimitiveValueListType primitiveType) {
+        this.valueCollectionInterface = valueCollectionInterface;
+        this.valueCollectionImpl = valueCollectionImpl;
+        this.primitiveType = primitiveType;
+    }
+
+    public TypeSpec type() {
+        ClassName builderType = this.valueCollectionInterface.nestedClass("Builder");
+        ArrayTypeName arrayType = this.primitiveType.array();
+
+        return TypeSpec.classBuilder("Builder")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addField(FieldSpec.builder(arrayType, "elements", Modifier.PRIVATE)
+                        .initializer("new $T[0]", this.primitiveType.primitive())
+                        .build())
+                .addField(FieldSpec.builder(TypeName.INT, "size", Modifier.PRIVATE)
+                        .initializer("0")
+                        .build())
+                .addField(FieldSpec.builder(AtomicInteger.class, "claimed", Modifier.PRIVATE)
+                        .initializer("null")
+                        .build())
+                .addField(FieldSpec.builder(this.valueCollectionImpl, "built", Modifier.PRIVATE)
+                        .initializer("null")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("build")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(this.valueCollectionInterface)
+                        .beginControlFlow("if(this.built == null)")
+                            .addStatement("this.built = new $T(this.elements, this.size, this.claimed)", this.valueCollectionImpl)
+                            .addStatement("this.claimed = this.built.claimed")
+                        .endControlFlow()
+                        .addStatement("return this.built")
+                        .build())
+
+                .addMethod(MethodSpec.methodBuilder("with")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(this.primitiveType.primitive(), "element")
+                        .returns(builderType)
+                        .addStatement("this.reserve(1)")
+                        .addStatement("this.elements[this.size++] = element")
+                        .addStatement("this.built = null")
+                        .addStatement("return this")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("with")
+                        .addModifiers(Modifier.PUBLIC)
+                        .varargs().addParameter(arrayType, "elements")
+                        .returns(builderType)
+                        .beginControlFlow("if(elements != null && elements.length > 0)")
+                            .addStatement("this.reserve(elements.length)")
+                            .addStatement("$T.arraycopy(elements, 0, this.elements, this.size, elements.length)", System.class)
+                            .addStatement("this.size += elements.length")
+                            .addStatement("this.built = null")
+                        .endControlFlow()
+                        .addStatement("return this")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("with")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Iterable.class), this.primitiveType.boxed()), "elements")
+                        .returns(builderType)
+                        .beginControlFlow("if(elements instanceof $T && this.size == 0)", this.valueCollectionImpl)
+                            .addStatement("this.built = ($T) elements", this.valueCollectionImpl)
+                            .addStatement("this.elements = this.built.elements")
+                            .addStatement("this.size = this.built.size")
+                            .addStatement("this.claimed = this.built.claimed")
+                        .nextControlFlow("else if(elements instanceof $T)", this.valueCollectionInterface)
+                            .addStatement("this.with((($T) elements).to$LArray())", this.valueCollectionInterface, this.primitiveType.accessorSuffix())
+                        .nextControlFlow("else if(elements != null)")
+                            .addStatement("int index = 0")
+                            .beginControlFlow("for ($T element : elements)", this.primitiveType.boxed())
+                                .beginControlFlow("if(element == null)")
+                                    .addStatement("throw new $T($S + index)", IllegalArgumentException.class, "null element at index ")
+                                .endControlFlow()
+                                .addStatement("this.with(element.$LValue())", this.primitiveType.primitive())
+                                .addStatement("index++")
+                            .endControlFlow()
+                        .endControlFlow()
+                        .addStatement("return this")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("filtered")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(this.primitiveType.predicate(), "predicate")
+                        .returns(builderType)
+                        .addStatement("$T kept = new $T[this.size]", arrayType, this.primitiveType.primitive())
+                        .addStatement("int count = 0")
+                        .beginControlFlow("for (int i = 0; i < this.size; i++)")
+                            .beginControlFlow("if(predicate.test(this.elements[i]))")
+                                .addStatement("kept[count++] = this.elements[i]")
+                            .endControlFlow()
+                        .endControlFlow()
+                        .beginControlFlow("if(count < this.size)")
+                            .addStatement("this.elements = kept")
+                            .addStatement("this.size = count")
+                            .addStatement("this.claimed = null")
+                            .addStatement("this.built = null")
+                        .endControlFlow()
+                        .addStatement("return this")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("reserve")
+                        .addModifiers(Modifier.PRIVATE)
+                        .addParameter(TypeName.INT, "count")
+                        .addStatement("int required = this.size + count")
+                        .beginControlFlow("if(this.claimed != null)")
+                            .beginControlFlow("if(required > this.elements.length || ! this.claimed.compareAndSet(this.size, required))")
+                                .addStatement("this.grow(required)")
+                                .addStatement("this.claimed = null")
+                            .endControlFlow()
+                        .nextControlFlow("else if(required > this.elements.length)")
+                            .addStatement("this.grow(required)")
+                        .endControlFlow()
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("grow")
+                        .addModifiers(Modifier.PRIVATE)
+                        .addParameter(TypeName.INT, "required")
+                        .addStatement("$T grown = new $T[$T.max($T.max(required, 10), this.size + (this.size >> 1))]", arrayType, this.primitiveType.primitive(), Math.class, Math.class)
+                        .addStatement("$T.arraycopy(this.elements, 0, grown, 0, this.size)", System.class)
+                        .addStatement("this.elements = grown")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package org.codingmatters.value.objects.generation.collection;
+
+import com.squareup.javapoet.*;
+import org.codingmatters.value.objects.generation.PrimitiveValueListType;
+
+import javax.lang.model.element.Modifier;
+
+/**
+ * The generated primitive list (LongValueList, IntValueList, ...) is a ValueList of the boxed type with primitive
+ * accessors, backed by a primitive array (see {@link PrimitiveValueListImplementation}).
+ */
+public class PrimitiveValueList {
+
+    private final String packageName;
+    private final PrimitiveValueListType primitiveType;
+
+    public PrimitiveValueList(String packageName, PrimitiveValueListType primitiveType) {
+        this.packageName = packageName;
+        this.primitiveType = primitiveType;
+    }
+
+    public TypeSpec type() {
+        ClassName listType = ClassName.get(this.packageName, this.primitiveType.listName());
+        ClassName builderType = listType.nestedClass("Builder");
+
+        TypeSpec.Builder result = TypeSpec.interfaceBuilder(listType)
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(this.packageName, "ValueList"), this.primitiveType.boxed()))
+                .addModifiers(Modifier.PUBLIC)
+                .addMethod(MethodSpec.methodBuilder("builder")
+                        .addModifiers(Modifier.STATIC, Modifier.PUBLIC)
+                        .returns(builderType)
+                        .addStatement("return new $T()", builderType)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("from")
+                        .addModifiers(Modifier.STATIC, Modifier.PUBLIC)
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Iterable.class), this.primitiveType.boxed()), "elements")
+                        .returns(builderType)
+                        .addStatement("return new $T().with(elements)", builderType)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("get" + this.primitiveType.accessorSuffix())
+                        .addModifiers(Modifier.ABSTRACT, Modifier.PUBLIC)
+                        .addParameter(TypeName.INT, "index")
+                        .returns(this.primitiveType.primitive())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("to" + this.primitiveType.accessorSuffix() + "Array")
+                        .addModifiers(Modifier.ABSTRACT, Modifier.PUBLIC)
+                        .returns(this.primitiveType.array())
+                        .build());
+        if(this.primitiveType.stream() != null) {
+            result.addMethod(MethodSpec.methodBuilder(this.primitiveType.streamMethod())
+                    .addModifiers(Modifier.ABSTRACT, Modifier.PUBLIC)
+                    .returns(this.primitiveType.stream())
+                    .build());
+        }
+        return result
+                .addType(new PrimitiveCollectionBuilder(
+                        listType,
+                        ClassName.get(this.packageName, this.primitiveType.implementationName()),
+                        this.primitiveType
+                        ).type()
+                )
+                .build();
+    }
+}
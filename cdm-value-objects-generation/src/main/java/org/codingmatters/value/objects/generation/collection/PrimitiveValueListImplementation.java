@@ -0,0 +1,169 @@
+package org.codingmatters.value.objects.generation.collection;
+
+import com.squareup.javapoet.*;
+import org.codingmatters.value.objects.generation.PrimitiveValueListType;
+
+import javax.lang.model.element.Modifier;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * The generated primitive list is immutable and backed by the first size slots of a primitive array, shared like the
+ * value list's (see {@link ValueListImplementation}). Elements are boxed only when read through the List methods.
+ */
+public class PrimitiveValueListImplementation {
+
+    private final String packageName;
+    private final PrimitiveValueListType primitiveType;
+
+    public PrimitiveValueListImplementation(String packageName, PrimitiveValueListType primitiveType) {
+        this.packageName = packageName;
+        this.primitiveType = primitiveType;
+    }
+
+    public TypeSpec type() {
+        ClassName implType = ClassName.get(this.packageName, this.primitiveType.implementationName());
+        ClassName boxed = this.primitiveType.boxed();
+        ArrayTypeName arrayType = this.primitiveType.array();
+        String suffix = this.primitiveType.accessorSuffix();
+
+        TypeSpec.Builder result = TypeSpec.classBuilder(implType)
+                .superclass(ParameterizedTypeName.get(ClassName.get(AbstractList.class), boxed))
+                .addSuperinterface(ClassName.get(this.packageName, this.primitiveType.listName()))
+                .addSuperinterface(RandomAccess.class)
+                .addField(arrayType, "elements", Modifier.FINAL)
+                .addField(TypeName.INT, "size", Modifier.FINAL)
+                .addField(AtomicInteger.class, "claimed", Modifier.FINAL)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(Modifier.PUBLIC)
+                        .varargs().addParameter(arrayType, "elements")
+                        .addStatement("this($T.copyOf(elements, elements.length), elements.length, null)", Arrays.class)
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addParameter(arrayType, "elements")
+                        .addParameter(TypeName.INT, "size")
+                        .addParameter(AtomicInteger.class, "claimed")
+                        .addStatement("this.elements = elements")
+                        .addStatement("this.size = size")
+                        .addStatement("this.claimed = claimed != null ? claimed : new $T(size)", AtomicInteger.class)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("get")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(TypeName.INT, "index")
+                        .returns(boxed)
+                        .addStatement("return this.get$L(index)", suffix)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("get" + suffix)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(TypeName.INT, "index")
+                        .returns(this.primitiveType.primitive())
+                        .beginControlFlow("if(index < 0 || index >= this.size)")
+                            .addStatement("throw new $T(\"Index: \" + index + \", Size: \" + this.size)", IndexOutOfBoundsException.class)
+                        .endControlFlow()
+                        .addStatement("return this.elements[index]")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("size")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .returns(TypeName.INT)
+                        .addStatement("return this.size")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("indexOf")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Object.class, "o")
+                        .returns(TypeName.INT)
+                        .beginControlFlow("if(o instanceof $T)", boxed)
+                            .addStatement("$T value = ($T) o", this.primitiveType.primitive(), boxed)
+                            .beginControlFlow("for (int i = 0; i < this.size; i++)")
+                                .beginControlFlow("if($L)", this.same(CodeBlock.of("this.elements[i]"), CodeBlock.of("value")))
+                                    .addStatement("return i")
+                                .endControlFlow()
+                            .endControlFlow()
+                        .endControlFlow()
+                        .addStatement("return -1")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("contains")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Object.class, "o")
+                        .returns(TypeName.BOOLEAN)
+                        .addStatement("return this.indexOf(o) >= 0")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("to" + suffix + "Array")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .returns(arrayType)
+                        .addStatement("return $T.copyOf(this.elements, this.size)", Arrays.class)
+                        .build());
+
+        if(this.primitiveType.stream() != null) {
+            result
+                    .addMethod(MethodSpec.methodBuilder(this.primitiveType.streamMethod())
+                            .addModifiers(Modifier.PUBLIC)
+                            .addAnnotation(Override.class)
+                            .returns(this.primitiveType.stream())
+                            .addStatement("return $T.stream(this.elements, 0, this.size)", Arrays.class)
+                            .build())
+                    .addMethod(MethodSpec.methodBuilder("stream")
+                            .addModifiers(Modifier.PUBLIC)
+                            .addAnnotation(Override.class)
+                            .returns(ParameterizedTypeName.get(ClassName.get(Stream.class), boxed))
+                            .addStatement("return this.$L().boxed()", this.primitiveType.streamMethod())
+                            .build());
+        } else {
+            result.addMethod(MethodSpec.methodBuilder("stream")
+                    .addModifiers(Modifier.PUBLIC)
+                    .addAnnotation(Override.class)
+                    .returns(ParameterizedTypeName.get(ClassName.get(Stream.class), boxed))
+                    .addStatement("return $T.range(0, this.size).mapToObj(i -> this.elements[i])", IntStream.class)
+                    .build());
+        }
+
+        return result
+                .addMethod(MethodSpec.methodBuilder("equals")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Object.class, "o")
+                        .returns(TypeName.BOOLEAN)
+                        .beginControlFlow("if(o instanceof $T)", implType)
+                            .addStatement("$T other = ($T) o", implType, implType)
+                            .beginControlFlow("if(other.size != this.size)")
+                                .addStatement("return false")
+                            .endControlFlow()
+                            .beginControlFlow("for (int i = 0; i < this.size; i++)")
+                                .beginControlFlow("if(! ($L))", this.same(CodeBlock.of("this.elements[i]"), CodeBlock.of("other.elements[i]")))
+                                    .addStatement("return false")
+                                .endControlFlow()
+                            .endControlFlow()
+                            .addStatement("return true")
+                        .endControlFlow()
+                        .addStatement("return super.equals(o)")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("hashCode")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .returns(TypeName.INT)
+                        .addStatement("int result = 1")
+                        .beginControlFlow("for (int i = 0; i < this.size; i++)")
+                            .addStatement("result = 31 * result + $T.hashCode(this.elements[i])", boxed)
+                        .endControlFlow()
+                        .addStatement("return result")
+                        .build())
+                .build();
+    }
+
+    private CodeBlock same(CodeBlock left, CodeBlock right) {
+        if(this.primitiveType == PrimitiveValueListType.DOUBLE) {
+            return CodeBlock.of("$T.doubleToLongBits($L) == $T.doubleToLongBits($L)", Double.class, left, Double.class, right);
+        } else {
+            return CodeBlock.of("$L == $L", left, right);
+        }
+    }
+}
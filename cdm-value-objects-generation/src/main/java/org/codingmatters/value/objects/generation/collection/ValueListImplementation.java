@@ -3,13 +3,17 @@ package org.codingmatters.value.objects.generation.collection;
 import com.squareup.javapoet.*;
 
 import javax.lang.model.element.Modifier;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Created by nelt on 11/11/16.
+ *
+ * The generated list is immutable and backed by the first size slots of an array. The array can be shared with other
+ * lists and builders : slots past size are appended to by whoever claims them first (see {@link CollectionBuilder}).
  */
 public class ValueListImplementation {
 
@@ -22,32 +26,129 @@ public class ValueListImplementation {
     }
 
     public TypeSpec type() {
+        TypeVariableName e = TypeVariableName.get("E");
         return TypeSpec.classBuilder(ClassName.get(this.packageName, "ValueListImpl"))
                 .addModifiers()
-                .addTypeVariable(TypeVariableName.get("E"))
-                .superclass(ParameterizedTypeName.get(ClassName.get(ArrayList.class), TypeVariableName.get("E")))
-                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(this.packageName, "ValueList"), TypeVariableName.get("E")))
+                .addTypeVariable(e)
+                .superclass(ParameterizedTypeName.get(ClassName.get(AbstractList.class), e))
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(this.packageName, "ValueList"), e))
+                .addSuperinterface(RandomAccess.class)
+                .addField(Object[].class, "elements", Modifier.FINAL)
+                .addField(TypeName.INT, "size", Modifier.FINAL)
+                .addField(AtomicInteger.class, "claimed", Modifier.FINAL)
                 .addMethod(MethodSpec.constructorBuilder()
                         .addModifiers(Modifier.PUBLIC)
                         .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
                                 .addMember("value", "$S", "unchecked")
                                 .build())
-                        .varargs().addParameter(ArrayTypeName.of(TypeVariableName.get("E")), "elements")
-                        .addStatement("super($T.asList($N))", Arrays.class, "elements")
+                        .varargs().addParameter(ArrayTypeName.of(e), "elements")
+                        .addStatement("this($T.copyOf($N, $N.length, Object[].class), $N.length, null)", Arrays.class, "elements", "elements", "elements")
                         .build())
                 .addMethod(MethodSpec.constructorBuilder()
                         .addModifiers(Modifier.PUBLIC)
                         .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
                                 .addMember("value", "$S", "unchecked")
                                 .build())
-                        .addParameter(ParameterizedTypeName.get(ClassName.get(Collection.class), TypeVariableName.get("E")), "elements")
-                        .addStatement("super($N)", "elements")
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Collection.class), e), "elements")
+                        .addStatement("this($N.toArray(new Object[$N.size()]), $N.size(), null)", "elements", "elements", "elements")
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addParameter(Object[].class, "elements")
+                        .addParameter(TypeName.INT, "size")
+                        .addParameter(AtomicInteger.class, "claimed")
+                        .addStatement("this.elements = elements")
+                        .addStatement("this.size = size")
+                        .addStatement("this.claimed = claimed != null ? claimed : new $T(size)", AtomicInteger.class)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("get")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                                .addMember("value", "$S", "unchecked")
+                                .build())
+                        .addParameter(TypeName.INT, "index")
+                        .returns(e)
+                        .beginControlFlow("if(index < 0 || index >= this.size)")
+                            .addStatement("throw new $T(\"Index: \" + index + \", Size: \" + this.size)", IndexOutOfBoundsException.class)
+                        .endControlFlow()
+                        .addStatement("return (E) this.elements[index]")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("size")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .returns(TypeName.INT)
+                        .addStatement("return this.size")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("indexOf")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Object.class, "o")
+                        .returns(TypeName.INT)
+                        .beginControlFlow("for (int i = 0; i < this.size; i++)")
+                            .beginControlFlow("if($T.equals(o, this.elements[i]))", Objects.class)
+                                .addStatement("return i")
+                            .endControlFlow()
+                        .endControlFlow()
+                        .addStatement("return -1")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("contains")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Object.class, "o")
+                        .returns(TypeName.BOOLEAN)
+                        .addStatement("return this.indexOf(o) >= 0")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("toArray")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .returns(Object[].class)
+                        .addStatement("return $T.copyOf(this.elements, this.size)", Arrays.class)
+                        .build())
+                .addMethod(toArray())
+                .addMethod(MethodSpec.methodBuilder("forEach")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                                .addMember("value", "$S", "unchecked")
+                                .build())
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Consumer.class), WildcardTypeName.supertypeOf(e)), "action")
+                        .beginControlFlow("for (int i = 0; i < this.size; i++)")
+                            .addStatement("action.accept((E) this.elements[i])")
+                        .endControlFlow()
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("spliterator")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .returns(ParameterizedTypeName.get(ClassName.get(Spliterator.class), e))
+                        .addStatement("return $T.spliterator(this.elements, 0, this.size, $T.ORDERED | $T.IMMUTABLE)", Spliterators.class, Spliterator.class, Spliterator.class)
                         .build())
                 .addMethod(MethodSpec.methodBuilder("stream")
                         .addModifiers(Modifier.PUBLIC)
-                        .returns(ParameterizedTypeName.get(ClassName.get(Stream.class), TypeVariableName.get("E")))
-                        .addStatement("return super.stream()")
+                        .returns(ParameterizedTypeName.get(ClassName.get(Stream.class), e))
+                        .addStatement("return $T.stream(this.spliterator(), false)", StreamSupport.class)
+                        .build())
+                .build();
+    }
+
+    static MethodSpec toArray() {
+        TypeVariableName t = TypeVariableName.get("T");
+        return MethodSpec.methodBuilder("toArray")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                        .addMember("value", "$S", "unchecked")
                         .build())
+                .addTypeVariable(t)
+                .addParameter(ArrayTypeName.of(t), "a")
+                .returns(ArrayTypeName.of(t))
+                .beginControlFlow("if(a.length < this.size)")
+                    .addStatement("return (T[]) $T.copyOf(this.elements, this.size, a.getClass())", Arrays.class)
+                .endControlFlow()
+                .addStatement("$T.arraycopy(this.elements, 0, a, 0, this.size)", System.class)
+                .beginControlFlow("if(a.length > this.size)")
+                    .addStatement("a[this.size] = null")
+                .endControlFlow()
+                .addStatement("return a")
                 .build();
     }
 }
@@ -3,13 +3,17 @@ package org.codingmatters.value.objects.generation.collection;
 import com.squareup.javapoet.*;
 
 import javax.lang.model.element.Modifier;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Created by nelt on 11/19/16.
+ *
+ * The generated set is immutable and backed by an array of its distinct elements, in insertion order, indexed by an
+ * open addressing table of element positions. When the given elements are already distinct, the array is kept as is
+ * and may be shared, like the list's, with builders (see {@link CollectionBuilder}).
  */
 public class ValueSetImplementation {
 
@@ -22,31 +26,110 @@ public class ValueSetImplementation {
     }
 
     public TypeSpec type() {
+        TypeVariableName e = TypeVariableName.get("E");
         return TypeSpec.classBuilder(ClassName.get(this.packageName, "ValueSetImpl"))
                 .addModifiers()
-                .addTypeVariable(TypeVariableName.get("E"))
-                .superclass(ParameterizedTypeName.get(ClassName.get(HashSet.class), TypeVariableName.get("E")))
-                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(this.packageName, "ValueSet"), TypeVariableName.get("E")))
+                .addTypeVariable(e)
+                .superclass(ParameterizedTypeName.get(ClassName.get(AbstractSet.class), e))
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(this.packageName, "ValueSet"), e))
+                .addField(Object[].class, "elements", Modifier.FINAL)
+                .addField(TypeName.INT, "size", Modifier.FINAL)
+                .addField(AtomicInteger.class, "claimed", Modifier.FINAL)
+                .addField(int[].class, "index", Modifier.PRIVATE, Modifier.FINAL)
                 .addMethod(MethodSpec.constructorBuilder()
                         .addModifiers(Modifier.PUBLIC)
                         .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
                                 .addMember("value", "$S", "unchecked")
                                 .build())
-                        .varargs().addParameter(ArrayTypeName.of(TypeVariableName.get("E")), "elements")
-                        .addStatement("super($T.asList($N))", Arrays.class, "elements")
+                        .varargs().addParameter(ArrayTypeName.of(e), "elements")
+                        .addStatement("this($T.copyOf($N, $N.length, Object[].class), $N.length, null)", Arrays.class, "elements", "elements", "elements")
                         .build())
                 .addMethod(MethodSpec.constructorBuilder()
                         .addModifiers(Modifier.PUBLIC)
                         .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
                                 .addMember("value", "$S", "unchecked")
                                 .build())
-                        .addParameter(ParameterizedTypeName.get(ClassName.get(Collection.class), TypeVariableName.get("E")), "elements")
-                        .addStatement("super($N)", "elements")
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Collection.class), e), "elements")
+                        .addStatement("this($N.toArray(new Object[$N.size()]), $N.size(), null)", "elements", "elements", "elements")
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addParameter(Object[].class, "elements")
+                        .addParameter(TypeName.INT, "size")
+                        .addParameter(AtomicInteger.class, "claimed")
+                        .addStatement("int[] index = new int[$T.highestOneBit($T.max(size, 1) * 2 - 1) << 1]", Integer.class, Math.class)
+                        .addStatement("Object[] distinct = elements")
+                        .addStatement("int count = 0")
+                        .beginControlFlow("for (int i = 0; i < size; i++)")
+                            .addStatement("int slot = slot(index, distinct, elements[i])")
+                            .beginControlFlow("if(index[slot] == 0)")
+                                .beginControlFlow("if(distinct != elements)")
+                                    .addStatement("distinct[count] = elements[i]")
+                                .endControlFlow()
+                                .addStatement("index[slot] = ++count")
+                            .nextControlFlow("else if(distinct == elements)")
+                                .addStatement("distinct = $T.copyOf(elements, size)", Arrays.class)
+                            .endControlFlow()
+                        .endControlFlow()
+                        .beginControlFlow("if(distinct == elements)")
+                            .addStatement("this.claimed = claimed != null ? claimed : new $T(size)", AtomicInteger.class)
+                        .nextControlFlow("else")
+                            .addStatement("$T.fill(distinct, count, size, null)", Arrays.class)
+                            .addStatement("this.claimed = new $T(count)", AtomicInteger.class)
+                        .endControlFlow()
+                        .addStatement("this.elements = distinct")
+                        .addStatement("this.size = count")
+                        .addStatement("this.index = index")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("slot")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .addParameter(int[].class, "index")
+                        .addParameter(Object[].class, "elements")
+                        .addParameter(Object.class, "o")
+                        .returns(TypeName.INT)
+                        .addStatement("int hash = $T.hashCode(o)", Objects.class)
+                        .addStatement("int mask = index.length - 1")
+                        .addStatement("int slot = (hash ^ (hash >>> 16)) & mask")
+                        .beginControlFlow("while(index[slot] != 0 && ! $T.equals(elements[index[slot] - 1], o))", Objects.class)
+                            .addStatement("slot = (slot + 1) & mask")
+                        .endControlFlow()
+                        .addStatement("return slot")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("size")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .returns(TypeName.INT)
+                        .addStatement("return this.size")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("contains")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Object.class, "o")
+                        .returns(TypeName.BOOLEAN)
+                        .addStatement("return this.index[slot(this.index, this.elements, o)] != 0")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("iterator")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .returns(ParameterizedTypeName.get(ClassName.get(Iterator.class), e))
+                        .addStatement("return $T.iterator(this.spliterator())", Spliterators.class)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("toArray")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .returns(Object[].class)
+                        .addStatement("return $T.copyOf(this.elements, this.size)", Arrays.class)
+                        .build())
+                .addMethod(ValueListImplementation.toArray())
+                .addMethod(MethodSpec.methodBuilder("spliterator")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .returns(ParameterizedTypeName.get(ClassName.get(Spliterator.class), e))
+                        .addStatement("return $T.spliterator(this.elements, 0, this.size, $T.DISTINCT | $T.IMMUTABLE)", Spliterators.class, Spliterator.class, Spliterator.class)
                         .build())
                 .addMethod(MethodSpec.methodBuilder("stream")
                         .addModifiers(Modifier.PUBLIC)
-                        .returns(ParameterizedTypeName.get(ClassName.get(Stream.class), TypeVariableName.get("E")))
-                        .addStatement("return super.stream()")
+                        .returns(ParameterizedTypeName.get(ClassName.get(Stream.class), e))
+                        .addStatement("return $T.stream(this.spliterator(), false)", StreamSupport.class)
                         .build())
                 .build();
     }
@@ -11,6 +11,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
 import java.util.Arrays;
 
 import static org.codingmatters.tests.reflect.ReflectMatchers.aPackagePrivate;
@@ -31,6 +33,9 @@ public class ValueEqualityTest {
     @Rule
     public TemporaryFolder dir = new TemporaryFolder();
 
+    @Rule
+    public TemporaryFolder cachedDir = new TemporaryFolder();
+
     @Rule
     public FileHelper fileHelper = new FileHelper();
 
@@ -150,6 +155,37 @@ public class ValueEqualityTest {
 
     }
 
+    @Test
+    public void givenAnotherImplementationOfTheValueInterface__whenComparing__thenPropertiesAreComparedThroughGetters() throws Exception {
+        ObjectHelper value = classes.get("org.generated.Val").call("builder")
+                .call("prop1", String.class).with("v1")
+                .call("binary", byte[].class).with(new byte[] {1, 2})
+                .call("build");
+        Class valType = classes.get("org.generated.Val").get();
+
+        Object equalImplementation = Proxy.newProxyInstance(valType.getClassLoader(), new Class[] {valType},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "prop1": return "v1";
+                        case "binary": return new byte[] {1, 2};
+                        case "equals": return args[0].equals(proxy);
+                        default: return null;
+                    }
+                });
+        Object differentImplementation = Proxy.newProxyInstance(valType.getClassLoader(), new Class[] {valType},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "prop1": return "v2";
+                        case "equals": return args[0].equals(proxy);
+                        default: return null;
+                    }
+                });
+
+        assertThat(value.get().equals(equalImplementation), is(true));
+        assertThat(value.get().equals(differentImplementation), is(false));
+        assertThat(value.get().equals("v1"), is(false));
+    }
+
     class Toto {
         private byte[] bs;
 
@@ -175,4 +211,26 @@ public class ValueEqualityTest {
                     '}';
         }
     }
+
+    @Test
+    public void givenCachedHashCode__whenComputedHashesDiffer__thenNotEqualWithoutComparingProperties() throws Exception {
+        new SpecCodeGenerator(this.spec, "org.generated", cachedDir.getRoot(), 1, true).generate();
+        ClassLoaderHelper cachedClasses = CompiledCode.builder().source(this.cachedDir.getRoot()).compile().classLoader();
+
+        ObjectHelper aValue = cachedClasses.get("org.generated.Val").call("builder")
+                .call("prop1", String.class).with("v1")
+                .call("build");
+        ObjectHelper anotherValue = cachedClasses.get("org.generated.Val").call("builder")
+                .call("prop1", String.class).with("v1")
+                .call("build");
+
+        assertThat(aValue.get(), is(anotherValue.get()));
+
+        aValue.get().hashCode();
+        Field cached = anotherValue.get().getClass().getDeclaredField("cachedHashCode");
+        cached.setAccessible(true);
+        cached.setInt(anotherValue.get(), aValue.get().hashCode() + 1);
+
+        assertThat(aValue.get(), is(not(anotherValue.get())));
+    }
 }
@@ -11,6 +11,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
 import static org.codingmatters.tests.reflect.ReflectMatchers.aPackagePrivate;
 import static org.codingmatters.tests.reflect.ReflectMatchers.aPublic;
 import static org.codingmatters.value.objects.spec.PropertySpec.property;
@@ -30,6 +33,9 @@ public class ValueHashCodeTest {
     @Rule
     public TemporaryFolder dir = new TemporaryFolder();
 
+    @Rule
+    public TemporaryFolder cachedDir = new TemporaryFolder();
+
     @Rule
     public FileHelper fileHelper = new FileHelper();
 
@@ -142,4 +148,35 @@ public class ValueHashCodeTest {
 
         assertThat(complexValue.get().hashCode(), is(sameComplexValue.get().hashCode()));
     }
+
+    @Test
+    public void hashCodeIsDeepHashCodeOfProperties() throws Exception {
+        ObjectHelper value = classes.get("org.generated.Val").call("builder")
+                .call("prop1", String.class).with("v1")
+                .call("binary", byte[].class).with("binary".getBytes())
+                .call("build");
+
+        assertThat(value.get().hashCode(), is(Arrays.deepHashCode(new Object[]{"v1", null, "binary".getBytes()})));
+    }
+
+    @Test
+    public void givenCachedHashCode__whenHashing__thenHashIsComputedOnceAndStored() throws Exception {
+        new SpecCodeGenerator(this.spec, "org.generated", cachedDir.getRoot(), 1, true).generate();
+        ClassLoaderHelper cachedClasses = CompiledCode.builder().source(this.cachedDir.getRoot()).compile().classLoader();
+
+        ObjectHelper value = cachedClasses.get("org.generated.Val").call("builder")
+                .call("prop1", String.class).with("v1")
+                .call("binary", byte[].class).with("binary".getBytes())
+                .call("build");
+
+        Field cached = value.get().getClass().getDeclaredField("cachedHashCode");
+        cached.setAccessible(true);
+        assertThat(cached.getInt(value.get()), is(0));
+
+        int hash = value.get().hashCode();
+
+        assertThat(hash, is(Arrays.deepHashCode(new Object[]{"v1", null, "binary".getBytes()})));
+        assertThat(cached.getInt(value.get()), is(hash));
+        assertThat(value.get().hashCode(), is(hash));
+    }
 }
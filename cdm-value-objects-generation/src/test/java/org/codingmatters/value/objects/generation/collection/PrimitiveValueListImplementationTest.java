@@ -0,0 +1,139 @@
+package org.codingmatters.value.objects.generation.collection;
+
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
+import org.codingmatters.tests.compile.CompiledCode;
+import org.codingmatters.value.objects.generation.PrimitiveValueListType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+import static org.codingmatters.tests.reflect.ReflectMatchers.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class PrimitiveValueListImplementationTest {
+
+    @Rule
+    public TemporaryFolder dir = new TemporaryFolder();
+    private CompiledCode compiled;
+
+    @Before
+    public void setUp() throws Exception {
+        String packageName = "org.generated";
+        File dest = this.dir.newFolder();
+        TypeSpec valueListType = new ValueList(packageName).type();
+
+        JavaFile.builder(packageName, valueListType).build().writeTo(dest);
+        JavaFile.builder(packageName, new ValueListImplementation(packageName, valueListType).type()).build().writeTo(dest);
+        JavaFile.builder(packageName, new PrimitiveValueList(packageName, PrimitiveValueListType.LONG).type()).build().writeTo(dest);
+        JavaFile.builder(packageName, new PrimitiveValueListImplementation(packageName, PrimitiveValueListType.LONG).type()).build().writeTo(dest);
+
+        this.compiled = CompiledCode.builder().source(dest).compile();
+    }
+
+    @Test
+    public void extendsAbstractListOfLong() throws Exception {
+        assertThat(
+                compiled.getClass("org.generated.LongValueListImpl"),
+                is(
+                        aPackagePrivate().class_()
+                                .extending(AbstractList.class)
+                                .implementing(compiled.getClass("org.generated.LongValueList"))
+                )
+        );
+        assertThat(compiled.getClass("org.generated.ValueList").isAssignableFrom(compiled.getClass("org.generated.LongValueList")), is(true));
+    }
+
+    @Test
+    public void givenLongList__whenAccessingElements__thenPrimitiveAndBoxedAccessorsAgree() throws Exception {
+        Object list = this.build(this.builder().invoke(null), 1L, 2L, 3L);
+
+        assertThat(this.longValueList().getMethod("getLong", int.class).invoke(list, 1), is(2L));
+        assertThat(this.longValueList().getMethod("toLongArray").invoke(list), is(new long[] {1L, 2L, 3L}));
+        assertThat(((LongStream) this.longValueList().getMethod("longStream").invoke(list)).sum(), is(6L));
+        assertThat((List<Object>) list, contains(1L, 2L, 3L));
+        assertThat(((List<Object>) list).indexOf(3L), is(2));
+        assertThat(((List<Object>) list).contains(3), is(false));
+    }
+
+    @Test
+    public void givenLongList__whenComparingToAnyList__thenListEqualityApplies() throws Exception {
+        Object list = this.build(this.builder().invoke(null), 1L, 2L);
+
+        assertThat((List<Object>) list, is(Arrays.<Object>asList(1L, 2L)));
+        assertThat(list.hashCode(), is(Arrays.asList(1L, 2L).hashCode()));
+        assertThat(list, is(this.build(this.builder().invoke(null), 1L, 2L)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void immutable() throws Exception {
+        List list = (List) this.build(this.builder().invoke(null), 1L, 2L);
+        list.add(3L);
+    }
+
+    @Test
+    public void givenLongList__whenTwoBuildersAppendToIt__thenEachBuiltListHasItsOwnElements() throws Exception {
+        Object list = this.build(this.builder().invoke(null), 1L, 2L);
+
+        Object first = this.build(this.from().invoke(null, list), 3L);
+        Object second = this.build(this.from().invoke(null, list), 4L, 5L);
+
+        assertThat(this.build(this.from().invoke(null, list)), is(sameInstance(list)));
+        assertThat((List<Object>) list, contains(1L, 2L));
+        assertThat((List<Object>) first, contains(1L, 2L, 3L));
+        assertThat((List<Object>) second, contains(1L, 2L, 4L, 5L));
+    }
+
+    @Test
+    public void givenLongList__whenFilteringBuilder__thenListIsUnchanged() throws Exception {
+        Object list = this.build(this.builder().invoke(null), 1L, 2L, 3L);
+
+        Object builder = this.from().invoke(null, list);
+        builder.getClass().getMethod("filtered", LongPredicate.class).invoke(builder, (LongPredicate) e -> e != 2L);
+        Object filtered = this.build(builder);
+
+        assertThat((List<Object>) list, contains(1L, 2L, 3L));
+        assertThat((List<Object>) filtered, contains(1L, 3L));
+    }
+
+    @Test
+    public void givenBoxedElements__whenOneIsNull__thenIllegalArgumentWithIndex() throws Exception {
+        Object builder = this.builder().invoke(null);
+        try {
+            builder.getClass().getMethod("with", Iterable.class).invoke(builder, Arrays.asList(1L, null, 3L));
+            fail("null elements should be rejected");
+        } catch (InvocationTargetException e) {
+            assertThat(e.getCause(), is(instanceOf(IllegalArgumentException.class)));
+            assertThat(e.getCause().getMessage(), is("null element at index 1"));
+        }
+    }
+
+    private Class longValueList() throws Exception {
+        return compiled.getClass("org.generated.LongValueList");
+    }
+
+    private Method builder() throws Exception {
+        return this.longValueList().getMethod("builder");
+    }
+
+    private Method from() throws Exception {
+        return this.longValueList().getMethod("from", Iterable.class);
+    }
+
+    private Object build(Object builder, long ... elements) throws Exception {
+        builder.getClass().getMethod("with", long[].class).invoke(builder, new Object[] {elements});
+        return builder.getClass().getMethod("build").invoke(builder);
+    }
+}
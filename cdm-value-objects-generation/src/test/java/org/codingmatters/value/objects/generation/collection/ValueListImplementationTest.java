@@ -10,11 +10,14 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.lang.reflect.Constructor;
-import java.util.ArrayList;
+import java.lang.reflect.Method;
+import java.util.AbstractList;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
 
 import static org.codingmatters.tests.reflect.ReflectMatchers.*;
-import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -46,12 +49,12 @@ public class ValueListImplementationTest {
     }
 
     @Test
-    public void extendsArrayList() throws Exception {
+    public void extendsAbstractList() throws Exception {
         assertThat(
                 compiled.getClass("org.generated.ValueListImpl"),
                 is(
                         aPackagePrivate().class_()
-                                .extending(ArrayList.class)
+                                .extending(AbstractList.class)
                                 .withParameter(variableType().named("E"))
                                 .implementing(compiled.getClass("org.generated.ValueList"))
                 )
@@ -88,4 +91,58 @@ public class ValueListImplementationTest {
                 )
         );
     }
-}
\ No newline at end of file
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void immutable() throws Exception {
+        List list = (List) this.build(this.builder().invoke(null), "a", "b");
+        list.add("c");
+    }
+
+    @Test
+    public void givenList__whenBuildingFromListWithoutChange__thenListIsReused() throws Exception {
+        Object list = this.build(this.builder().invoke(null), "a", "b");
+
+        Object copy = this.build(this.from().invoke(null, list));
+
+        assertThat(copy, is(sameInstance(list)));
+    }
+
+    @Test
+    public void givenList__whenTwoBuildersAppendToIt__thenEachBuiltListHasItsOwnElements() throws Exception {
+        Object list = this.build(this.builder().invoke(null), "a", "b");
+
+        Object first = this.build(this.from().invoke(null, list), "c");
+        Object second = this.build(this.from().invoke(null, list), "d", "e");
+        Object firstAgain = this.build(this.from().invoke(null, first), "f");
+
+        assertThat((List<Object>) list, contains("a", "b"));
+        assertThat((List<Object>) first, contains("a", "b", "c"));
+        assertThat((List<Object>) second, contains("a", "b", "d", "e"));
+        assertThat((List<Object>) firstAgain, contains("a", "b", "c", "f"));
+    }
+
+    @Test
+    public void givenList__whenFilteringBuilder__thenListIsUnchanged() throws Exception {
+        Object list = this.build(this.builder().invoke(null), "a", "b", "c");
+
+        Object builder = this.from().invoke(null, list);
+        builder.getClass().getMethod("filtered", Predicate.class).invoke(builder, (Predicate<Object>) e -> ! e.equals("b"));
+        Object filtered = this.build(builder, "d");
+
+        assertThat((List<Object>) list, contains("a", "b", "c"));
+        assertThat((List<Object>) filtered, contains("a", "c", "d"));
+    }
+
+    private Method builder() throws Exception {
+        return compiled.getClass("org.generated.ValueList").getMethod("builder");
+    }
+
+    private Method from() throws Exception {
+        return compiled.getClass("org.generated.ValueList").getMethod("from", Iterable.class);
+    }
+
+    private Object build(Object builder, Object ... elements) throws Exception {
+        builder.getClass().getMethod("with", Object[].class).invoke(builder, new Object[] {elements});
+        return builder.getClass().getMethod("build").invoke(builder);
+    }
+}
@@ -10,11 +10,14 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.lang.reflect.Constructor;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Set;
 
 import static org.codingmatters.tests.reflect.ReflectMatchers.*;
-import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -46,12 +49,12 @@ public class ValueSetImplementationTest {
     }
 
     @Test
-    public void extendsHashSet() throws Exception {
+    public void extendsAbstractSet() throws Exception {
         assertThat(
                 compiled.getClass("org.generated.ValueSetImpl"),
                 is(
                         aPackagePrivate().class_()
-                                .extending(HashSet.class)
+                                .extending(AbstractSet.class)
                                 .withParameter(variableType().named("E"))
                                 .implementing(compiled.getClass("org.generated.ValueSet"))
                 )
@@ -88,4 +91,17 @@ public class ValueSetImplementationTest {
                 )
         );
     }
+
+    @Test
+    public void givenDuplicates__whenConstructing__thenDistinctElementsInInsertionOrder() throws Exception {
+        Constructor constr = compiled.getClass("org.generated.ValueSetImpl").getConstructor(Collection.class);
+        constr.setAccessible(true);
+        Set<Object> set = (Set<Object>) constr.newInstance(Arrays.asList("c", "a", null, "c", "b", null, "a"));
+
+        assertThat(set, contains("c", "a", null, "b"));
+        assertThat(set.contains("b"), is(true));
+        assertThat(set.contains("d"), is(false));
+        assertThat(set, is(new HashSet<>(Arrays.asList("a", "b", "c", null))));
+        assertThat(set.hashCode(), is(new HashSet<>(Arrays.asList("a", "b", "c", null)).hashCode()));
+    }
 }
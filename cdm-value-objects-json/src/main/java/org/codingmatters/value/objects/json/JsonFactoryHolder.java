@@ -0,0 +1,45 @@
+package org.codingmatters.value.objects.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.lang.model.element.Modifier;
+
+/**
+ * The generated JsonFactoryHolder holds the JsonFactory shared by the static read, writeTo and toBytes methods of the
+ * generated readers and writers. Streams passed by the caller are neither closed on read nor on write.
+ */
+public class JsonFactoryHolder {
+
+    private final String packageName;
+
+    public JsonFactoryHolder(String rootPackage) {
+        this.packageName = rootPackage + ".json";
+    }
+
+    public String packageName() {
+        return this.packageName;
+    }
+
+    public ClassName className() {
+        return ClassName.get(this.packageName, "JsonFactoryHolder");
+    }
+
+    public TypeSpec type() {
+        return TypeSpec.classBuilder(this.className())
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addField(FieldSpec.builder(JsonFactory.class, "FACTORY", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("new $T()\n.disable($T.Feature.AUTO_CLOSE_SOURCE)\n.disable($T.Feature.AUTO_CLOSE_TARGET)",
+                                JsonFactory.class, JsonParser.class, JsonGenerator.class)
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(Modifier.PRIVATE)
+                        .build())
+                .build();
+    }
+}
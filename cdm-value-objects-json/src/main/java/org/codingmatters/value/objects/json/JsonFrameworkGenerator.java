@@ -9,6 +9,7 @@ import org.codingmatters.value.objects.spec.Spec;
 import java.io.File;
 import java.io.IOException;
 
+import static org.codingmatters.value.objects.generation.GenerationUtils.generateAll;
 import static org.codingmatters.value.objects.generation.GenerationUtils.packageDir;
 import static org.codingmatters.value.objects.generation.GenerationUtils.writeJavaFile;
 
@@ -19,32 +20,47 @@ public class JsonFrameworkGenerator {
     private final Spec spec;
     private final String rootPackage;
     private final File rootDirectory;
+    private final int parallelism;
+    private final boolean lazyReader;
 
     public JsonFrameworkGenerator(Spec spec, String rootPackage, File toDirectory) {
+        this(spec, rootPackage, toDirectory, 1);
+    }
+
+    public JsonFrameworkGenerator(Spec spec, String rootPackage, File toDirectory, int parallelism) {
+        this(spec, rootPackage, toDirectory, parallelism, false);
+    }
+
+    /**
+     * @param lazyReader when true, readers also get readLazy methods, decoding nested values and lists on first access.
+     */
+    public JsonFrameworkGenerator(Spec spec, String rootPackage, File toDirectory, int parallelism, boolean lazyReader) {
         this.spec = spec;
         this.rootPackage = rootPackage;
         this.rootDirectory = toDirectory;
+        this.parallelism = parallelism;
+        this.lazyReader = lazyReader;
     }
 
     public void generate() throws IOException {
         this.rootDirectory.mkdirs();
 
-        for (PackagedValueSpec valueSpec : new SpecPreprocessor(this.spec, this.rootPackage).packagedValueSpec()) {
-            this.generate(valueSpec);
-        }
+        JsonFactoryHolder jsonFactoryHolder = new JsonFactoryHolder(this.rootPackage);
+        writeJavaFile(packageDir(this.rootDirectory, jsonFactoryHolder.packageName()), jsonFactoryHolder.packageName(), jsonFactoryHolder.type());
+
+        generateAll(new SpecPreprocessor(this.spec, this.rootPackage).packagedValueSpec(), this.parallelism, this::generate);
     }
 
     private void generate(PackagedValueSpec valueSpec) throws IOException {
         String valueJsonPackageName = valueSpec.packagename() + ".json";
         File jsonDir = packageDir(this.rootDirectory, valueJsonPackageName);
-        jsonDir.mkdirs();
 
         ValueConfiguration types = new ValueConfiguration(this.rootPackage, valueSpec.packagename(), valueSpec.valueSpec());
 
         TypeSpec valueWriter = new ValueWriter(types, valueSpec.valueSpec().propertySpecs()).type();
         writeJavaFile(jsonDir, valueJsonPackageName, valueWriter);
 
-        TypeSpec valueReader = new ValueReader(types, valueSpec.valueSpec().propertySpecs()).type();
+        TypeSpec valueReader = new ValueReader(types, valueSpec.valueSpec().propertySpecs(), this.lazyReader).type();
         writeJavaFile(jsonDir, valueJsonPackageName, valueReader);
     }
 }
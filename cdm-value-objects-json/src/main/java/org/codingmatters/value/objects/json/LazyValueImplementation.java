@@ -0,0 +1,148 @@
+package org.codingmatters.value.objects.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.squareup.javapoet.*;
+import org.codingmatters.value.objects.generation.ValueConfiguration;
+import org.codingmatters.value.objects.generation.ValueInterface;
+import org.codingmatters.value.objects.spec.PropertySpec;
+
+import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the value interface returned by the reader's readLazy methods. Properties read eagerly are taken
+ * from a value built while parsing, lazy ones (value objects and collections) are decoded from their byte slice on first
+ * access. Other methods are delegated to the fully decoded value.
+ */
+public class LazyValueImplementation {
+
+    private final ValueConfiguration types;
+    private final List<PropertySpec> propertySpecs;
+    private final List<PropertySpec> lazyPropertySpecs;
+
+    public LazyValueImplementation(ValueConfiguration types, List<PropertySpec> propertySpecs, List<PropertySpec> lazyPropertySpecs) {
+        this.types = types;
+        this.propertySpecs = propertySpecs;
+        this.lazyPropertySpecs = lazyPropertySpecs;
+    }
+
+    public String name() {
+        return "Lazy" + this.types.valueType().simpleName();
+    }
+
+    public TypeSpec type() {
+        ClassName valueType = this.types.valueType();
+        ClassName readerType = ClassName.get(valueType.packageName() + ".json", valueType.simpleName() + "Reader");
+
+        TypeSpec.Builder result = TypeSpec.classBuilder(this.name())
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addSuperinterface(valueType)
+                .addField(JsonFactory.class, "lazyFactory", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(byte[].class, "lazyJson", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(valueType, "lazyEager", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(int[].class, "lazySlices", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(valueType, "lazyValue", Modifier.PRIVATE);
+        for (PropertySpec propertySpec : this.lazyPropertySpecs) {
+            result.addField(this.types.propertyType(propertySpec), propertySpec.name(), Modifier.PRIVATE);
+        }
+
+        result.addMethod(MethodSpec.constructorBuilder()
+                .addParameter(JsonFactory.class, "factory")
+                .addParameter(byte[].class, "json")
+                .addParameter(valueType, "eager")
+                .addParameter(int[].class, "slices")
+                .addStatement("this.lazyFactory = factory")
+                .addStatement("this.lazyJson = json")
+                .addStatement("this.lazyEager = eager")
+                .addStatement("this.lazySlices = slices")
+                .build());
+
+        for (PropertySpec propertySpec : this.propertySpecs) {
+            result.addMethod(this.getter(propertySpec));
+        }
+
+        for (MethodSpec method : new ValueInterface(this.types, this.propertySpecs).type().methodSpecs) {
+            if(method.hasModifier(Modifier.ABSTRACT) && ! this.isGetter(method)) {
+                result.addMethod(MethodSpec.methodBuilder(method.name)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .returns(method.returnType)
+                        .addParameters(method.parameters)
+                        .addStatement("return this.lazyValue().$L($L)",
+                                method.name,
+                                method.parameters.stream().map(parameter -> parameter.name).collect(Collectors.joining(", ")))
+                        .build());
+            }
+        }
+
+        return result
+                .addMethod(MethodSpec.methodBuilder("equals")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Object.class, "o")
+                        .returns(TypeName.BOOLEAN)
+                        .addStatement("return this.lazyValue().equals(o)")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("toString")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .returns(String.class)
+                        .addStatement("return this.lazyValue().toString()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("lazyValue")
+                        .addModifiers(Modifier.PRIVATE)
+                        .returns(valueType)
+                        .addStatement("$T result = this.lazyValue", valueType)
+                        .beginControlFlow("if(result == null)")
+                            .addStatement("result = $T.from(this).build()", valueType)
+                            .addStatement("this.lazyValue = result")
+                        .endControlFlow()
+                        .addStatement("return result")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("lazyDecode")
+                        .addModifiers(Modifier.PRIVATE)
+                        .addParameter(ClassName.bestGuess("Token"), "token")
+                        .addParameter(TypeName.INT, "index")
+                        .returns(valueType)
+                        .beginControlFlow("try($T parser = this.lazyFactory.createParser(this.lazyJson, this.lazySlices[index], this.lazySlices[index + 1] - this.lazySlices[index]))", JsonParser.class)
+                            .addStatement("return new $T().readLazyProperty(parser, token)", readerType)
+                        .nextControlFlow("catch($T e)", IOException.class)
+                            .addStatement("throw new $T(e)", UncheckedIOException.class)
+                        .endControlFlow()
+                        .build())
+                .build();
+    }
+
+    private MethodSpec getter(PropertySpec propertySpec) {
+        TypeName propertyType = this.types.propertyType(propertySpec);
+        MethodSpec.Builder result = MethodSpec.methodBuilder(propertySpec.name())
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .returns(propertyType);
+
+        int index = this.lazyPropertySpecs.indexOf(propertySpec);
+        if(index == -1) {
+            return result.addStatement("return this.lazyEager.$L()", propertySpec.name()).build();
+        }
+        return result
+                .addStatement("$T result = this.$L", propertyType, propertySpec.name())
+                .beginControlFlow("if(result == null && this.lazySlices[$L] >= 0)", 2 * index)
+                    .addStatement("result = this.lazyDecode(Token.$L, $L).$L()", propertySpec.name().toUpperCase(), 2 * index, propertySpec.name())
+                    .addStatement("this.$L = result", propertySpec.name())
+                .endControlFlow()
+                .addStatement("return result")
+                .build();
+    }
+
+    private boolean isGetter(MethodSpec method) {
+        if(! method.parameters.isEmpty()) return false;
+        for (PropertySpec propertySpec : this.propertySpecs) {
+            if(propertySpec.name().equals(method.name)) return true;
+        }
+        return false;
+    }
+}
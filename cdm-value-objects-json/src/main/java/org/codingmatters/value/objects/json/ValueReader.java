@@ -1,8 +1,10 @@
 package org.codingmatters.value.objects.json;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.squareup.javapoet.*;
+import org.codingmatters.value.objects.generation.PrimitiveValueListType;
 import org.codingmatters.value.objects.generation.ValueConfiguration;
 import org.codingmatters.value.objects.json.property.JsonPropertyHelper;
 import org.codingmatters.value.objects.json.property.SimplePropertyReaderProducer;
@@ -13,7 +15,10 @@ import org.codingmatters.value.objects.spec.TypeKind;
 
 import javax.lang.model.element.Modifier;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
@@ -21,12 +26,28 @@ import java.util.stream.Collectors;
  * Created by nelt on 4/6/17.
  */
 public class ValueReader {
+    /**
+     * System property bounding, per generated reader, the number of unmatched field names whose resolved token is cached.
+     */
+    static public final String NORMALIZED_CACHE_SIZE_PROPERTY = "value.objects.json.token.cache.size";
+    static public final int DEFAULT_NORMALIZED_CACHE_SIZE = 1024;
+
     private final ValueConfiguration types;
     private final List<PropertySpec> propertySpecs;
+    private final boolean lazy;
 
     public ValueReader(ValueConfiguration types, List<PropertySpec> propertySpecs) {
+        this(types, propertySpecs, false);
+    }
+
+    /**
+     * @param lazy when true, readLazy methods are generated : value object and collection properties are recorded as byte
+     *             slices of the json input and only decoded when first accessed.
+     */
+    public ValueReader(ValueConfiguration types, List<PropertySpec> propertySpecs, boolean lazy) {
         this.types = types;
         this.propertySpecs = propertySpecs;
+        this.lazy = lazy;
     }
 
     public TypeSpec type() {
@@ -34,6 +55,9 @@ public class ValueReader {
                 .addModifiers(Modifier.PUBLIC)
                 .addMethod(this.readWithParserMethod())
                 .addMethod(this.readArrayWithParserMethod())
+                .addMethod(this.readBytesMethod())
+                .addMethod(this.readByteBufferMethod())
+                .addMethod(this.readInputStreamMethod())
                 .addType(this.readerFunctionalInterface())
                 .addMethod(this.readValueMethod())
                 .addMethod(this.readListValueMethod())
@@ -41,17 +65,35 @@ public class ValueReader {
                 .addType(this.tokensEnum())
                 ;
 
+        Set<PrimitiveValueListType> primitiveLists = EnumSet.noneOf(PrimitiveValueListType.class);
         for (PropertySpec propertySpec : this.propertySpecs) {
             if(! JsonPropertyHelper.isTransient(propertySpec)) {
                 SimplePropertyReaderProducer propertyReaderProducer = this.propertyReaderProducer(propertySpec);
                 if (propertyReaderProducer != null) {
                     this.addPropertyReaderStatements(result, propertySpec, propertyReaderProducer);
                 }
+                if(this.types.primitiveValueList(propertySpec) != null) {
+                    primitiveLists.add(this.types.primitiveValueList(propertySpec));
+                }
             } else {
                 System.out.println("skipping transient field " + propertySpec.name());
             }
         }
+        for (PrimitiveValueListType primitiveList : primitiveLists) {
+            result.addMethod(this.readPrimitiveListValueMethod(primitiveList));
+        }
 
+        if(this.lazy) {
+            List<PropertySpec> lazyPropertySpecs = this.lazyPropertySpecs();
+            LazyValueImplementation lazyValue = new LazyValueImplementation(this.types, this.propertySpecs, lazyPropertySpecs);
+            result
+                    .addMethod(this.readLazyWithSharedFactoryMethod())
+                    .addMethod(this.readLazyMethod())
+                    .addMethod(this.readLazyWithOffsetMethod(lazyPropertySpecs, lazyValue.name()))
+                    .addMethod(this.readLazyPropertyMethod(lazyPropertySpecs))
+                    .addMethod(this.sliceMethod())
+                    .addType(lazyValue.type());
+        }
 
         return result.build();
     }
@@ -79,6 +121,17 @@ public class ValueReader {
                         ).build()
                 )
         ;
+        result
+                .addField(FieldSpec.builder(TypeName.INT, "NORMALIZED_CACHE_SIZE", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$T.getInteger($S, $L)", Integer.class, NORMALIZED_CACHE_SIZE_PROPERTY, DEFAULT_NORMALIZED_CACHE_SIZE)
+                        .build()
+                )
+                .addField(FieldSpec.builder(
+                        ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class), ClassName.bestGuess("Token")),
+                        "NORMALIZED", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("new $T<>()", ConcurrentHashMap.class)
+                        .build()
+                );
         result.addMethod(this.enumNormalizeFieldName());
 
         for (PropertySpec propertySpec : this.propertySpecs) {
@@ -91,23 +144,43 @@ public class ValueReader {
             );
         }
 
+        // an exact name or raw name match on any token wins over a normalized match on an earlier token
         result.addMethod(MethodSpec.methodBuilder("from")
                 .addModifiers(Modifier.STATIC, Modifier.PUBLIC)
                 .addParameter(String.class, "str")
                 .returns(ClassName.bestGuess("Token"))
-                .beginControlFlow("for(Token token : Token.values())")
-                    .beginControlFlow("if(token.name.equals(str))")
-                        .addStatement("return token")
-                    .nextControlFlow("else if(token.rawName.equals(str))")
-                        .addStatement("return token")
-                    .nextControlFlow("else if(token.name.equals(normalizeFieldName(str)))")
-                        .addStatement("return token")
-                    .nextControlFlow("else if(token.rawName.equals(normalizeFieldName(str)))")
-                        .addStatement("return token")
-                    .endControlFlow()
-                .endControlFlow()
-                .addStatement("return __UNKNOWN__")
+                .addStatement("if(str == null) return __UNKNOWN__")
+                .addStatement("Token token = exact(str)")
+                .addStatement("if(token != null) return token")
+                .addStatement("token = NORMALIZED.get(str)")
+                .addStatement("if(token != null) return token")
+                .addStatement("token = exact(normalizeFieldName(str))")
+                .addStatement("if(token == null) token = __UNKNOWN__")
+                .addStatement("if(NORMALIZED.size() < NORMALIZED_CACHE_SIZE) NORMALIZED.put(str, token)")
+                .addStatement("return token")
                 .build());
+        result.addMethod(this.enumExact());
+
+        return result.build();
+    }
+
+    private MethodSpec enumExact() {
+        Map<String, String> constantByName = new LinkedHashMap<>();
+        for (PropertySpec propertySpec : this.propertySpecs) {
+            constantByName.putIfAbsent(propertySpec.name(), this.enumConstant(propertySpec));
+            constantByName.putIfAbsent(this.rawName(propertySpec), this.enumConstant(propertySpec));
+        }
+
+        MethodSpec.Builder result = MethodSpec.methodBuilder("exact")
+                .addModifiers(Modifier.STATIC, Modifier.PRIVATE)
+                .addParameter(String.class, "str")
+                .returns(ClassName.bestGuess("Token"))
+                .beginControlFlow("switch (str)");
+        for (Map.Entry<String, String> entry : constantByName.entrySet()) {
+            result.addStatement("case $S: return $L", entry.getKey(), entry.getValue());
+        }
+        result.addStatement("default: return null")
+                .endControlFlow();
 
         return result.build();
     }
@@ -152,33 +225,8 @@ public class ValueReader {
                 .returns(TypeName.VOID)
                 .addException(ClassName.get(IOException.class))
                 ;
-        /*
-        parser.nextToken();
-        if(parser.currentToken().isStructStart()) {
-          int level = 1;
-          do {
-            parser.nextToken();
-            if (parser.currentToken().isStructStart()) {
-              level++;
-            } else if (parser.currentToken().isStructEnd()) {
-              level--;
-            }
-          } while(level > 0);
-        }
-         */
         result.addStatement("parser.nextToken()");
-        result.beginControlFlow("if(parser.currentToken().isStructStart())")
-                .addStatement("int level = 1")
-                    .beginControlFlow("do")
-                    .addStatement("parser.nextToken()")
-                        .beginControlFlow("if (parser.currentToken().isStructStart())")
-                            .addStatement("level++")
-                        .nextControlFlow("if (parser.currentToken().isStructEnd())")
-                            .addStatement("level--")
-                        .endControlFlow()
-                    .endControlFlow("while(level > 0)")
-                .endControlFlow();
-
+        result.addStatement("parser.skipChildren()");
 
         return result.build();
     }
@@ -208,7 +256,7 @@ public class ValueReader {
                 initializerArgs.add(HashSet.class);
                 initializerArgs.add(Arrays.class);
                 boolean first = true;
-                for (JsonToken jsonToken : propertyReader.expectedTokens()) {
+                for (JsonToken jsonToken : new TreeSet<>(propertyReader.expectedTokens())) {
                     if(! first) {
                         initializerFormat += ", ";
                     }
@@ -248,7 +296,7 @@ public class ValueReader {
                 .addStatement("if (parser.currentToken() == null) return null")
                 .addStatement("if (parser.currentToken() == JsonToken.VALUE_NULL) return null")
                 .beginControlFlow("if (parser.currentToken() == JsonToken.START_ARRAY)")
-                    .addStatement("LinkedList<$T> listValue = new LinkedList<>()", this.types.valueType())
+                    .addStatement("$T<$T> listValue = new $T<>()", ArrayList.class, this.types.valueType(), ArrayList.class)
                     .beginControlFlow("while (parser.nextToken() != JsonToken.END_ARRAY)")
                         .beginControlFlow("if(parser.currentToken() == JsonToken.VALUE_NULL)")
                             .addStatement("listValue.add(null)")
@@ -329,8 +377,225 @@ public class ValueReader {
         return method.build();
     }
 
+    private ClassName readerType() {
+        return ClassName.get(this.types.valueType().packageName() + ".json", this.types.valueType().simpleName() + "Reader");
+    }
+
+    private ClassName jsonFactoryHolder() {
+        return new JsonFactoryHolder(this.types.rootPackage()).className();
+    }
+
+    private MethodSpec readBytesMethod() {
+        return MethodSpec.methodBuilder("read")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addParameter(byte[].class, "json")
+                .returns(this.types.valueType())
+                .addException(IOException.class)
+                .beginControlFlow("try($T parser = $T.FACTORY.createParser(json))", JsonParser.class, this.jsonFactoryHolder())
+                    .addStatement("return new $T().read(parser)", this.readerType())
+                .endControlFlow()
+                .build();
+    }
+
+    private MethodSpec readByteBufferMethod() {
+        /*
+        reads the remaining bytes, buffer position is left unchanged
+         */
+        return MethodSpec.methodBuilder("read")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addParameter(ByteBuffer.class, "json")
+                .returns(this.types.valueType())
+                .addException(IOException.class)
+                .beginControlFlow("if(json.hasArray())")
+                    .beginControlFlow("try($T parser = $T.FACTORY.createParser(json.array(), json.arrayOffset() + json.position(), json.remaining()))", JsonParser.class, this.jsonFactoryHolder())
+                        .addStatement("return new $T().read(parser)", this.readerType())
+                    .endControlFlow()
+                .endControlFlow()
+                .addStatement("byte[] bytes = new byte[json.remaining()]")
+                .addStatement("json.duplicate().get(bytes)")
+                .addStatement("return read(bytes)")
+                .build();
+    }
+
+    private MethodSpec readInputStreamMethod() {
+        return MethodSpec.methodBuilder("read")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addParameter(InputStream.class, "json")
+                .returns(this.types.valueType())
+                .addException(IOException.class)
+                .beginControlFlow("try($T parser = $T.FACTORY.createParser(json))", JsonParser.class, this.jsonFactoryHolder())
+                    .addStatement("return new $T().read(parser)", this.readerType())
+                .endControlFlow()
+                .build();
+    }
+
+    private MethodSpec readLazyWithSharedFactoryMethod() {
+        return MethodSpec.methodBuilder("readLazy")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addParameter(byte[].class, "json")
+                .returns(this.types.valueType())
+                .addException(IOException.class)
+                .addStatement("return new $T().readLazy($T.FACTORY, json)", this.readerType(), this.jsonFactoryHolder())
+                .build();
+    }
+
+    private List<PropertySpec> lazyPropertySpecs() {
+        List<PropertySpec> result = new LinkedList<>();
+        for (PropertySpec propertySpec : this.propertySpecs) {
+            if(! JsonPropertyHelper.isTransient(propertySpec)
+                    && (propertySpec.typeSpec().typeKind().isValueObject() || propertySpec.typeSpec().cardinality().isCollection())) {
+                result.add(propertySpec);
+            }
+        }
+        return result;
+    }
+
+    private MethodSpec readLazyMethod() {
+        return MethodSpec.methodBuilder("readLazy")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(JsonFactory.class, "factory")
+                .addParameter(byte[].class, "json")
+                .returns(this.types.valueType())
+                .addException(IOException.class)
+                .addStatement("return this.readLazy(factory, json, 0, json.length)")
+                .build();
+    }
+
+    private MethodSpec readLazyWithOffsetMethod(List<PropertySpec> lazyPropertySpecs, String lazyValueName) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("readLazy")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(JsonFactory.class, "factory")
+                .addParameter(byte[].class, "json")
+                .addParameter(TypeName.INT, "offset")
+                .addParameter(TypeName.INT, "length")
+                .returns(this.types.valueType())
+                .addException(IOException.class);
+
+        method.beginControlFlow("try($T parser = factory.createParser(json, offset, length))", JsonParser.class)
+                .addStatement("parser.nextToken()")
+                .addStatement("if(parser.currentToken() == null) return null")
+                .addStatement("if(parser.currentToken() == $T.VALUE_NULL) return null", JsonToken.class)
+                .beginControlFlow("if(parser.currentToken() != $T.START_OBJECT)", JsonToken.class)
+                    .addStatement("" +
+                            "throw new IOException(\n" +
+                            "        String.format(\"reading a %s object, was expecting %s, but was %s\",\n" +
+                            "                $T.class.getName(), $T.START_OBJECT, parser.currentToken()\n" +
+                            "        )\n" +
+                            ")", this.types.valueType(), JsonToken.class)
+                .endControlFlow()
+                .addStatement("$T builder = $T.builder()", this.types.valueBuilderType(), this.types.valueType())
+                .addStatement("int[] slices = new int[$L]", 2 * lazyPropertySpecs.size())
+                .addStatement("$T.fill(slices, -1)", Arrays.class);
+
+        method.beginControlFlow("while (parser.nextToken() != $T.END_OBJECT)", JsonToken.class)
+                .addStatement("Token token = Token.from(parser.getCurrentName())")
+                .beginControlFlow("if(token != null)")
+                    .beginControlFlow("switch (token)");
+        for (PropertySpec propertySpec : this.propertySpecs) {
+            int index = lazyPropertySpecs.indexOf(propertySpec);
+            if(index != -1) {
+                /*
+                    case COMPLEX:
+                        this.slice(parser, JsonToken.START_OBJECT, offset, "complex", slices, 0);
+                        break;
+                 */
+                method.beginControlFlow("case $L:", this.enumConstant(propertySpec))
+                        .addStatement("this.slice(parser, $T.$L, offset, $S, slices, $L)",
+                                JsonToken.class,
+                                propertySpec.typeSpec().cardinality().isCollection() ? JsonToken.START_ARRAY : JsonToken.START_OBJECT,
+                                propertySpec.name(),
+                                2 * index)
+                        .addStatement("break")
+                        .endControlFlow();
+            } else if(! JsonPropertyHelper.isTransient(propertySpec)) {
+                this.propertyStatements(method, propertySpec);
+            }
+        }
+        method.beginControlFlow("default:")
+                .addStatement("this.consumeUnexpectedProperty(parser)")
+                .endControlFlow();
+        method.endControlFlow()
+                .nextControlFlow("else")
+                    .addStatement("this.consumeUnexpectedProperty(parser)")
+                .endControlFlow()
+                .endControlFlow();
+
+        method.addStatement("return new $L(factory, json, builder.build(), slices)", lazyValueName)
+                .endControlFlow();
+
+        return method.build();
+    }
+
+    private MethodSpec readLazyPropertyMethod(List<PropertySpec> lazyPropertySpecs) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("readLazyProperty")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(JsonParser.class, "parser")
+                .addParameter(ClassName.bestGuess("Token"), "token")
+                .returns(this.types.valueType())
+                .addException(IOException.class)
+                .addStatement("$T builder = $T.builder()", this.types.valueBuilderType(), this.types.valueType())
+                .beginControlFlow("switch (token)");
+        for (PropertySpec propertySpec : lazyPropertySpecs) {
+            this.propertyStatements(method, propertySpec);
+        }
+        method.beginControlFlow("default:")
+                .addStatement("break")
+                .endControlFlow();
+        method.endControlFlow()
+                .addStatement("return builder.build()");
+
+        return method.build();
+    }
+
+    private MethodSpec sliceMethod() {
+        return MethodSpec.methodBuilder("slice")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(JsonParser.class, "parser")
+                .addParameter(JsonToken.class, "expectedToken")
+                .addParameter(TypeName.INT, "offset")
+                .addParameter(String.class, "propertyName")
+                .addParameter(int[].class, "slices")
+                .addParameter(TypeName.INT, "index")
+                .addException(IOException.class)
+                .addStatement("parser.nextToken()")
+                .beginControlFlow("if (parser.currentToken() == $T.VALUE_NULL)", JsonToken.class)
+                    .addStatement("slices[index] = -1")
+                    .addStatement("slices[index + 1] = -1")
+                    .addStatement("return")
+                .endControlFlow()
+                .beginControlFlow("if (parser.currentToken() != expectedToken)")
+                    .addStatement("" +
+                            "throw new $T(\n" +
+                            "        $T.format(\"reading property %s, was expecting %s, but was %s\",\n" +
+                            "                propertyName, expectedToken, parser.currentToken()\n" +
+                            "        )\n" +
+                            ")",
+                            IOException.class, String.class)
+                .endControlFlow()
+                .addStatement("long start = parser.getTokenLocation().getByteOffset()")
+                .addStatement("parser.skipChildren()")
+                .addStatement("long end = parser.getCurrentLocation().getByteOffset()")
+                .beginControlFlow("if (start < 0 || end < 0)")
+                    .addStatement("throw new $T($T.format($S, propertyName))", IOException.class, String.class, "reading property %s, byte offsets are not available from the parser")
+                .endControlFlow()
+                .addStatement("slices[index] = offset + (int) start")
+                .addStatement("slices[index + 1] = offset + (int) end")
+                .build();
+    }
+
     private void propertyStatements(MethodSpec.Builder method, PropertySpec propertySpec) {
-        if(propertySpec.typeSpec().typeKind() == TypeKind.JAVA_TYPE || propertySpec.typeSpec().typeKind() == TypeKind.ENUM) {
+        PrimitiveValueListType primitiveList = this.types.primitiveValueList(propertySpec);
+        if(primitiveList != null) {
+            /*
+                case LONGLIST:
+                    builder.longList(this.readLongValueList(parser, "longList"));
+                    break;
+             */
+            method.beginControlFlow("case $L:", this.enumConstant(propertySpec))
+                    .addStatement("builder.$L(this.read$L(parser, $S))", propertySpec.name(), primitiveList.listName(), propertySpec.name())
+                    .addStatement("break")
+                    .endControlFlow();
+        } else if(propertySpec.typeSpec().typeKind() == TypeKind.JAVA_TYPE || propertySpec.typeSpec().typeKind() == TypeKind.ENUM) {
             SimplePropertyReaderProducer propertyReaderProducer = this.propertyReaderProducer(propertySpec);
             if(propertyReaderProducer!= null) {
                 if (!propertySpec.typeSpec().cardinality().isCollection()) {
@@ -493,7 +758,7 @@ public class ValueReader {
                 .addStatement("parser.nextToken()")
                 .addStatement("if (parser.currentToken() == $T.VALUE_NULL) return null", JsonToken.class)
                 .beginControlFlow("if (parser.currentToken() == $T.START_ARRAY)", JsonToken.class)
-                    .addStatement("$T<T> listValue = new $T<>()", LinkedList.class, LinkedList.class)
+                    .addStatement("$T<T> listValue = new $T<>()", ArrayList.class, ArrayList.class)
                     .beginControlFlow("while (parser.nextToken() != $T.END_ARRAY)", JsonToken.class)
                         .beginControlFlow("if(parser.currentToken() == $T.VALUE_NULL)", JsonToken.class)
                             .addStatement("listValue.add(null)")
@@ -514,4 +779,36 @@ public class ValueReader {
                 .build();
     }
 
+
+    private MethodSpec readPrimitiveListValueMethod(PrimitiveValueListType primitiveList) {
+        ClassName listType = this.types.collectionConfiguration().primitiveValueListType(primitiveList);
+        return MethodSpec.methodBuilder("read" + primitiveList.listName())
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(JsonParser.class, "parser")
+                .addParameter(String.class, "propertyName")
+                .returns(listType)
+                .addException(IOException.class)
+                .addStatement("parser.nextToken()")
+                .addStatement("if (parser.currentToken() == $T.VALUE_NULL) return null", JsonToken.class)
+                .beginControlFlow("if (parser.currentToken() == $T.START_ARRAY)", JsonToken.class)
+                    .addStatement("$T listValue = $T.builder()", listType.nestedClass("Builder"), listType)
+                    .beginControlFlow("while (parser.nextToken() != $T.END_ARRAY)", JsonToken.class)
+                        .beginControlFlow("if(parser.currentToken() == $T.VALUE_NULL)", JsonToken.class)
+                            .addStatement("throw new $T($T.format($S, propertyName))", IOException.class, String.class, "reading property %s, null elements are not allowed in a primitive list")
+                        .endControlFlow()
+                        .addStatement("listValue.with(parser.$L())", SimplePropertyReaders.forClassName(primitiveList.boxed().toString()).producer().parserMethod())
+                    .endControlFlow()
+                    .addStatement("return listValue.build()")
+                .endControlFlow()
+                .addStatement("" +
+                        "throw new $T(\n" +
+                        "        $T.format(\"reading property %s, was expecting %s, but was %s\",\n" +
+                        "                propertyName, $T.START_ARRAY, parser.currentToken()\n" +
+                        "        )\n" +
+                        ")",
+                        IOException.class, String.class, JsonToken.class
+                )
+                .build();
+    }
+
 }
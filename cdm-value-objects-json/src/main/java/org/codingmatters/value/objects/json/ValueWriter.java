@@ -1,7 +1,10 @@
 package org.codingmatters.value.objects.json;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.BufferRecyclers;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.squareup.javapoet.*;
+import org.codingmatters.value.objects.generation.PrimitiveValueListType;
 import org.codingmatters.value.objects.generation.ValueConfiguration;
 import org.codingmatters.value.objects.json.property.JsonPropertyHelper;
 import org.codingmatters.value.objects.json.property.SimplePropertyWriter;
@@ -10,9 +13,12 @@ import org.codingmatters.value.objects.spec.TypeKind;
 
 import javax.lang.model.element.Modifier;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
+import java.util.stream.Stream;
 
 /**
  * Created by nelt on 3/30/17.
@@ -31,6 +37,50 @@ public class ValueWriter {
                 .addModifiers(Modifier.PUBLIC)
                 .addMethod(this.buildWriteWithGeneratorMethod())
                 .addMethod(this.buildWriteArrayWithGeneratorMethod())
+                .addMethod(this.buildWriteIterableMethod())
+                .addMethod(this.buildWriteIteratorMethod())
+                .addMethod(this.buildWriteIteratorWithFlushMethod())
+                .addMethod(this.buildWriteStreamMethod())
+                .addMethod(this.buildWriteStreamWithFlushMethod())
+                .addMethod(this.buildWriteToMethod())
+                .addMethod(this.buildToBytesMethod())
+                .build();
+    }
+
+    private ClassName jsonFactoryHolder() {
+        return new JsonFactoryHolder(this.types.rootPackage()).className();
+    }
+
+    private MethodSpec buildWriteToMethod() {
+        ClassName writerType = ClassName.get(this.types.valueType().packageName() + ".json", this.types.valueType().simpleName() + "Writer");
+        return MethodSpec.methodBuilder("writeTo")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addParameter(OutputStream.class, "out")
+                .addParameter(this.types.valueType(), "value")
+                .addException(ClassName.get(IOException.class))
+                .beginControlFlow("try($T generator = $T.FACTORY.createGenerator(out))", JsonGenerator.class, this.jsonFactoryHolder())
+                    .addStatement("new $T().write(generator, value)", writerType)
+                .endControlFlow()
+                .returns(TypeName.VOID)
+                .build();
+    }
+
+    private MethodSpec buildToBytesMethod() {
+        ClassName writerType = ClassName.get(this.types.valueType().packageName() + ".json", this.types.valueType().simpleName() + "Writer");
+        return MethodSpec.methodBuilder("toBytes")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addParameter(this.types.valueType(), "value")
+                .addException(ClassName.get(IOException.class))
+                .addStatement("$T bytes = new $T($T.getBufferRecycler())", ByteArrayBuilder.class, ByteArrayBuilder.class, BufferRecyclers.class)
+                .beginControlFlow("try")
+                    .beginControlFlow("try($T generator = $T.FACTORY.createGenerator(bytes))", JsonGenerator.class, this.jsonFactoryHolder())
+                        .addStatement("new $T().write(generator, value)", writerType)
+                    .endControlFlow()
+                    .addStatement("return bytes.toByteArray()")
+                .nextControlFlow("finally")
+                    .addStatement("bytes.release()")
+                .endControlFlow()
+                .returns(byte[].class)
                 .build();
     }
 
@@ -76,6 +126,83 @@ public class ValueWriter {
         return method.build();
     }
 
+    private MethodSpec buildWriteIterableMethod() {
+        return MethodSpec.methodBuilder("writeIterable")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(JsonGenerator.class, "generator")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Iterable.class), this.types.valueType()), "values")
+                .addException(ClassName.get(IOException.class))
+                .addStatement("this.writeIterator(generator, values != null ? values.iterator() : null, 0)")
+                .returns(TypeName.VOID)
+                .build();
+    }
+
+    private MethodSpec buildWriteIteratorMethod() {
+        return MethodSpec.methodBuilder("writeIterator")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(JsonGenerator.class, "generator")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Iterator.class), this.types.valueType()), "values")
+                .addException(ClassName.get(IOException.class))
+                .addStatement("this.writeIterator(generator, values, 0)")
+                .returns(TypeName.VOID)
+                .build();
+    }
+
+    private MethodSpec buildWriteIteratorWithFlushMethod() {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("writeIterator")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(JsonGenerator.class, "generator")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Iterator.class), this.types.valueType()), "values")
+                .addParameter(TypeName.INT, "flushEvery")
+                .addException(ClassName.get(IOException.class));
+
+        method.beginControlFlow("if(values == null)")
+                    .addStatement("generator.writeNull()")
+                    .addStatement("return")
+                .endControlFlow()
+                .addStatement("generator.writeStartArray()")
+                .addStatement("int pending = 0")
+                .beginControlFlow("while(values.hasNext())")
+                    .addStatement("$T value = values.next()", this.types.valueType())
+                    .beginControlFlow("if(value != null)")
+                        .addStatement("this.write(generator, value)")
+                    .nextControlFlow("else")
+                        .addStatement("generator.writeNull()")
+                    .endControlFlow()
+                    .beginControlFlow("if(flushEvery > 0 && ++pending == flushEvery)")
+                        .addStatement("generator.flush()")
+                        .addStatement("pending = 0")
+                    .endControlFlow()
+                .endControlFlow()
+                .addStatement("generator.writeEndArray()");
+
+        method.returns(TypeName.VOID);
+        return method.build();
+    }
+
+    private MethodSpec buildWriteStreamMethod() {
+        return MethodSpec.methodBuilder("writeStream")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(JsonGenerator.class, "generator")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Stream.class), this.types.valueType()), "values")
+                .addException(ClassName.get(IOException.class))
+                .addStatement("this.writeStream(generator, values, 0)")
+                .returns(TypeName.VOID)
+                .build();
+    }
+
+    private MethodSpec buildWriteStreamWithFlushMethod() {
+        return MethodSpec.methodBuilder("writeStream")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(JsonGenerator.class, "generator")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Stream.class), this.types.valueType()), "values")
+                .addParameter(TypeName.INT, "flushEvery")
+                .addException(ClassName.get(IOException.class))
+                .addStatement("this.writeIterator(generator, values != null ? values.iterator() : null, flushEvery)")
+                .returns(TypeName.VOID)
+                .build();
+    }
+
     private void writePropertyStatements(MethodSpec.Builder method, PropertySpec propertySpec) {
         method.addStatement("generator.writeFieldName($S)", this.fieldName(propertySpec));
 
@@ -107,12 +234,26 @@ public class ValueWriter {
     private void writeSimpleProperty(MethodSpec.Builder method, PropertySpec propertySpec) {
         if (!propertySpec.typeSpec().cardinality().isCollection()) {
             SimplePropertyWriter.forClass(propertySpec.typeSpec().typeRef()).singleStatement(method, propertySpec);
+        } else if(this.types.primitiveValueList(propertySpec) != null) {
+            this.writePrimitiveList(method, propertySpec, this.types.primitiveValueList(propertySpec));
         } else {
             ClassName type = this.types.propertyClass(propertySpec);
             SimplePropertyWriter.forClass(propertySpec.typeSpec().typeRef()).arrayStatement(method, propertySpec, type);
         }
     }
 
+    private void writePrimitiveList(MethodSpec.Builder method, PropertySpec propertySpec, PrimitiveValueListType primitiveList) {
+        method.addStatement("$T $L = value.$L()", this.types.propertyType(propertySpec), propertySpec.name() + "Elements", propertySpec.name());
+        method.addStatement("generator.writeStartArray()");
+        method.beginControlFlow("for (int i = 0; i < $L.size(); i++)", propertySpec.name() + "Elements")
+                .addStatement("generator.$L($L.get$L(i))",
+                        primitiveList == PrimitiveValueListType.BOOLEAN ? "writeBoolean" : "writeNumber",
+                        propertySpec.name() + "Elements",
+                        primitiveList.accessorSuffix())
+                .endControlFlow();
+        method.addStatement("generator.writeEndArray()");
+    }
+
     private void writeEnumValue(MethodSpec.Builder method, PropertySpec propertySpec) {
         if (!propertySpec.typeSpec().cardinality().isCollection()) {
             SimplePropertyWriter.ENUM.singleStatement(method, propertySpec);
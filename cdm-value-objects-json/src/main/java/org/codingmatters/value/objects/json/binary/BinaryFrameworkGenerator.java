@@ -0,0 +1,62 @@
+package org.codingmatters.value.objects.json.binary;
+
+import com.squareup.javapoet.TypeSpec;
+import org.codingmatters.value.objects.generation.ValueConfiguration;
+import org.codingmatters.value.objects.generation.preprocessor.PackagedValueSpec;
+import org.codingmatters.value.objects.generation.preprocessor.SpecPreprocessor;
+import org.codingmatters.value.objects.spec.PropertySpec;
+import org.codingmatters.value.objects.spec.Spec;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.codingmatters.value.objects.generation.GenerationUtils.generateAll;
+import static org.codingmatters.value.objects.generation.GenerationUtils.packageDir;
+import static org.codingmatters.value.objects.generation.GenerationUtils.writeJavaFile;
+
+/**
+ * Generates, in a binary sub package, a compact binary writer and reader for each value of the spec.
+ */
+public class BinaryFrameworkGenerator {
+    private final Spec spec;
+    private final String rootPackage;
+    private final File rootDirectory;
+    private final int parallelism;
+
+    public BinaryFrameworkGenerator(Spec spec, String rootPackage, File toDirectory) {
+        this(spec, rootPackage, toDirectory, 1);
+    }
+
+    public BinaryFrameworkGenerator(Spec spec, String rootPackage, File toDirectory, int parallelism) {
+        this.spec = spec;
+        this.rootPackage = rootPackage;
+        this.rootDirectory = toDirectory;
+        this.parallelism = parallelism;
+    }
+
+    public void generate() throws IOException {
+        this.rootDirectory.mkdirs();
+
+        generateAll(new SpecPreprocessor(this.spec, this.rootPackage).packagedValueSpec(), this.parallelism, this::generate);
+    }
+
+    private void generate(PackagedValueSpec valueSpec) throws IOException {
+        String valueBinaryPackageName = valueSpec.packagename() + ".binary";
+        File binaryDir = packageDir(this.rootDirectory, valueBinaryPackageName);
+
+        for (PropertySpec propertySpec : valueSpec.valueSpec().propertySpecs()) {
+            if(! BinaryValueWriter.isEncodable(propertySpec)) {
+                throw new IOException("cannot generate binary codec for " + valueSpec.valueSpec().name() + ", property " + propertySpec.name()
+                        + " has no binary encoding (" + propertySpec.typeSpec().typeRef() + ")");
+            }
+        }
+
+        ValueConfiguration types = new ValueConfiguration(this.rootPackage, valueSpec.packagename(), valueSpec.valueSpec());
+
+        TypeSpec valueWriter = new BinaryValueWriter(types, valueSpec.valueSpec().propertySpecs()).type();
+        writeJavaFile(binaryDir, valueBinaryPackageName, valueWriter);
+
+        TypeSpec valueReader = new BinaryValueReader(types, valueSpec.valueSpec().propertySpecs()).type();
+        writeJavaFile(binaryDir, valueBinaryPackageName, valueReader);
+    }
+}
@@ -0,0 +1,209 @@
+package org.codingmatters.value.objects.json.binary;
+
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+
+import javax.lang.model.element.Modifier;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * Private static helpers generated in binary writers and readers : unsigned LEB128 varints, zig-zag signed varints,
+ * length prefixed utf-8 strings and bytes, date times, and bounds checked enum ordinals.
+ */
+public class BinaryHelpers {
+
+    static public final String WRITE_VAR_INT = "writeVarInt";
+    static public final String WRITE_VAR_LONG = "writeVarLong";
+    static public final String WRITE_SIGNED_VAR_INT = "writeSignedVarInt";
+    static public final String WRITE_SIGNED_VAR_LONG = "writeSignedVarLong";
+    static public final String WRITE_STRING = "writeString";
+    static public final String WRITE_BYTES = "writeBytes";
+    static public final String WRITE_LOCAL_DATE_TIME = "writeLocalDateTime";
+    static public final String WRITE_ZONED_DATE_TIME = "writeZonedDateTime";
+
+    static public final String READ_VAR_INT = "readVarInt";
+    static public final String READ_VAR_LONG = "readVarLong";
+    static public final String READ_SIGNED_VAR_INT = "readSignedVarInt";
+    static public final String READ_SIGNED_VAR_LONG = "readSignedVarLong";
+    static public final String READ_STRING = "readString";
+    static public final String READ_BYTES = "readBytes";
+    static public final String READ_LOCAL_DATE_TIME = "readLocalDateTime";
+    static public final String READ_ZONED_DATE_TIME = "readZonedDateTime";
+    static public final String READ_ORDINAL = "readOrdinal";
+
+    static private final Map<String, List<String>> DEPENDENCIES = new HashMap<>();
+    static {
+        DEPENDENCIES.put(WRITE_SIGNED_VAR_INT, Collections.singletonList(WRITE_VAR_INT));
+        DEPENDENCIES.put(WRITE_SIGNED_VAR_LONG, Collections.singletonList(WRITE_VAR_LONG));
+        DEPENDENCIES.put(WRITE_STRING, Collections.singletonList(WRITE_VAR_INT));
+        DEPENDENCIES.put(WRITE_BYTES, Collections.singletonList(WRITE_VAR_INT));
+        DEPENDENCIES.put(WRITE_LOCAL_DATE_TIME, Arrays.asList(WRITE_SIGNED_VAR_LONG, WRITE_VAR_LONG));
+        DEPENDENCIES.put(WRITE_ZONED_DATE_TIME, Arrays.asList(WRITE_SIGNED_VAR_LONG, WRITE_VAR_INT, WRITE_SIGNED_VAR_INT));
+        DEPENDENCIES.put(READ_SIGNED_VAR_INT, Collections.singletonList(READ_VAR_INT));
+        DEPENDENCIES.put(READ_SIGNED_VAR_LONG, Collections.singletonList(READ_VAR_LONG));
+        DEPENDENCIES.put(READ_STRING, Collections.singletonList(READ_BYTES));
+        DEPENDENCIES.put(READ_BYTES, Collections.singletonList(READ_VAR_INT));
+        DEPENDENCIES.put(READ_LOCAL_DATE_TIME, Arrays.asList(READ_SIGNED_VAR_LONG, READ_VAR_LONG));
+        DEPENDENCIES.put(READ_ZONED_DATE_TIME, Arrays.asList(READ_SIGNED_VAR_LONG, READ_VAR_INT, READ_SIGNED_VAR_INT));
+        DEPENDENCIES.put(READ_ORDINAL, Collections.singletonList(READ_VAR_INT));
+    }
+
+    /**
+     * @return the helper methods with the given names and the helpers they use, in a stable order
+     */
+    static public List<MethodSpec> methods(Set<String> names) {
+        Set<String> all = new TreeSet<>();
+        Deque<String> pending = new ArrayDeque<>(names);
+        while(! pending.isEmpty()) {
+            String name = pending.pop();
+            if(all.add(name)) {
+                pending.addAll(DEPENDENCIES.getOrDefault(name, Collections.emptyList()));
+            }
+        }
+        List<MethodSpec> result = new ArrayList<>(all.size());
+        for (String name : all) {
+            result.add(method(name));
+        }
+        return result;
+    }
+
+    static private MethodSpec method(String name) {
+        switch (name) {
+            case WRITE_VAR_INT:
+                return writer(name, TypeName.INT)
+                        .beginControlFlow("while((value & ~0x7F) != 0)")
+                        .addStatement("out.writeByte((value & 0x7F) | 0x80)")
+                        .addStatement("value >>>= 7")
+                        .endControlFlow()
+                        .addStatement("out.writeByte(value)")
+                        .build();
+            case WRITE_VAR_LONG:
+                return writer(name, TypeName.LONG)
+                        .beginControlFlow("while((value & ~0x7FL) != 0L)")
+                        .addStatement("out.writeByte((int) ((value & 0x7F) | 0x80))")
+                        .addStatement("value >>>= 7")
+                        .endControlFlow()
+                        .addStatement("out.writeByte((int) value)")
+                        .build();
+            case WRITE_SIGNED_VAR_INT:
+                return writer(name, TypeName.INT)
+                        .addStatement("$L(out, (value << 1) ^ (value >> 31))", WRITE_VAR_INT)
+                        .build();
+            case WRITE_SIGNED_VAR_LONG:
+                return writer(name, TypeName.LONG)
+                        .addStatement("$L(out, (value << 1) ^ (value >> 63))", WRITE_VAR_LONG)
+                        .build();
+            case WRITE_STRING:
+                return writer(name, TypeName.get(String.class))
+                        .addStatement("byte[] bytes = value.getBytes($T.UTF_8)", StandardCharsets.class)
+                        .addStatement("$L(out, bytes.length)", WRITE_VAR_INT)
+                        .addStatement("out.write(bytes)")
+                        .build();
+            case WRITE_BYTES:
+                return writer(name, ArrayTypeName.of(TypeName.BYTE))
+                        .addStatement("$L(out, value.length)", WRITE_VAR_INT)
+                        .addStatement("out.write(value)")
+                        .build();
+            case WRITE_LOCAL_DATE_TIME:
+                return writer(name, TypeName.get(LocalDateTime.class))
+                        .addStatement("$L(out, value.toLocalDate().toEpochDay())", WRITE_SIGNED_VAR_LONG)
+                        .addStatement("$L(out, value.toLocalTime().toNanoOfDay())", WRITE_VAR_LONG)
+                        .build();
+            case WRITE_ZONED_DATE_TIME:
+                return writer(name, TypeName.get(ZonedDateTime.class))
+                        .addStatement("$L(out, value.toEpochSecond())", WRITE_SIGNED_VAR_LONG)
+                        .addStatement("$L(out, value.getNano())", WRITE_VAR_INT)
+                        .addStatement("$L(out, value.getOffset().getTotalSeconds())", WRITE_SIGNED_VAR_INT)
+                        .build();
+            case READ_VAR_INT:
+                return reader(name, TypeName.INT)
+                        .addStatement("int result = 0")
+                        .beginControlFlow("for(int shift = 0 ; shift < 32 ; shift += 7)")
+                        .addStatement("int b = in.readUnsignedByte()")
+                        .addStatement("result |= (b & 0x7F) << shift")
+                        .addStatement("if((b & 0x80) == 0) return result")
+                        .endControlFlow()
+                        .addStatement("throw new $T($S)", IOException.class, "malformed varint")
+                        .build();
+            case READ_VAR_LONG:
+                return reader(name, TypeName.LONG)
+                        .addStatement("long result = 0L")
+                        .beginControlFlow("for(int shift = 0 ; shift < 64 ; shift += 7)")
+                        .addStatement("int b = in.readUnsignedByte()")
+                        .addStatement("result |= (long) (b & 0x7F) << shift")
+                        .addStatement("if((b & 0x80) == 0) return result")
+                        .endControlFlow()
+                        .addStatement("throw new $T($S)", IOException.class, "malformed varlong")
+                        .build();
+            case READ_SIGNED_VAR_INT:
+                return reader(name, TypeName.INT)
+                        .addStatement("int raw = $L(in)", READ_VAR_INT)
+                        .addStatement("return (raw >>> 1) ^ -(raw & 1)")
+                        .build();
+            case READ_SIGNED_VAR_LONG:
+                return reader(name, TypeName.LONG)
+                        .addStatement("long raw = $L(in)", READ_VAR_LONG)
+                        .addStatement("return (raw >>> 1) ^ -(raw & 1L)")
+                        .build();
+            case READ_STRING:
+                return reader(name, TypeName.get(String.class))
+                        .addStatement("return new String($L(in), $T.UTF_8)", READ_BYTES, StandardCharsets.class)
+                        .build();
+            case READ_BYTES:
+                return reader(name, ArrayTypeName.of(TypeName.BYTE))
+                        .addStatement("byte[] result = new byte[$L(in)]", READ_VAR_INT)
+                        .addStatement("in.readFully(result)")
+                        .addStatement("return result")
+                        .build();
+            case READ_LOCAL_DATE_TIME:
+                return reader(name, TypeName.get(LocalDateTime.class))
+                        .addStatement("$T date = $T.ofEpochDay($L(in))", LocalDate.class, LocalDate.class, READ_SIGNED_VAR_LONG)
+                        .addStatement("return $T.of(date, $T.ofNanoOfDay($L(in)))", LocalDateTime.class, LocalTime.class, READ_VAR_LONG)
+                        .build();
+            case READ_ZONED_DATE_TIME:
+                return reader(name, TypeName.get(ZonedDateTime.class))
+                        .addStatement("long epochSecond = $L(in)", READ_SIGNED_VAR_LONG)
+                        .addStatement("int nano = $L(in)", READ_VAR_INT)
+                        .addStatement("return $T.ofInstant($T.ofEpochSecond(epochSecond, nano), $T.ofTotalSeconds($L(in)))",
+                                ZonedDateTime.class, Instant.class, ZoneOffset.class, READ_SIGNED_VAR_INT)
+                        .build();
+            case READ_ORDINAL:
+                return reader(name, TypeName.INT)
+                        .addParameter(TypeName.INT, "count")
+                        .addStatement("int result = $L(in)", READ_VAR_INT)
+                        .addStatement("if(result < 0 || result >= count) throw new $T(\"malformed enum ordinal \" + result)", IOException.class)
+                        .addStatement("return result")
+                        .build();
+            default:
+                throw new IllegalArgumentException("no binary helper named " + name);
+        }
+    }
+
+    static private MethodSpec.Builder writer(String name, TypeName valueType) {
+        return MethodSpec.methodBuilder(name)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(DataOutput.class, "out")
+                .addParameter(valueType, "value")
+                .addException(IOException.class)
+                .returns(TypeName.VOID);
+    }
+
+    static private MethodSpec.Builder reader(String name, TypeName returnType) {
+        return MethodSpec.methodBuilder(name)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(DataInput.class, "in")
+                .addException(IOException.class)
+                .returns(returnType);
+    }
+}
@@ -0,0 +1,98 @@
+package org.codingmatters.value.objects.json.binary;
+
+import com.squareup.javapoet.CodeBlock;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+
+import static org.codingmatters.value.objects.json.binary.BinaryHelpers.*;
+
+/**
+ * Binary encoding of simple java type properties : integral numbers as varints, floating points with fixed width,
+ * strings and bytes length prefixed, temporals as epoch days and nanos of day.
+ */
+public enum BinaryPropertyCodec {
+    STRING(String.class,
+            new String[] {WRITE_STRING}, WRITE_STRING + "(out, $1L)",
+            new String[] {READ_STRING}, READ_STRING + "(in)"),
+    INTEGER(Integer.class,
+            new String[] {WRITE_SIGNED_VAR_INT}, WRITE_SIGNED_VAR_INT + "(out, $1L)",
+            new String[] {READ_SIGNED_VAR_INT}, READ_SIGNED_VAR_INT + "(in)"),
+    LONG(Long.class,
+            new String[] {WRITE_SIGNED_VAR_LONG}, WRITE_SIGNED_VAR_LONG + "(out, $1L)",
+            new String[] {READ_SIGNED_VAR_LONG}, READ_SIGNED_VAR_LONG + "(in)"),
+    FLOAT(Float.class,
+            new String[0], "out.writeFloat($1L)",
+            new String[0], "in.readFloat()"),
+    DOUBLE(Double.class,
+            new String[0], "out.writeDouble($1L)",
+            new String[0], "in.readDouble()"),
+    BOOLEAN(Boolean.class,
+            new String[0], "out.writeBoolean($1L)",
+            new String[0], "in.readBoolean()"),
+    BINARY(byte[].class,
+            new String[] {WRITE_BYTES}, WRITE_BYTES + "(out, $1L)",
+            new String[] {READ_BYTES}, READ_BYTES + "(in)"),
+    DATE(LocalDate.class,
+            new String[] {WRITE_SIGNED_VAR_LONG}, WRITE_SIGNED_VAR_LONG + "(out, $1L.toEpochDay())",
+            new String[] {READ_SIGNED_VAR_LONG}, "$T.ofEpochDay(" + READ_SIGNED_VAR_LONG + "(in))", LocalDate.class),
+    TIME(LocalTime.class,
+            new String[] {WRITE_VAR_LONG}, WRITE_VAR_LONG + "(out, $1L.toNanoOfDay())",
+            new String[] {READ_VAR_LONG}, "$T.ofNanoOfDay(" + READ_VAR_LONG + "(in))", LocalTime.class),
+    DATE_TIME(LocalDateTime.class,
+            new String[] {WRITE_LOCAL_DATE_TIME}, WRITE_LOCAL_DATE_TIME + "(out, $1L)",
+            new String[] {READ_LOCAL_DATE_TIME}, READ_LOCAL_DATE_TIME + "(in)"),
+    TZ_DATE_TIME(ZonedDateTime.class,
+            new String[] {WRITE_ZONED_DATE_TIME}, WRITE_ZONED_DATE_TIME + "(out, $1L)",
+            new String[] {READ_ZONED_DATE_TIME}, READ_ZONED_DATE_TIME + "(in)"),
+    ;
+
+    private final Class<?> clazz;
+    private final String[] writeHelpers;
+    private final String writeFormat;
+    private final String[] readHelpers;
+    private final String readFormat;
+    private final Object[] readArgs;
+
+    BinaryPropertyCodec(Class<?> clazz, String[] writeHelpers, String writeFormat, String[] readHelpers, String readFormat, Object ... readArgs) {
+        this.clazz = clazz;
+        this.writeHelpers = writeHelpers;
+        this.writeFormat = writeFormat;
+        this.readHelpers = readHelpers;
+        this.readFormat = readFormat;
+        this.readArgs = readArgs;
+    }
+
+    /**
+     * @return the statement writing the non null value of expression to out
+     */
+    public CodeBlock write(String expression) {
+        return CodeBlock.of(this.writeFormat, expression);
+    }
+
+    /**
+     * @return the expression reading a value from in
+     */
+    public CodeBlock read() {
+        return CodeBlock.of(this.readFormat, this.readArgs);
+    }
+
+    public String[] writeHelpers() {
+        return this.writeHelpers;
+    }
+
+    public String[] readHelpers() {
+        return this.readHelpers;
+    }
+
+    static public BinaryPropertyCodec forClassName(String className) {
+        for (BinaryPropertyCodec codec : values()) {
+            if(codec.clazz.getName().equals(className)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+}
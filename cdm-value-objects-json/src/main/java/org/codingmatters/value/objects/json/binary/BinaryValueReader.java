@@ -0,0 +1,113 @@
+package org.codingmatters.value.objects.json.binary;
+
+import com.squareup.javapoet.*;
+import org.codingmatters.value.objects.generation.ValueConfiguration;
+import org.codingmatters.value.objects.spec.PropertySpec;
+import org.codingmatters.value.objects.spec.TypeKind;
+
+import javax.lang.model.element.Modifier;
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Generates a binary reader for the format produced by the {@link BinaryValueWriter} generated writer.
+ */
+public class BinaryValueReader {
+    private final ValueConfiguration types;
+    private final List<PropertySpec> propertySpecs;
+    private final Set<String> helpers = new HashSet<>();
+
+    public BinaryValueReader(ValueConfiguration types, List<PropertySpec> propertySpecs) {
+        this.types = types;
+        this.propertySpecs = BinaryValueWriter.encodedProperties(propertySpecs);
+    }
+
+    public TypeSpec type() {
+        TypeSpec.Builder result = TypeSpec.classBuilder(this.types.valueType().simpleName() + "BinaryReader")
+                .addModifiers(Modifier.PUBLIC)
+                .addMethod(this.buildReadMethod());
+
+        for (PropertySpec propertySpec : this.propertySpecs) {
+            if(propertySpec.typeSpec().typeKind() == TypeKind.ENUM) {
+                TypeName enumType = this.types.propertySingleType(propertySpec);
+                result.addField(FieldSpec.builder(ArrayTypeName.of(enumType), this.enumValuesField(propertySpec), Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$T.values()", enumType)
+                        .build());
+            }
+            if(propertySpec.typeSpec().cardinality().isCollection()) {
+                result.addMethod(this.buildReadCollectionMethod(propertySpec));
+            }
+        }
+        result.addMethods(BinaryHelpers.methods(this.helpers));
+
+        return result.build();
+    }
+
+    private MethodSpec buildReadMethod() {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("read")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(DataInput.class, "in")
+                .returns(this.types.valueType())
+                .addException(IOException.class);
+
+        for (int i = 0; i < this.propertySpecs.size(); i += 8) {
+            method.addStatement("int presence$L = in.readUnsignedByte()", i / 8);
+        }
+
+        method.addStatement("$T builder = $T.builder()", this.types.valueBuilderType(), this.types.valueType());
+        for (int i = 0; i < this.propertySpecs.size(); i++) {
+            PropertySpec propertySpec = this.propertySpecs.get(i);
+            CodeBlock read = propertySpec.typeSpec().cardinality().isCollection() ?
+                    CodeBlock.of("this.$L(in)", this.collectionMethodName(propertySpec)) :
+                    this.readElementExpression(propertySpec);
+            method.addStatement("if((presence$L & $L) != 0) builder.$L($L)", i / 8, 1 << (i % 8), propertySpec.name(), read);
+        }
+        method.addStatement("return builder.build()");
+
+        return method.build();
+    }
+
+    private MethodSpec buildReadCollectionMethod(PropertySpec propertySpec) {
+        TypeName elementType = this.types.propertySingleType(propertySpec);
+        this.helpers.add(BinaryHelpers.READ_VAR_INT);
+
+        return MethodSpec.methodBuilder(this.collectionMethodName(propertySpec))
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(DataInput.class, "in")
+                .returns(ParameterizedTypeName.get(ClassName.get(List.class), elementType))
+                .addException(IOException.class)
+                .addStatement("int size = $L(in)", BinaryHelpers.READ_VAR_INT)
+                .addStatement("byte[] presence = new byte[(size + 7) / 8]")
+                .addStatement("in.readFully(presence)")
+                .addStatement("$T<$T> result = new $T<>(size)", List.class, elementType, ArrayList.class)
+                .beginControlFlow("for(int i = 0 ; i < size ; i++)")
+                    .addStatement("result.add((presence[i >>> 3] & (1 << (i & 7))) != 0 ? $L : null)", this.readElementExpression(propertySpec))
+                .endControlFlow()
+                .addStatement("return result")
+                .build();
+    }
+
+    private CodeBlock readElementExpression(PropertySpec propertySpec) {
+        if(propertySpec.typeSpec().typeKind() == TypeKind.ENUM) {
+            this.helpers.add(BinaryHelpers.READ_ORDINAL);
+            return CodeBlock.of("$1L[$2L(in, $1L.length)]", this.enumValuesField(propertySpec), BinaryHelpers.READ_ORDINAL);
+        } else if(propertySpec.typeSpec().typeKind().isValueObject()) {
+            ClassName propertyClass = this.types.valueObjectSingleType(propertySpec);
+            ClassName propertyReader = ClassName.get(propertyClass.packageName() + ".binary", propertyClass.simpleName() + "BinaryReader");
+            return CodeBlock.of("new $T().read(in)", propertyReader);
+        } else {
+            BinaryPropertyCodec codec = BinaryPropertyCodec.forClassName(propertySpec.typeSpec().typeRef());
+            this.helpers.addAll(Arrays.asList(codec.readHelpers()));
+            return codec.read();
+        }
+    }
+
+    private String enumValuesField(PropertySpec propertySpec) {
+        return propertySpec.name() + "Values";
+    }
+
+    private String collectionMethodName(PropertySpec propertySpec) {
+        return "read" + propertySpec.name().substring(0, 1).toUpperCase() + propertySpec.name().substring(1) + "Elements";
+    }
+}
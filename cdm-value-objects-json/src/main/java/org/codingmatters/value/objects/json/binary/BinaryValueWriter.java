@@ -0,0 +1,139 @@
+package org.codingmatters.value.objects.json.binary;
+
+import com.squareup.javapoet.*;
+import org.codingmatters.value.objects.generation.ValueConfiguration;
+import org.codingmatters.value.objects.json.property.JsonPropertyHelper;
+import org.codingmatters.value.objects.spec.PropertySpec;
+import org.codingmatters.value.objects.spec.TypeKind;
+
+import javax.lang.model.element.Modifier;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Generates a binary writer : a presence bit per property, then the present properties in declaration order.
+ */
+public class BinaryValueWriter {
+    private final ValueConfiguration types;
+    private final List<PropertySpec> propertySpecs;
+    private final Set<String> helpers = new HashSet<>();
+
+    public BinaryValueWriter(ValueConfiguration types, List<PropertySpec> propertySpecs) {
+        this.types = types;
+        this.propertySpecs = encodedProperties(propertySpecs);
+    }
+
+    public TypeSpec type() {
+        TypeSpec.Builder result = TypeSpec.classBuilder(this.types.valueType().simpleName() + "BinaryWriter")
+                .addModifiers(Modifier.PUBLIC)
+                .addMethod(this.buildWriteMethod());
+
+        for (PropertySpec propertySpec : this.propertySpecs) {
+            if(propertySpec.typeSpec().cardinality().isCollection()) {
+                result.addMethod(this.buildWriteCollectionMethod(propertySpec));
+            }
+        }
+        result.addMethods(BinaryHelpers.methods(this.helpers));
+
+        return result.build();
+    }
+
+    private MethodSpec buildWriteMethod() {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("write")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(DataOutput.class, "out")
+                .addParameter(this.types.valueType(), "value")
+                .addException(ClassName.get(IOException.class));
+
+        for (int i = 0; i < this.propertySpecs.size(); i += 8) {
+            method.addStatement("int presence$L = 0", i / 8);
+            for (int j = i; j < this.propertySpecs.size() && j < i + 8; j++) {
+                method.addStatement("if(value.$L() != null) presence$L |= $L", this.propertySpecs.get(j).name(), i / 8, 1 << (j - i));
+            }
+            method.addStatement("out.writeByte(presence$L)", i / 8);
+        }
+
+        for (PropertySpec propertySpec : this.propertySpecs) {
+            method.beginControlFlow("if(value.$L() != null)", propertySpec.name());
+            if(propertySpec.typeSpec().cardinality().isCollection()) {
+                method.addStatement("this.$L(out, value.$L())", this.collectionMethodName(propertySpec), propertySpec.name());
+            } else {
+                method.addCode(this.writeElementStatements(propertySpec, "value." + propertySpec.name() + "()"));
+            }
+            method.endControlFlow();
+        }
+
+        method.returns(TypeName.VOID);
+        return method.build();
+    }
+
+    private MethodSpec buildWriteCollectionMethod(PropertySpec propertySpec) {
+        TypeName elementType = this.types.propertySingleType(propertySpec);
+        this.helpers.add(BinaryHelpers.WRITE_VAR_INT);
+
+        return MethodSpec.methodBuilder(this.collectionMethodName(propertySpec))
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(DataOutput.class, "out")
+                .addParameter(this.types.propertyType(propertySpec), "elements")
+                .addException(ClassName.get(IOException.class))
+                .addStatement("$L(out, elements.size())", BinaryHelpers.WRITE_VAR_INT)
+                .addStatement("int presence = 0")
+                .addStatement("int bit = 0")
+                .beginControlFlow("for($T element : elements)", elementType)
+                    .addStatement("if(element != null) presence |= 1 << bit")
+                    .beginControlFlow("if(++bit == 8)")
+                        .addStatement("out.writeByte(presence)")
+                        .addStatement("presence = 0")
+                        .addStatement("bit = 0")
+                    .endControlFlow()
+                .endControlFlow()
+                .addStatement("if(bit != 0) out.writeByte(presence)")
+                .beginControlFlow("for($T element : elements)", elementType)
+                    .beginControlFlow("if(element != null)")
+                        .addCode(this.writeElementStatements(propertySpec, "element"))
+                    .endControlFlow()
+                .endControlFlow()
+                .returns(TypeName.VOID)
+                .build();
+    }
+
+    private CodeBlock writeElementStatements(PropertySpec propertySpec, String expression) {
+        if(propertySpec.typeSpec().typeKind() == TypeKind.ENUM) {
+            this.helpers.add(BinaryHelpers.WRITE_VAR_INT);
+            return CodeBlock.builder().addStatement("$L(out, $L.ordinal())", BinaryHelpers.WRITE_VAR_INT, expression).build();
+        } else if(propertySpec.typeSpec().typeKind().isValueObject()) {
+            ClassName propertyClass = this.types.valueObjectSingleType(propertySpec);
+            ClassName propertyWriter = ClassName.get(propertyClass.packageName() + ".binary", propertyClass.simpleName() + "BinaryWriter");
+            return CodeBlock.builder().addStatement("new $T().write(out, $L)", propertyWriter, expression).build();
+        } else {
+            BinaryPropertyCodec codec = BinaryPropertyCodec.forClassName(propertySpec.typeSpec().typeRef());
+            this.helpers.addAll(Arrays.asList(codec.writeHelpers()));
+            return CodeBlock.builder().addStatement("$L", codec.write(expression)).build();
+        }
+    }
+
+    private String collectionMethodName(PropertySpec propertySpec) {
+        return "write" + propertySpec.name().substring(0, 1).toUpperCase() + propertySpec.name().substring(1) + "Elements";
+    }
+
+    static List<PropertySpec> encodedProperties(List<PropertySpec> propertySpecs) {
+        List<PropertySpec> result = new ArrayList<>(propertySpecs.size());
+        for (PropertySpec propertySpec : propertySpecs) {
+            if(JsonPropertyHelper.isTransient(propertySpec)) continue;
+            if(! isEncodable(propertySpec)) {
+                throw new IllegalArgumentException("property " + propertySpec.name() + " has no binary encoding (" + propertySpec.typeSpec().typeRef() + ")");
+            }
+            result.add(propertySpec);
+        }
+        return result;
+    }
+
+    static boolean isEncodable(PropertySpec propertySpec) {
+        if(JsonPropertyHelper.isTransient(propertySpec)) return true;
+
+        TypeKind kind = propertySpec.typeSpec().typeKind();
+        return kind == TypeKind.ENUM || kind.isValueObject()
+                || (kind == TypeKind.JAVA_TYPE && BinaryPropertyCodec.forClassName(propertySpec.typeSpec().typeRef()) != null);
+    }
+}
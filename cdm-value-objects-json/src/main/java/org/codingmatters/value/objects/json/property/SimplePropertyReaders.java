@@ -22,7 +22,7 @@ public enum SimplePropertyReaders {
     FLOAT("getFloatValue", Float.class, JsonToken.VALUE_NUMBER_FLOAT, JsonToken.VALUE_NUMBER_INT),
     DOUBLE("getDoubleValue", Double.class, JsonToken.VALUE_NUMBER_FLOAT, JsonToken.VALUE_NUMBER_INT),
     BOOLEAN("getBooleanValue", Boolean.class, JsonToken.VALUE_TRUE, JsonToken.VALUE_FALSE),
-    BINARY("getBinaryValue", byte[].class, JsonToken.VALUE_STRING),
+    BINARY("getBinaryValue", byte[].class, JsonToken.VALUE_STRING, JsonToken.VALUE_EMBEDDED_OBJECT),
     DATE("getText", LocalDate.class, new TemporalPropertyStatement(LocalDate.class), JsonToken.VALUE_STRING),
     TIME("getText", LocalTime.class, new TemporalPropertyStatement(LocalTime.class), JsonToken.VALUE_STRING),
     DATE_TIME("getText", LocalDateTime.class, new TemporalPropertyStatement(LocalDateTime.class), JsonToken.VALUE_STRING),
@@ -0,0 +1,144 @@
+package org.codingmatters.value.objects.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.codingmatters.tests.compile.CompiledCode;
+import org.codingmatters.value.objects.exception.LowLevelSyntaxException;
+import org.codingmatters.value.objects.exception.SpecSyntaxException;
+import org.codingmatters.value.objects.generation.SpecCodeGenerator;
+import org.codingmatters.value.objects.reader.SpecReader;
+import org.codingmatters.value.objects.spec.Spec;
+import org.generated.ExampleValue;
+import org.generated.examplevalue.Complex;
+import org.generated.examplevalue.ComplexList;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class JsonLazyReaderGenerationTest {
+    @Rule
+    public TemporaryFolder dir = new TemporaryFolder();
+
+    private final JsonFactory factory = new JsonFactory();
+
+    private CompiledCode compiled;
+
+    static private Spec loadSpec(String resource) {
+        try {
+            return new SpecReader().read(Thread.currentThread().getContextClassLoader().getResourceAsStream(resource));
+        } catch (IOException | SpecSyntaxException | LowLevelSyntaxException e) {
+            throw new RuntimeException("error loading spec", e);
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        Spec refSpec = loadSpec("ref.yaml");
+        new SpecCodeGenerator(refSpec, "org.generated.ref", dir.getRoot()).generate();
+        new JsonFrameworkGenerator(refSpec, "org.generated.ref", dir.getRoot(), 1, true).generate();
+
+        Spec spec = loadSpec("spec.yaml");
+        new SpecCodeGenerator(spec, "org.generated", dir.getRoot()).generate();
+        new JsonFrameworkGenerator(spec, "org.generated", dir.getRoot(), 1, true).generate();
+
+        this.compiled = new CompiledCode.Builder()
+                .classpath(CompiledCode.findLibraryInClasspath("jackson-core"))
+                .source(this.dir.getRoot())
+                .compile();
+    }
+
+    @Test
+    public void givenNestedValuesAndLists__whenReadingLazily__thenValueEqualsEagerlyReadValue() throws Exception {
+        String json = "{" +
+                "\"prop\":\"a value\"," +
+                "\"listProp\":[\"a\",null,\"b\"]," +
+                "\"complex\":{\"sub\":\"}\"}," +
+                "\"complexList\":[{\"sub\":\"one\"},null]," +
+                "\"unexpected\":{\"prop\":[1, 2]}" +
+                "}";
+        ExampleValue expected = ExampleValue.builder()
+                .prop("a value")
+                .listProp("a", null, "b")
+                .complex(Complex.builder().sub("}").build())
+                .complexList(ComplexList.builder().sub("one").build(), null)
+                .build();
+
+        ExampleValue value = (ExampleValue) this.readLazy(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(value.prop(), is("a value"));
+        assertThat(value.complex(), is(expected.complex()));
+        assertThat(value.complexList(), is(expected.complexList()));
+        assertThat(value.listProp(), is(expected.listProp()));
+        assertThat(value, is(expected));
+        assertThat(expected, is(value));
+        assertThat(value.hashCode(), is(expected.hashCode()));
+        assertThat(value.toString(), is(expected.toString()));
+    }
+
+    @Test
+    public void givenNullOrMissingProperties__whenReadingLazily__thenPropertiesAreNull() throws Exception {
+        ExampleValue value = (ExampleValue) this.readLazy("{\"prop\":\"a value\",\"complex\":null}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(value.complex(), is(nullValue()));
+        assertThat(value.complexList(), is(nullValue()));
+        assertThat(value.withProp("changed"), is(ExampleValue.builder().prop("changed").build()));
+        assertThat(this.readLazy("null".getBytes(StandardCharsets.UTF_8)), is(nullValue()));
+    }
+
+    @Test
+    public void givenJsonInALargerBuffer__whenReadingLazilyWithOffset__thenSlicesAreRelativeToTheBuffer() throws Exception {
+        byte[] buffer = "[{\"complex\":{\"sub\":\"é\"},\"complexList\":[{\"sub\":\"è\"}]}]".getBytes(StandardCharsets.UTF_8);
+
+        Object reader = this.compiled.getClass("org.generated.json.ExampleValueReader").newInstance();
+        ExampleValue value = (ExampleValue) reader.getClass().getMethod("readLazy", JsonFactory.class, byte[].class, int.class, int.class)
+                .invoke(reader, this.factory, buffer, 1, buffer.length - 2);
+
+        assertThat(value.complex().sub(), is("é"));
+        assertThat(value.complexList().get(0).sub(), is("è"));
+    }
+
+    @Test
+    public void givenUnexpectedTokenForALazyProperty__whenReadingLazily__thenIOException() throws Exception {
+        try {
+            this.readLazy("{\"complex\":[]}".getBytes(StandardCharsets.UTF_8));
+            fail("an array cannot be read as a complex property");
+        } catch (InvocationTargetException e) {
+            assertThat(e.getCause(), is(instanceOf(IOException.class)));
+        }
+    }
+
+    @Test
+    public void givenMalformedNestedValue__whenAccessingTheLazyProperty__thenUncheckedIOException() throws Exception {
+        ExampleValue value = (ExampleValue) this.readLazy("{\"prop\":\"a value\",\"complex\":{\"sub\":12}}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(value.prop(), is("a value"));
+        try {
+            value.complex();
+            fail("nested value is decoded on access");
+        } catch (UncheckedIOException e) {
+            assertThat(e.getCause(), is(instanceOf(IOException.class)));
+        }
+    }
+
+    @Test
+    public void givenSharedFactory__whenReadingLazily__thenValueRead() throws Exception {
+        Object value = this.compiled.getClass("org.generated.json.ExampleValueReader").getMethod("readLazy", byte[].class)
+                .invoke(null, "{\"complex\":{\"sub\":\"sub\"}}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(((ExampleValue) value).complex(), is(Complex.builder().sub("sub").build()));
+    }
+
+    private Object readLazy(byte[] json) throws Exception {
+        Object reader = this.compiled.getClass("org.generated.json.ExampleValueReader").newInstance();
+        return reader.getClass().getMethod("readLazy", JsonFactory.class, byte[].class).invoke(reader, this.factory, json);
+    }
+}
@@ -24,15 +24,25 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.time.*;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.codingmatters.tests.reflect.ReflectMatchers.*;
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 
 /**
  * Created by nelt on 4/6/17.
@@ -626,6 +636,66 @@ public class JsonReaderGenerationTest {
         }
     }
 
+    @Test
+    public void readPrimitiveLists() throws Exception {
+        String json = "{" +
+                "\"longProp\":[12,13]," +
+                "\"integerProp\":[12]," +
+                "\"doubleProp\":[12.12]," +
+                "\"booleanProp\":[true,false]" +
+                "}";
+        try(JsonParser parser = this.factory.createParser(json.getBytes())) {
+            ObjectHelper reader = this.classes.get("org.generated.json.PrimitiveListsReader").newInstance();
+            PrimitiveLists value = (PrimitiveLists) reader.call("read", JsonParser.class).with(parser).get();
+
+            assertThat(value.longProp().toLongArray(), is(new long[] {12L, 13L}));
+            assertThat(value.integerProp().toIntArray(), is(new int[] {12}));
+            assertThat(value.doubleProp().toDoubleArray(), is(new double[] {12.12d}));
+            assertThat(value.booleanProp().toBooleanArray(), is(new boolean[] {true, false}));
+        }
+    }
+
+    @Test
+    public void readPrimitiveListsWithNullElements() throws Exception {
+        try(JsonParser parser = this.factory.createParser("{\"longProp\":[12,null]}".getBytes())) {
+            Object reader = this.compiled.getClass("org.generated.json.PrimitiveListsReader").newInstance();
+            reader.getClass().getMethod("read", JsonParser.class).invoke(reader, parser);
+            fail("null elements should not be read in a primitive list");
+        } catch (InvocationTargetException e) {
+            assertThat(e.getCause(), is(instanceOf(IOException.class)));
+        }
+    }
+
+    @Test
+    public void givenBoxedElements__whenSettingPrimitiveListWithNullElement__thenIllegalArgumentWithPropertyAndIndex() throws Exception {
+        try {
+            PrimitiveLists.builder().longProp(Arrays.asList(1L, null));
+            fail("null elements should not be set in a primitive list");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("null element at index 1 in longProp"));
+        }
+        try {
+            PrimitiveLists.builder().build().withDoubleProp(Arrays.asList(1.5d, 2.5d, null));
+            fail("null elements should not be set in a primitive list");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("null element at index 2 in doubleProp"));
+        }
+    }
+
+    @Test
+    public void givenBytesBufferOrStream__whenReadingWithStaticEntryPoints__thenValueRead() throws Exception {
+        byte[] json = "[{\"prop\":\"a value\",\"complex\":{\"sub\":\"sub\"}}]".getBytes();
+        ExampleValue expected = ExampleValue.builder()
+                .prop("a value")
+                .complex(Complex.builder().sub("sub").build())
+                .build();
+        Class readerClass = this.compiled.getClass("org.generated.json.ExampleValueReader");
+
+        assertThat((ExampleValue) readerClass.getMethod("read", byte[].class).invoke(null, Arrays.copyOfRange(json, 1, json.length - 1)), is(expected));
+        assertThat((ExampleValue) readerClass.getMethod("read", ByteBuffer.class).invoke(null, ByteBuffer.wrap(json, 1, json.length - 2)), is(expected));
+        assertThat((ExampleValue) readerClass.getMethod("read", InputStream.class).invoke(null, new ByteArrayInputStream(json, 1, json.length - 2)), is(expected));
+    }
+
     @Test
     public void readReferencedValue() throws Exception {
         String json = "{" +
@@ -937,6 +1007,70 @@ public class JsonReaderGenerationTest {
         }
     }
 
+    @Test
+    public void readUnormalizedPropertiesRepeatedly() throws Exception {
+        String json = "{\"string-prop\":\"str\", \"unexpected-prop\":\"value\"}";
+
+        for (int i = 0; i < 3; i++) {
+            try(JsonParser parser = this.factory.createParser(json.getBytes())) {
+                ObjectHelper reader = this.classes.get("org.generated.json.SimplePropsReader").newInstance();
+                ObjectHelper value = reader.call("read", JsonParser.class).with(parser);
+                assertThat(
+                        json,
+                        value.get(),
+                        is(new SimpleProps.Builder()
+                                .stringProp("str")
+                                .build()
+                        )
+                );
+            }
+        }
+    }
+
+    @Test
+    public void givenTokenCacheFull__whenResolvingUnmatchedNames__thenNamesStillResolvedAndCacheBounded() throws Exception {
+        Class<?> token = this.compiled.getClass("org.generated.json.SimplePropsReader$Token");
+        Method from = token.getMethod("from", String.class);
+        from.setAccessible(true);
+        Field cacheSize = token.getDeclaredField("NORMALIZED_CACHE_SIZE");
+        cacheSize.setAccessible(true);
+        Field normalized = token.getDeclaredField("NORMALIZED");
+        normalized.setAccessible(true);
+
+        int bound = cacheSize.getInt(null);
+        Map<?, ?> cache = (Map<?, ?>) normalized.get(null);
+        cache.clear();
+
+        assertThat(from.invoke(null, "string-prop").toString(), is("STRINGPROP"));
+        assertThat(from.invoke(null, "unexpected-prop").toString(), is("__UNKNOWN__"));
+        assertThat(cache.get("string-prop").toString(), is("STRINGPROP"));
+        assertThat(cache.get("unexpected-prop").toString(), is("__UNKNOWN__"));
+
+        for (int i = 0; i < bound; i++) {
+            assertThat(from.invoke(null, "unexpected-" + i).toString(), is("__UNKNOWN__"));
+        }
+        assertThat(cache.size(), is(bound));
+
+        assertThat(from.invoke(null, "long-prop").toString(), is("LONGPROP"));
+        assertThat(from.invoke(null, "integer prop").toString(), is("INTEGERPROP"));
+        assertThat(from.invoke(null, "other-unexpected").toString(), is("__UNKNOWN__"));
+        assertThat(from.invoke(null, "stringProp").toString(), is("STRINGPROP"));
+        assertThat(from.invoke(null, "string-prop").toString(), is("STRINGPROP"));
+        assertThat(from.invoke(null, "unexpected-prop").toString(), is("__UNKNOWN__"));
+        assertThat(cache.size(), is(bound));
+        assertThat(cache.containsKey("long-prop"), is(false));
+
+        String json = "{\"string-prop\":\"str\", \"unexpected-prop\":\"value\", \"long-prop\":12, \"integer prop\":3, \"other-unexpected\":{\"a\":[1]}}";
+        Object reader = this.compiled.getClass("org.generated.json.SimplePropsReader").newInstance();
+        try(JsonParser parser = this.factory.createParser(json.getBytes())) {
+            assertThat(
+                    (SimpleProps) reader.getClass().getMethod("read", JsonParser.class).invoke(reader, parser),
+                    is(SimpleProps.builder().stringProp("str").longProp(12L).integerProp(3).build())
+            );
+        }
+        assertThat(cache.size(), is(bound));
+    }
+
     @Test
     public void rawPropertyNameHint() throws Exception {
         String json = "{\"Raw Property Name\":\"value\"}";
@@ -955,4 +1089,53 @@ public class JsonReaderGenerationTest {
         }
     }
 
+    @Test
+    public void givenRawNamesMatchingOtherPropertiesOnceNormalized__whenReading__thenExactMatchesWin() throws Exception {
+        Spec precedenceSpec = new SpecReader().read(new ByteArrayInputStream((
+                "precedence:\n" +
+                "  stringProp: string\n" +
+                "  kebab:\n" +
+                "    $type: string\n" +
+                "    $hints:\n" +
+                "      - property:raw(string-prop)\n" +
+                "  upper:\n" +
+                "    $type: string\n" +
+                "    $hints:\n" +
+                "      - property:raw(StringProp)\n" +
+                "  fooBar: string\n" +
+                "  snake:\n" +
+                "    $type: string\n" +
+                "    $hints:\n" +
+                "      - property:raw(foo_bar)\n"
+        ).getBytes()));
+        File root = this.dir.newFolder("precedence");
+        new SpecCodeGenerator(precedenceSpec, "org.precedence", root).generate();
+        new JsonFrameworkGenerator(precedenceSpec, "org.precedence", root).generate();
+        CompiledCode precedence = new CompiledCode.Builder()
+                .classpath(CompiledCode.findLibraryInClasspath("jackson-core"))
+                .source(root)
+                .compile();
+        Object reader = precedence.getClass("org.precedence.json.PrecedenceReader").newInstance();
+        Class<?> valueType = precedence.getClass("org.precedence.Precedence");
+
+        Object value = this.readPrecedence(reader, "{\"string-prop\":\"raw\", \"StringProp\":\"raw exact case\", \"stringProp\":\"name\"}");
+        assertThat(valueType.getMethod("stringProp").invoke(value), is("name"));
+        assertThat(valueType.getMethod("kebab").invoke(value), is("raw"));
+        assertThat(valueType.getMethod("upper").invoke(value), is("raw exact case"));
+
+        value = this.readPrecedence(reader, "{\"foo_bar\":\"raw\", \"fooBar\":\"name\"}");
+        assertThat(valueType.getMethod("fooBar").invoke(value), is("name"));
+        assertThat(valueType.getMethod("snake").invoke(value), is("raw"));
+
+        value = this.readPrecedence(reader, "{\"string prop\":\"normalized\"}");
+        assertThat(valueType.getMethod("stringProp").invoke(value), is("normalized"));
+        assertThat(valueType.getMethod("kebab").invoke(value), is(nullValue()));
+        assertThat(valueType.getMethod("upper").invoke(value), is(nullValue()));
+    }
+
+    private Object readPrecedence(Object reader, String json) throws Exception {
+        try(JsonParser parser = this.factory.createParser(json.getBytes())) {
+            return reader.getClass().getMethod("read", JsonParser.class).invoke(reader, parser);
+        }
+    }
 }
@@ -29,9 +29,14 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.time.*;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.codingmatters.tests.reflect.ReflectMatchers.*;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -320,6 +325,54 @@ public class JsonWriterGenerationTest {
         }
     }
 
+    @Test
+    public void writeIterable() throws Exception {
+        SimpleProps value = new SimpleProps.Builder()
+                .stringProp("str")
+                .build();
+        Object writer = this.compiled.getClass("org.generated.json.SimplePropsWriter").newInstance();
+        try(OutputStream out = new ByteArrayOutputStream()) {
+            JsonGenerator generator = this.factory.createGenerator(out);
+            this.compiled.on(writer).invoke("writeIterable", JsonGenerator.class, Iterable.class).with(generator, Arrays.asList(value, null, value));
+            generator.close();
+
+            assertThat(
+                    out.toString(),
+                    is("[" +
+                            "{\"stringProp\":\"str\",\"integerProp\":null,\"longProp\":null,\"floatProp\":null,\"doubleProp\":null,\"booleanProp\":null,\"dateProp\":null,\"timeProp\":null,\"dateTimeProp\":null,\"tzDateTimeProp\":null}," +
+                            "null," +
+                            "{\"stringProp\":\"str\",\"integerProp\":null,\"longProp\":null,\"floatProp\":null,\"doubleProp\":null,\"booleanProp\":null,\"dateProp\":null,\"timeProp\":null,\"dateTimeProp\":null,\"tzDateTimeProp\":null}" +
+                            "]")
+            );
+        }
+    }
+
+    @Test
+    public void writeStreamWithFlush() throws Exception {
+        Object writer = this.compiled.getClass("org.generated.json.ExampleValueWriter").newInstance();
+        try(ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            JsonGenerator generator = this.factory.createGenerator(out);
+            List<Integer> sizes = new LinkedList<>();
+            Stream<ExampleValue> values = Stream.of("a", "b", "c")
+                    .peek(prop -> sizes.add(out.size()))
+                    .map(prop -> ExampleValue.builder().prop(prop).build());
+            this.compiled.on(writer).invoke("writeStream", JsonGenerator.class, Stream.class, int.class).with(generator, values, 1);
+            generator.close();
+
+            assertThat(sizes.get(0), is(0));
+            assertThat(sizes.get(1), is(greaterThan(sizes.get(0))));
+            assertThat(sizes.get(2), is(greaterThan(sizes.get(1))));
+            assertThat(
+                    out.toString(),
+                    is("[" +
+                            "{\"prop\":\"a\",\"listProp\":null,\"complex\":null,\"complexList\":null}," +
+                            "{\"prop\":\"b\",\"listProp\":null,\"complex\":null,\"complexList\":null}," +
+                            "{\"prop\":\"c\",\"listProp\":null,\"complex\":null,\"complexList\":null}" +
+                            "]")
+            );
+        }
+    }
+
     @Test
     public void writeBinary() throws Exception {
         Binary value = Binary.builder()
@@ -415,6 +468,50 @@ public class JsonWriterGenerationTest {
         }
     }
 
+    @Test
+    public void writePrimitiveLists() throws Exception {
+        PrimitiveLists value = PrimitiveLists.builder()
+                .longProp(12L, 13L)
+                .integerProp(12)
+                .doubleProp(12.12d)
+                .booleanProp(true, false)
+                .build();
+        Object writer = this.compiled.getClass("org.generated.json.PrimitiveListsWriter").newInstance();
+        try(OutputStream out = new ByteArrayOutputStream()) {
+            JsonGenerator generator = this.factory.createGenerator(out);
+            this.compiled.on(writer).invoke("write", JsonGenerator.class, PrimitiveLists.class).with(generator, value);
+            generator.close();
+
+            assertThat(
+                    out.toString(),
+                    is("{" +
+                            "\"longProp\":[12,13]," +
+                            "\"integerProp\":[12]," +
+                            "\"doubleProp\":[12.12]," +
+                            "\"booleanProp\":[true,false]" +
+                            "}")
+            );
+        }
+    }
+
+    @Test
+    public void givenValue__whenWritingWithStaticEntryPoints__thenSameJsonAsWrite() throws Exception {
+        ExampleValue value = ExampleValue.builder()
+                .prop("a value")
+                .complex(Complex.builder().sub("sub").build())
+                .build();
+        String expected = "{\"prop\":\"a value\",\"listProp\":null,\"complex\":{\"sub\":\"sub\"},\"complexList\":null}";
+        Class writerClass = this.compiled.getClass("org.generated.json.ExampleValueWriter");
+
+        byte[] bytes = (byte[]) writerClass.getMethod("toBytes", ExampleValue.class).invoke(null, value);
+        assertThat(new String(bytes), is(expected));
+
+        try(OutputStream out = new ByteArrayOutputStream()) {
+            writerClass.getMethod("writeTo", OutputStream.class, ExampleValue.class).invoke(null, out, value);
+            assertThat(out.toString(), is(expected));
+        }
+    }
+
     @Test
     public void writeReferencedValue() throws Exception {
         RefValue value = new RefValue.Builder()
@@ -0,0 +1,201 @@
+package org.codingmatters.value.objects.json.binary;
+
+import org.codingmatters.tests.compile.CompiledCode;
+import org.codingmatters.tests.compile.helpers.ClassLoaderHelper;
+import org.codingmatters.value.objects.exception.LowLevelSyntaxException;
+import org.codingmatters.value.objects.exception.SpecSyntaxException;
+import org.codingmatters.value.objects.generation.SpecCodeGenerator;
+import org.codingmatters.value.objects.reader.SpecReader;
+import org.codingmatters.value.objects.spec.Spec;
+import org.codingmatters.value.objects.spec.TypeKind;
+import org.generated.*;
+import org.generated.examplevalue.Complex;
+import org.generated.examplevalue.ComplexList;
+import org.generated.ref.ExtReferenced;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.*;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.time.*;
+
+import static org.codingmatters.value.objects.spec.PropertySpec.property;
+import static org.codingmatters.value.objects.spec.PropertyTypeSpec.type;
+import static org.codingmatters.value.objects.spec.Spec.spec;
+import static org.codingmatters.value.objects.spec.ValueSpec.valueSpec;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.fail;
+
+public class BinaryCodecGenerationTest {
+    @Rule
+    public TemporaryFolder dir = new TemporaryFolder();
+
+    static private Spec loadSpec(String resource) {
+        try {
+            return new SpecReader().read(Thread.currentThread().getContextClassLoader().getResourceAsStream(resource));
+        } catch (IOException | SpecSyntaxException | LowLevelSyntaxException e) {
+            throw new RuntimeException("error loading spec", e);
+        }
+    }
+
+    private ClassLoaderHelper classes;
+
+    @Before
+    public void setUp() throws Exception {
+        Spec refSpec = loadSpec("ref.yaml");
+        new SpecCodeGenerator(refSpec, "org.generated.ref", dir.getRoot()).generate();
+        new BinaryFrameworkGenerator(refSpec, "org.generated.ref", dir.getRoot()).generate();
+
+        Spec spec = loadSpec("spec.yaml");
+        new SpecCodeGenerator(spec, "org.generated", dir.getRoot()).generate();
+        new BinaryFrameworkGenerator(spec, "org.generated", dir.getRoot()).generate();
+
+        this.classes = new CompiledCode.Builder()
+                .source(this.dir.getRoot())
+                .compile()
+                .classLoader();
+    }
+
+    @Test
+    public void givenEmptyValue__whenWritingThenReading__thenOnePresenceBytePerEightProperties() throws Exception {
+        byte[] bytes = this.write("SimpleProps", SimpleProps.class, SimpleProps.builder().build());
+
+        assertThat(bytes.length, is(2));
+        assertThat(this.read("SimpleProps", bytes), is(SimpleProps.builder().build()));
+    }
+
+    @Test
+    public void givenSimpleProperties__whenWritingThenReading__thenValueIsUnchanged() throws Exception {
+        SimpleProps value = SimpleProps.builder()
+                .stringProp("a string \u2713")
+                .integerProp(-12)
+                .longProp(Long.MIN_VALUE)
+                .floatProp(1.5f)
+                .doubleProp(-0.25)
+                .booleanProp(false)
+                .dateProp(LocalDate.parse("2017-03-30"))
+                .timeProp(LocalTime.parse("12:15:30.123456789"))
+                .dateTimeProp(LocalDateTime.parse("1969-12-31T23:59:59.5"))
+                .tzDateTimeProp(ZonedDateTime.parse("2017-03-30T12:15:30.123+02:00"))
+                .build();
+
+        assertThat(this.read("SimpleProps", this.write("SimpleProps", SimpleProps.class, value)), is(value));
+    }
+
+    @Test
+    public void givenSmallNumbers__whenWriting__thenVarIntsUseOneByte() throws Exception {
+        byte[] bytes = this.write("SimpleProps", SimpleProps.class, SimpleProps.builder().integerProp(-3).longProp(63L).build());
+
+        assertThat(bytes.length, is(4));
+    }
+
+    @Test
+    public void givenListsWithNullElements__whenWritingThenReading__thenNullsArePreserved() throws Exception {
+        ArraySimpleProps value = ArraySimpleProps.builder()
+                .stringProp("a", null, "c", null, null, null, null, null, "i")
+                .integerProp(1, null, Integer.MAX_VALUE)
+                .dateProp()
+                .build();
+
+        assertThat(this.read("ArraySimpleProps", this.write("ArraySimpleProps", ArraySimpleProps.class, value)), is(value));
+    }
+
+    @Test
+    public void givenNestedValues__whenWritingThenReading__thenNestedValuesAreInlined() throws Exception {
+        ExampleValue value = ExampleValue.builder()
+                .prop("prop")
+                .listProp("a", "b")
+                .complex(Complex.builder().sub("sub").build())
+                .complexList(ComplexList.builder().sub("one").build(), null, ComplexList.builder().build())
+                .build();
+
+        assertThat(this.read("ExampleValue", this.write("ExampleValue", ExampleValue.class, value)), is(value));
+    }
+
+    @Test
+    public void givenEnums__whenWritingThenReading__thenOrdinalsAreReadBack() throws Exception {
+        EnumProperties value = EnumProperties.builder()
+                .single(DayOfWeek.SUNDAY)
+                .multiple(DayOfWeek.MONDAY, null, DayOfWeek.FRIDAY)
+                .build();
+        InSpecEnumProperties inSpec = InSpecEnumProperties.builder()
+                .single(InSpecEnumProperties.Single.B)
+                .multiple(InSpecEnumProperties.Multiple.C, InSpecEnumProperties.Multiple.A)
+                .build();
+
+        assertThat(this.read("EnumProperties", this.write("EnumProperties", EnumProperties.class, value)), is(value));
+        assertThat(this.read("InSpecEnumProperties", this.write("InSpecEnumProperties", InSpecEnumProperties.class, inSpec)), is(inSpec));
+    }
+
+    @Test
+    public void givenExternalValueObject__whenWritingThenReading__thenUsesExternalCodec() throws Exception {
+        ValueObjectProps value = ValueObjectProps.builder()
+                .prop(ExtReferenced.builder().prop("external").build())
+                .build();
+
+        assertThat(this.read("ValueObjectProps", this.write("ValueObjectProps", ValueObjectProps.class, value)), is(value));
+    }
+
+    @Test
+    public void givenBinaryProperty__whenWriting__thenBytesAreRaw() throws Exception {
+        Binary value = Binary.builder().prop(new byte[] {0, 1, 2, -1}).build();
+
+        byte[] bytes = this.write("Binary", Binary.class, value);
+
+        assertThat(bytes.length, is(6));
+        assertThat(this.read("Binary", bytes), is(value));
+    }
+
+    @Test
+    public void givenOrdinalOutOfEnumBounds__whenReading__thenIOException() throws Exception {
+        byte[] bytes = this.write("EnumProperties", EnumProperties.class, EnumProperties.builder().single(DayOfWeek.SUNDAY).build());
+        bytes[1] = 42;
+
+        Class reader = this.classes.get("org.generated.binary.EnumPropertiesBinaryReader").get();
+        try {
+            reader.getMethod("read", DataInput.class).invoke(reader.newInstance(), new DataInputStream(new ByteArrayInputStream(bytes)));
+            fail("ordinal 42 is not a DayOfWeek");
+        } catch (InvocationTargetException e) {
+            assertThat(e.getCause(), is(instanceOf(IOException.class)));
+            assertThat(e.getCause().getMessage(), is("malformed enum ordinal 42"));
+        }
+    }
+
+    @Test
+    public void givenPropertyWithoutBinaryEncoding__whenGenerating__thenIOException() throws Exception {
+        Spec spec = spec()
+                .addValue(valueSpec().name("val")
+                        .addProperty(property().name("amount").type(type().typeRef(BigDecimal.class.getName()).typeKind(TypeKind.JAVA_TYPE)))
+                )
+                .build();
+
+        try {
+            new BinaryFrameworkGenerator(spec, "org.unsupported", this.dir.newFolder()).generate();
+            fail("BigDecimal has no binary encoding");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("cannot generate binary codec for val, property amount has no binary encoding (java.math.BigDecimal)"));
+        }
+    }
+
+    private byte[] write(String valueName, Class valueClass, Object value) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.classes.get("org.generated.binary." + valueName + "BinaryWriter").newInstance()
+                .call("write", DataOutput.class, valueClass).with(new DataOutputStream(out), value);
+        return out.toByteArray();
+    }
+
+    private Object read(String valueName, byte[] bytes) throws Exception {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        Object result = this.classes.get("org.generated.binary." + valueName + "BinaryReader").newInstance()
+                .call("read", DataInput.class).with(in)
+                .get();
+        assertThat(in.available(), is(lessThan(1)));
+        return result;
+    }
+}
@@ -1,9 +1,15 @@
 package org.codingmatters.value.objects.maven.plugin;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugins.annotations.Parameter;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Created by nelt on 4/13/17.
@@ -19,6 +25,18 @@ public abstract class AbstractGenerationMojo extends AbstractMojo {
     @Parameter(defaultValue = "${basedir}/target/generated-sources/", alias="output-dir")
     private File outputDirectory;
 
+    @Parameter(defaultValue = "1", property = "value.objects.parallelism")
+    private int parallelism;
+
+    @Parameter(defaultValue = "true", property = "value.objects.incremental")
+    private boolean incremental;
+
+    @Parameter(defaultValue = "${project.build.directory}/value-objects-generation.state", readonly = true)
+    private File generationStateFile;
+
+    @Parameter(defaultValue = "${plugin}", readonly = true)
+    private PluginDescriptor plugin;
+
     public File getInputSpecification() {
         return inputSpecification;
     }
@@ -30,4 +48,92 @@ public abstract class AbstractGenerationMojo extends AbstractMojo {
     public String getDestinationPackage() {
         return this.destinationPackage;
     }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * @return the directory where the goal generates its files, generation is not skipped when it doesn't exist
+     */
+    protected File generatedDirectory() {
+        return this.getOutputDirectory();
+    }
+
+    /**
+     * @return goal specific configuration values, generation is not skipped when they changed
+     */
+    protected String[] configuration() {
+        return new String[0];
+    }
+
+    protected boolean upToDate() throws MojoExecutionException {
+        if(! this.incrementalEnabled() || ! this.generatedDirectory().exists()) {
+            return false;
+        }
+        try {
+            return new GenerationState(this.generationStateFile).upToDate(this.generationKey(), this.fingerprint());
+        } catch (IOException e) {
+            throw new MojoExecutionException("failed reading generation state from " + this.generationStateFile.getAbsolutePath(), e);
+        }
+    }
+
+    protected void generated() throws MojoExecutionException {
+        if(! this.incrementalEnabled()) {
+            return;
+        }
+        try {
+            new GenerationState(this.generationStateFile).record(this.generationKey(), this.fingerprint());
+        } catch (IOException e) {
+            throw new MojoExecutionException("failed writing generation state to " + this.generationStateFile.getAbsolutePath(), e);
+        }
+    }
+
+    private boolean incrementalEnabled() {
+        return this.incremental && this.generationStateFile != null && this.inputSpecification != null && this.generatedDirectory() != null;
+    }
+
+    private String generationKey() {
+        return this.getClass().getSimpleName() + ":" + this.destinationPackage + ":" + this.inputSpecification.getAbsolutePath();
+    }
+
+    private String fingerprint() throws IOException {
+        List<String> configuration = new ArrayList<>();
+        configuration.add(this.destinationPackage);
+        configuration.add(this.generatedDirectory().getAbsolutePath());
+        for (String value : this.configuration()) {
+            configuration.add(value);
+        }
+        configuration.addAll(this.pluginArtifacts());
+        return GenerationState.fingerprint(this.inputSpecification, configuration.toArray(new String[configuration.size()]));
+    }
+
+    /**
+     * Plugin and generator artifacts by coordinates, snapshots also by file size and date so that a rebuilt generator
+     * invalidates the state.
+     */
+    private List<String> pluginArtifacts() {
+        List<String> result = new ArrayList<>();
+        if(this.plugin == null) {
+            return result;
+        }
+        result.add(this.plugin.getId());
+        this.addArtifact(result, this.plugin.getPluginArtifact());
+        for (Artifact artifact : this.plugin.getArtifacts()) {
+            this.addArtifact(result, artifact);
+        }
+        return result;
+    }
+
+    private void addArtifact(List<String> result, Artifact artifact) {
+        if(artifact == null) return;
+        result.add(artifact.getId());
+        if(artifact.isSnapshot() && artifact.getFile() != null) {
+            result.add(artifact.getFile().length() + ":" + artifact.getFile().lastModified());
+        }
+    }
 }
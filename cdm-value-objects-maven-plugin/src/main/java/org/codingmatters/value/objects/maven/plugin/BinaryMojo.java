@@ -0,0 +1,38 @@
+package org.codingmatters.value.objects.maven.plugin;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.codingmatters.value.objects.exception.LowLevelSyntaxException;
+import org.codingmatters.value.objects.exception.SpecSyntaxException;
+
+import java.io.IOException;
+
+/**
+ * Generates compact binary writers and readers alongside the json harness, see the json goal.
+ */
+@Mojo(name = "binary")
+public class BinaryMojo extends AbstractGenerationMojo {
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        this.getLog().info("generating binary codecs for value objects with configuration:");
+        this.getLog().info("\t- destination package :" + this.getDestinationPackage());
+        this.getLog().info("\t- specification file  :" + this.getInputSpecification().getAbsolutePath());
+        this.getLog().info("\t- to output directory : " + this.getOutputDirectory().getAbsolutePath());
+
+        if(this.upToDate()) {
+            this.getLog().info("specification unchanged since last generation, skipping");
+            return;
+        }
+
+        try {
+            new GenerateBinaryDeleguate(this.getDestinationPackage(), this.getInputSpecification(), this.getOutputDirectory(), this.getParallelism()).run();
+            this.generated();
+        } catch (SpecSyntaxException | LowLevelSyntaxException e) {
+            throw new MojoFailureException("unparseable specification file : " + this.getInputSpecification().getAbsolutePath(), e);
+        } catch (IOException e) {
+            throw new MojoExecutionException("something went wrong while generating binary codecs for value objects at " + this.getDestinationPackage(), e);
+        }
+    }
+}
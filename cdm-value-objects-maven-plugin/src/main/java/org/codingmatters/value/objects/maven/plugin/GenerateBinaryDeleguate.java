@@ -0,0 +1,41 @@
+package org.codingmatters.value.objects.maven.plugin;
+
+import org.codingmatters.value.objects.exception.LowLevelSyntaxException;
+import org.codingmatters.value.objects.exception.SpecSyntaxException;
+import org.codingmatters.value.objects.json.binary.BinaryFrameworkGenerator;
+import org.codingmatters.value.objects.reader.SpecReader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Runs the binary codec generation for a specification file.
+ */
+public class GenerateBinaryDeleguate {
+    private final String destinationPackage;
+    private final File inputSpecification;
+    private final File outputDirectory;
+    private final int parallelism;
+
+    public GenerateBinaryDeleguate(String destinationPackage, File inputSpecification, File outputDirectory) {
+        this(destinationPackage, inputSpecification, outputDirectory, 1);
+    }
+
+    public GenerateBinaryDeleguate(String destinationPackage, File inputSpecification, File outputDirectory, int parallelism) {
+        this.destinationPackage = destinationPackage;
+        this.inputSpecification = inputSpecification;
+        this.outputDirectory = outputDirectory;
+        this.parallelism = parallelism;
+    }
+
+    public void run() throws SpecSyntaxException, IOException, LowLevelSyntaxException {
+        this.outputDirectory.mkdirs();
+        SpecReader reader = new SpecReader();
+
+        try(InputStream in = new FileInputStream(this.inputSpecification)) {
+            new BinaryFrameworkGenerator(reader.read(in), this.destinationPackage, this.outputDirectory, this.parallelism).generate();
+        }
+    }
+}
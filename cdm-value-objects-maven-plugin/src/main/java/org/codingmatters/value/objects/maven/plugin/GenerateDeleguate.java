@@ -18,11 +18,23 @@ public class GenerateDeleguate {
     private final String destinationPackage;
     private final File inputSpecification;
     private final File outputDirectory;
+    private final int parallelism;
+    private final boolean cachedHashCode;
 
     public GenerateDeleguate(String destinationPackage, File inputSpecification, File outputDirectory) {
+        this(destinationPackage, inputSpecification, outputDirectory, 1);
+    }
+
+    public GenerateDeleguate(String destinationPackage, File inputSpecification, File outputDirectory, int parallelism) {
+        this(destinationPackage, inputSpecification, outputDirectory, parallelism, false);
+    }
+
+    public GenerateDeleguate(String destinationPackage, File inputSpecification, File outputDirectory, int parallelism, boolean cachedHashCode) {
         this.destinationPackage = destinationPackage;
         this.inputSpecification = inputSpecification;
         this.outputDirectory = outputDirectory;
+        this.parallelism = parallelism;
+        this.cachedHashCode = cachedHashCode;
     }
 
     public void run() throws SpecSyntaxException, IOException, LowLevelSyntaxException {
@@ -30,7 +42,7 @@ public class GenerateDeleguate {
         SpecReader reader = new SpecReader();
 
         try(InputStream in = new FileInputStream(this.inputSpecification)) {
-            new SpecCodeGenerator(reader.read(in), this.destinationPackage, this.outputDirectory).generate();
+            new SpecCodeGenerator(reader.read(in), this.destinationPackage, this.outputDirectory, this.parallelism, this.cachedHashCode).generate();
         }
     }
 }
@@ -17,11 +17,23 @@ public class GenerateJsonDeleguate {
     private final String destinationPackage;
     private final File inputSpecification;
     private final File outputDirectory;
+    private final int parallelism;
+    private final boolean lazyReader;
 
     public GenerateJsonDeleguate(String destinationPackage, File inputSpecification, File outputDirectory) {
+        this(destinationPackage, inputSpecification, outputDirectory, 1);
+    }
+
+    public GenerateJsonDeleguate(String destinationPackage, File inputSpecification, File outputDirectory, int parallelism) {
+        this(destinationPackage, inputSpecification, outputDirectory, parallelism, false);
+    }
+
+    public GenerateJsonDeleguate(String destinationPackage, File inputSpecification, File outputDirectory, int parallelism, boolean lazyReader) {
         this.destinationPackage = destinationPackage;
         this.inputSpecification = inputSpecification;
         this.outputDirectory = outputDirectory;
+        this.parallelism = parallelism;
+        this.lazyReader = lazyReader;
     }
 
     public void run() throws SpecSyntaxException, IOException, LowLevelSyntaxException {
@@ -29,7 +41,7 @@ public class GenerateJsonDeleguate {
         SpecReader reader = new SpecReader();
 
         try(InputStream in = new FileInputStream(this.inputSpecification)) {
-            new JsonFrameworkGenerator(reader.read(in), this.destinationPackage, this.outputDirectory).generate();
+            new JsonFrameworkGenerator(reader.read(in), this.destinationPackage, this.outputDirectory, this.parallelism, this.lazyReader).generate();
         }
     }
 }
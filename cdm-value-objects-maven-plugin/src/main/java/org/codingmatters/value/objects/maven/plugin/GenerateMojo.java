@@ -3,6 +3,7 @@ package org.codingmatters.value.objects.maven.plugin;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 import org.codingmatters.value.objects.exception.LowLevelSyntaxException;
 import org.codingmatters.value.objects.exception.SpecSyntaxException;
 
@@ -14,19 +15,40 @@ import java.io.IOException;
 @Mojo(name = "generate")
 public class GenerateMojo extends AbstractGenerationMojo {
 
+    @Parameter(defaultValue = "false", alias = "cached-hash-code")
+    private boolean cachedHashCode;
+
+    public boolean isCachedHashCode() {
+        return cachedHashCode;
+    }
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         this.getLog().info("generating value object with configuration:");
         this.getLog().info("\t- destination package :" + this.getDestinationPackage());
         this.getLog().info("\t- specification file  :" + this.getInputSpecification().getAbsolutePath());
         this.getLog().info("\t- to output directory : " + this.getOutputDirectory().getAbsolutePath());
+        if(this.cachedHashCode) {
+            this.getLog().info("\t- with cached hash code");
+        }
+
+        if(this.upToDate()) {
+            this.getLog().info("specification unchanged since last generation, skipping");
+            return;
+        }
 
         try {
-            new GenerateDeleguate(this.getDestinationPackage(), this.getInputSpecification(), this.getOutputDirectory()).run();
+            new GenerateDeleguate(this.getDestinationPackage(), this.getInputSpecification(), this.getOutputDirectory(), this.getParallelism(), this.cachedHashCode).run();
+            this.generated();
         } catch (SpecSyntaxException | LowLevelSyntaxException e) {
             throw new MojoFailureException("unparseable specification file : " + this.getInputSpecification().getAbsolutePath(), e);
         } catch (IOException e) {
             throw new MojoExecutionException("something went wrong while generating value objects at " + this.getDestinationPackage(), e);
         }
     }
+
+    @Override
+    protected String[] configuration() {
+        return new String[] {String.valueOf(this.cachedHashCode)};
+    }
 }
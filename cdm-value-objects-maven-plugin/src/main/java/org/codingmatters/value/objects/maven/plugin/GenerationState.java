@@ -0,0 +1,87 @@
+package org.codingmatters.value.objects.maven.plugin;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Properties;
+
+/**
+ * Build state of the generation goals : for each goal execution, the fingerprint of its spec content, plugin artifacts
+ * and configuration at the time of the last successful generation.
+ */
+public class GenerationState {
+
+    private final File stateFile;
+
+    public GenerationState(File stateFile) {
+        this.stateFile = stateFile;
+    }
+
+    public boolean upToDate(String key, String fingerprint) throws IOException {
+        return fingerprint.equals(this.load().getProperty(key));
+    }
+
+    public void record(String key, String fingerprint) throws IOException {
+        Properties state = this.load();
+        state.setProperty(key, fingerprint);
+
+        this.stateFile.getParentFile().mkdirs();
+        try(OutputStream out = new FileOutputStream(this.stateFile)) {
+            state.store(out, "value objects generation state");
+        }
+    }
+
+    private Properties load() throws IOException {
+        Properties result = new Properties();
+        if(this.stateFile.exists()) {
+            try(InputStream in = new FileInputStream(this.stateFile)) {
+                result.load(in);
+            }
+        }
+        return result;
+    }
+
+    static public String fingerprint(File input, String ... configuration) throws IOException {
+        MessageDigest digest = sha256();
+        for (String value : configuration) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        digest(digest, input);
+        return hex(digest);
+    }
+
+    static private MessageDigest sha256() throws IOException {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("cannot fingerprint specs", e);
+        }
+    }
+
+    static private String hex(MessageDigest digest) {
+        StringBuilder result = new StringBuilder();
+        for (byte b : digest.digest()) {
+            result.append(String.format("%02x", b));
+        }
+        return result.toString();
+    }
+
+    static private void digest(MessageDigest digest, File input) throws IOException {
+        if(input.isDirectory()) {
+            File[] files = input.listFiles();
+            if(files == null) return;
+            Arrays.sort(files, Comparator.comparing(File::getName));
+            for (File file : files) {
+                digest.update(file.getName().getBytes(StandardCharsets.UTF_8));
+                digest(digest, file);
+            }
+        } else if(input.exists()) {
+            digest.update(Files.readAllBytes(input.toPath()));
+        }
+    }
+}
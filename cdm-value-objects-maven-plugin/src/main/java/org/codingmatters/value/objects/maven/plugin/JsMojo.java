@@ -37,6 +37,10 @@ public class JsMojo extends AbstractGenerationMojo {
         this.getLog().info( "\t- specification file  :" + this.getInputSpecification().getAbsolutePath() );
         this.getLog().info( "\t- to output directory : " + this.getOutputDirectory().getAbsolutePath() );
 
+        if( this.upToDate() ) {
+            this.getLog().info( "specification unchanged since last generation, skipping" );
+            return;
+        }
         try{
             File specFile = new File( this.getInputSpecification().getAbsolutePath() );
             PackageFilesBuilder packageBuilder = new PackageFilesBuilder();
@@ -62,6 +66,7 @@ public class JsMojo extends AbstractGenerationMojo {
                 PackageFilesGenerator packageFilesGenerator = new PackageFilesGenerator( packageBuilder, getOutputDirectory().getAbsolutePath() );
                 packageFilesGenerator.generateFiles();
                 new JsonPackageGenerator( getOutputDirectory() ).generatePackageJson( vendor, artifactId, version, getDestinationPackage().split( "\\." )[0] );
+                this.generated();
             } else {
                 throw new IOException( "Spec file not found" );
             }
@@ -69,4 +74,9 @@ public class JsMojo extends AbstractGenerationMojo {
             throw new MojoExecutionException( "Error generating js value objects", e );
         }
     }
+
+    @Override
+    protected String[] configuration() {
+        return new String[]{ this.vendor, this.artifactId, this.version };
+    }
 }
@@ -3,6 +3,7 @@ package org.codingmatters.value.objects.maven.plugin;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 import org.codingmatters.value.objects.exception.LowLevelSyntaxException;
 import org.codingmatters.value.objects.exception.SpecSyntaxException;
 
@@ -14,19 +15,40 @@ import java.io.IOException;
 @Mojo(name = "json")
 public class JsonMojo  extends AbstractGenerationMojo {
 
+    @Parameter(defaultValue = "false", alias = "lazy-reader")
+    private boolean lazyReader;
+
+    public boolean isLazyReader() {
+        return lazyReader;
+    }
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         this.getLog().info("generating json harness for value objects with configuration:");
         this.getLog().info("\t- destination package :" + this.getDestinationPackage());
         this.getLog().info("\t- specification file  :" + this.getInputSpecification().getAbsolutePath());
         this.getLog().info("\t- to output directory : " + this.getOutputDirectory().getAbsolutePath());
+        if(this.lazyReader) {
+            this.getLog().info("\t- with lazy reader");
+        }
+
+        if(this.upToDate()) {
+            this.getLog().info("specification unchanged since last generation, skipping");
+            return;
+        }
 
         try {
-            new GenerateJsonDeleguate(this.getDestinationPackage(), this.getInputSpecification(), this.getOutputDirectory()).run();
+            new GenerateJsonDeleguate(this.getDestinationPackage(), this.getInputSpecification(), this.getOutputDirectory(), this.getParallelism(), this.lazyReader).run();
+            this.generated();
         } catch (SpecSyntaxException | LowLevelSyntaxException e) {
             throw new MojoFailureException("unparseable specification file : " + this.getInputSpecification().getAbsolutePath(), e);
         } catch (IOException e) {
             throw new MojoExecutionException("something went wrong while generating json harness for value objects at " + this.getDestinationPackage(), e);
         }
     }
+
+    @Override
+    protected String[] configuration() {
+        return new String[] {String.valueOf(this.lazyReader)};
+    }
 }
@@ -26,9 +26,14 @@ public class PhpMojo extends AbstractGenerationMojo {
         this.getLog().info( "\t- specification file  :" + this.getInputSpecification().getAbsolutePath() );
         this.getLog().info( "\t- to output directory : " + this.getOutputDirectory().getAbsolutePath() );
         this.getLog().info( "\t- use type hinting: " + this.useTypeHintingReturnType );
+        if( this.upToDate() ) {
+            this.getLog().info( "specification unchanged since last generation, skipping" );
+            return;
+        }
         try( InputStream in = new FileInputStream( this.getInputSpecification() ) ) {
             Spec spec = new SpecReaderPhp().read( in );
-            new SpecPhpGenerator( spec, this.getDestinationPackage(), this.getOutputDirectory(), useTypeHintingReturnType ).generate();
+            new SpecPhpGenerator( spec, this.getDestinationPackage(), this.getOutputDirectory(), useTypeHintingReturnType, this.getParallelism() ).generate();
+            this.generated();
         } catch( IOException e ) {
             throw new MojoFailureException( "Something went wrong while reading spec: " + this.getInputSpecification().getAbsolutePath(), e );
         } catch( LowLevelSyntaxException e ) {
@@ -37,4 +42,9 @@ public class PhpMojo extends AbstractGenerationMojo {
 
     }
 
+    @Override
+    protected String[] configuration() {
+        return new String[]{ String.valueOf( this.useTypeHintingReturnType ) };
+    }
+
 }
@@ -24,6 +24,11 @@ public class PumlMojo extends AbstractGenerationMojo {
         return resourceDirectory;
     }
 
+    @Override
+    protected File generatedDirectory() {
+        return this.getResourceDirectory();
+    }
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         this.getLog().info("generating puml documentation for value objects with configuration:");
@@ -31,12 +36,18 @@ public class PumlMojo extends AbstractGenerationMojo {
         this.getLog().info("\t- specification file  :" + this.getInputSpecification().getAbsolutePath());
         this.getLog().info("\t- to output resource directory : " + this.getResourceDirectory().getAbsolutePath());
 
+        if(this.upToDate()) {
+            this.getLog().info("specification unchanged since last generation, skipping");
+            return;
+        }
+
         try {
             SpecReader reader = new SpecReader();
 
             try(InputStream in = new FileInputStream(this.getInputSpecification())) {
                 new PumlClassFromSpecGenerator(reader.read(in), this.getDestinationPackage(), this.getResourceDirectory()).generate();
             }
+            this.generated();
         } catch (SpecSyntaxException | LowLevelSyntaxException e) {
             throw new MojoFailureException("unparseable specification file : " + this.getInputSpecification().getAbsolutePath(), e);
         } catch (IOException e) {
@@ -0,0 +1,82 @@
+package org.codingmatters.value.objects.maven.plugin;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class GenerationStateTest {
+
+    @Rule
+    public TemporaryFolder dir = new TemporaryFolder();
+
+    @Test
+    public void givenNothingRecorded__thenNotUpToDate() throws Exception {
+        File spec = this.spec("spec.yaml", "val:\n  prop: string\n");
+        GenerationState state = new GenerationState(new File(this.dir.getRoot(), "target/state"));
+
+        assertThat(state.upToDate("key", GenerationState.fingerprint(spec, "1.0")), is(false));
+    }
+
+    @Test
+    public void givenRecorded__whenNothingChanged__thenUpToDate() throws Exception {
+        File spec = this.spec("spec.yaml", "val:\n  prop: string\n");
+        GenerationState state = new GenerationState(new File(this.dir.getRoot(), "target/state"));
+        state.record("key", GenerationState.fingerprint(spec, "1.0"));
+
+        assertThat(state.upToDate("key", GenerationState.fingerprint(spec, "1.0")), is(true));
+        assertThat(state.upToDate("other", GenerationState.fingerprint(spec, "1.0")), is(false));
+    }
+
+    @Test
+    public void givenRecorded__whenSpecOrConfigurationChanged__thenNotUpToDate() throws Exception {
+        File spec = this.spec("spec.yaml", "val:\n  prop: string\n");
+        GenerationState state = new GenerationState(new File(this.dir.getRoot(), "target/state"));
+        state.record("key", GenerationState.fingerprint(spec, "1.0"));
+
+        assertThat(state.upToDate("key", GenerationState.fingerprint(spec, "1.1")), is(false));
+
+        this.spec("spec.yaml", "val:\n  prop: long\n");
+        assertThat(state.upToDate("key", GenerationState.fingerprint(spec, "1.0")), is(false));
+    }
+
+    @Test
+    public void directoryFingerprintDependsOnFiles() throws Exception {
+        this.spec("specs/a.yaml", "a:\n  prop: string\n");
+        String before = GenerationState.fingerprint(new File(this.dir.getRoot(), "specs"));
+
+        this.spec("specs/b.yaml", "b:\n  prop: string\n");
+        assertThat(GenerationState.fingerprint(new File(this.dir.getRoot(), "specs")), is(not(before)));
+    }
+
+    @Test
+    public void givenSeveralExecutionsRecorded__whenOneChanges__thenOthersStayUpToDate() throws Exception {
+        File spec1 = this.spec("spec1.yaml", "val:\n  prop: string\n");
+        File spec2 = this.spec("spec2.yaml", "other:\n  prop: string\n");
+        GenerationState state = new GenerationState(new File(this.dir.getRoot(), "target/state"));
+        state.record("one", GenerationState.fingerprint(spec1, "1.0"));
+        state.record("two", GenerationState.fingerprint(spec2, "1.0"));
+
+        this.spec("spec1.yaml", "val:\n  prop: long\n");
+        state.record("one", GenerationState.fingerprint(spec1, "1.0"));
+
+        assertThat(state.upToDate("one", GenerationState.fingerprint(spec1, "1.0")), is(true));
+        assertThat(state.upToDate("two", GenerationState.fingerprint(spec2, "1.0")), is(true));
+    }
+
+    private File spec(String name, String content) throws IOException {
+        File result = new File(this.dir.getRoot(), name);
+        result.getParentFile().mkdirs();
+        try(FileWriter writer = new FileWriter(result)) {
+            writer.write(content);
+        }
+        return result;
+    }
+}
@@ -12,6 +12,7 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Locale;
@@ -29,7 +30,7 @@ public class PhpTypeClassWriter {
     private final String indent = "    ";
 
     public PhpTypeClassWriter( File targetDirectory, String packageName, String name ) throws IOException {
-        if( (!targetDirectory.exists() && !targetDirectory.mkdirs()) || !targetDirectory.isDirectory() ) {
+        if( !Files.isDirectory( Files.createDirectories( targetDirectory.toPath() ) ) ) {
             throw new IOException( "Target directory not exist or is not a directory" );
         }
         this.packageName = packageName;
@@ -15,18 +15,26 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
+import static org.codingmatters.value.objects.generation.GenerationUtils.generateAll;
+
 public class SpecPhpGenerator {
 
     private final Spec spec;
     private final String rootPackage;
     private final File rootDirectory;
     private boolean useReturnType = true;
+    private final int parallelism;
 
     public SpecPhpGenerator( Spec spec, String rootPackage, File targetDirectory, boolean useReturnType ) {
+        this( spec, rootPackage, targetDirectory, useReturnType, 1 );
+    }
+
+    public SpecPhpGenerator( Spec spec, String rootPackage, File targetDirectory, boolean useReturnType, int parallelism ) {
         this.spec = spec;
         this.rootPackage = rootPackage;
         this.rootDirectory = targetDirectory;
         this.useReturnType = useReturnType;
+        this.parallelism = parallelism;
     }
 
 
@@ -65,16 +73,16 @@ public class SpecPhpGenerator {
         }
 
         // GENERATE CLASSES
-        for( PackagedValueSpec valueSpec : packagedValueSpecs ) {
+        generateAll( packagedValueSpecs, this.parallelism, valueSpec -> {
             File packageDestination = new File( rootDirectory, valueSpec.packagename().replace( ".", "/" ) );
             this.writePhpFile( packageDestination, valueSpec );
-        }
+        } );
 
         // GENERATE READERS
-        for( PackagedValueSpec valueSpec : packagedValueSpecs ) {
+        generateAll( packagedValueSpecs, this.parallelism, valueSpec -> {
             File packageDestination = new File( rootDirectory, valueSpec.packagename().replace( ".", "/" ) + "/json" );
             this.writeJsonUtils( packageDestination, valueSpec );
-        }
+        } );
     }
 
     private void writeJsonUtils( File packageDestination, PackagedValueSpec valueObject ) throws IOException {
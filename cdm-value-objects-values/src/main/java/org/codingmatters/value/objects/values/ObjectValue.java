@@ -3,10 +3,8 @@ package org.codingmatters.value.objects.values;
 import org.codingmatters.value.objects.values.helper.ObjectValueToMap;
 import org.codingmatters.value.objects.values.optional.OptionalObjectValue;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 public interface ObjectValue {
@@ -17,9 +15,7 @@ public interface ObjectValue {
 
     static Builder from(ObjectValue value) {
         Builder result = builder();
-        for (String name : value.propertyNames()) {
-            result.property(name, value.property(name));
-        }
+        value.forEachProperty((name, property) -> result.property(name, property));
 
         return result;
     }
@@ -71,6 +67,16 @@ public interface ObjectValue {
     PropertyValue property(String property);
     String [] propertyNames();
 
+    default List<String> propertyNameList() {
+        return Collections.unmodifiableList(Arrays.asList(this.propertyNames()));
+    }
+
+    default void forEachProperty(BiConsumer<String, PropertyValue> consumer) {
+        for (String name : this.propertyNames()) {
+            consumer.accept(name, this.property(name));
+        }
+    }
+
     default Optional<PropertyValue> nonNullProperty(String property, PropertyValue.Type type, PropertyValue.Cardinality cardinality) {
         if(this.has(property)
                 && ! this.property(property).isNullValue()
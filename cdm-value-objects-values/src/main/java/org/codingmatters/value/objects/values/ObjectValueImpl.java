@@ -2,19 +2,27 @@ package org.codingmatters.value.objects.values;
 
 import org.codingmatters.value.objects.values.optional.OptionalObjectValue;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
 
 class ObjectValueImpl implements ObjectValue {
 
-    private final Map<String, PropertyValue> properties;
+    private final ObjectValueShape shape;
+    private final PropertyValue[] values;
 
     public ObjectValueImpl(Map<String, PropertyValue> properties) {
-        this.properties = new HashMap<>(properties);
+        this.shape = ObjectValueShape.of(properties.keySet());
+        this.values = new PropertyValue[this.shape.size()];
+        for (int i = 0; i < this.values.length; i++) {
+            this.values[i] = properties.get(this.shape.name(i));
+        }
     }
 
     public String[] properties() {
-        return this.properties.keySet().toArray(new String[this.properties.size()]);
+        return this.shape.names();
     }
 
     @Override
@@ -24,17 +32,30 @@ class ObjectValueImpl implements ObjectValue {
 
     @Override
     public boolean has(String property) {
-        return this.properties.containsKey(property);
+        return this.shape.indexOf(property) != -1;
     }
 
     @Override
     public PropertyValue property(String property) {
-        return this.properties.get(property);
+        int index = this.shape.indexOf(property);
+        return index != -1 ? this.values[index] : null;
     }
 
     @Override
     public String[] propertyNames() {
-        return this.properties.keySet().toArray(new String[this.properties.size()]);
+        return this.shape.names();
+    }
+
+    @Override
+    public List<String> propertyNameList() {
+        return this.shape.nameList();
+    }
+
+    @Override
+    public void forEachProperty(BiConsumer<String, PropertyValue> consumer) {
+        for (int i = 0; i < this.values.length; i++) {
+            consumer.accept(this.shape.name(i), this.values[i]);
+        }
     }
 
 
@@ -44,17 +65,39 @@ class ObjectValueImpl implements ObjectValue {
         if (o == null || getClass() != o.getClass()) return false;
 
         ObjectValueImpl that = (ObjectValueImpl) o;
-
-        return properties != null ? properties.equals(that.properties) : that.properties == null;
+        if(this.shape == that.shape) {
+            return Arrays.equals(this.values, that.values);
+        }
+        if(this.values.length != that.values.length) {
+            return false;
+        }
+        for (int i = 0; i < this.values.length; i++) {
+            int index = that.shape.indexOf(this.shape.name(i));
+            if(index == -1 || ! Objects.equals(this.values[i], that.values[index])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return properties != null ? properties.hashCode() : 0;
+        int result = 0;
+        for (int i = 0; i < this.values.length; i++) {
+            result += Objects.hashCode(this.shape.name(i)) ^ Objects.hashCode(this.values[i]);
+        }
+        return result;
     }
 
     @Override
     public String toString() {
-        return properties.toString();
+        StringBuilder result = new StringBuilder("{");
+        for (int i = 0; i < this.values.length; i++) {
+            if(i > 0) {
+                result.append(", ");
+            }
+            result.append(this.shape.name(i)).append('=').append(this.values[i]);
+        }
+        return result.append('}').toString();
     }
 }
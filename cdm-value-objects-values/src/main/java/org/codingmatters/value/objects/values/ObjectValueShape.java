@@ -0,0 +1,94 @@
+package org.codingmatters.value.objects.values;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Property name layout shared by the object values having the same property set.
+ *
+ * Names are sorted and shapes are interned up to value.objects.object.value.shape.cache.size (default 4096) distinct
+ * property sets. Interned shapes index names in a hash map, past the limit, shapes are created per object without an
+ * index and names are found by binary search.
+ */
+class ObjectValueShape {
+
+    static public final String SHAPE_CACHE_SIZE_PROPERTY = "value.objects.object.value.shape.cache.size";
+    static public final int DEFAULT_SHAPE_CACHE_SIZE = 4096;
+
+    static private final int SHAPE_CACHE_SIZE = Integer.getInteger(SHAPE_CACHE_SIZE_PROPERTY, DEFAULT_SHAPE_CACHE_SIZE);
+    static private final Map<List<String>, ObjectValueShape> SHAPES = new ConcurrentHashMap<>();
+    static private final Comparator<String> NAME_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    static final ObjectValueShape EMPTY = new ObjectValueShape(new String[0], false);
+
+    static ObjectValueShape of(Collection<String> names) {
+        if(names.isEmpty()) {
+            return EMPTY;
+        }
+        String[] sorted = names.toArray(new String[names.size()]);
+        Arrays.sort(sorted, NAME_ORDER);
+        if(sorted[0] == null) {
+            return new ObjectValueShape(sorted, false);
+        }
+
+        List<String> key = Arrays.asList(sorted);
+        ObjectValueShape result = SHAPES.get(key);
+        if(result == null) {
+            if(SHAPES.size() >= SHAPE_CACHE_SIZE) {
+                return new ObjectValueShape(sorted, false);
+            }
+            result = new ObjectValueShape(sorted, true);
+            ObjectValueShape existing = SHAPES.putIfAbsent(key, result);
+            if(existing != null) {
+                result = existing;
+            }
+        }
+        return result;
+    }
+
+    private final String[] names;
+    private final Map<String, Integer> indexes;
+    private List<String> nameList;
+
+    private ObjectValueShape(String[] names, boolean indexed) {
+        this.names = names;
+        if(indexed) {
+            this.indexes = new HashMap<>(names.length * 4 / 3 + 1);
+            for (int i = 0; i < names.length; i++) {
+                this.indexes.put(names[i], i);
+            }
+        } else {
+            this.indexes = null;
+        }
+    }
+
+    public int size() {
+        return this.names.length;
+    }
+
+    public String name(int index) {
+        return this.names[index];
+    }
+
+    public int indexOf(String name) {
+        if(this.indexes == null) {
+            int result = Arrays.binarySearch(this.names, name, NAME_ORDER);
+            return result >= 0 ? result : -1;
+        }
+        Integer result = this.indexes.get(name);
+        return result != null ? result : -1;
+    }
+
+    public String[] names() {
+        return this.names.clone();
+    }
+
+    public List<String> nameList() {
+        List<String> result = this.nameList;
+        if(result == null) {
+            result = Collections.unmodifiableList(Arrays.asList(this.names));
+            this.nameList = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,383 @@
+package org.codingmatters.value.objects.values;
+
+import java.util.Arrays;
+
+/**
+ * Unboxed storage for LONG, DOUBLE and BOOLEAN values : single values and compact MULTIPLE property values backed by
+ * primitive arrays. Compact property values box their Value[] on the first multiple() call.
+ */
+class PrimitivePropertyValues {
+
+    static class LongValue extends PropertyValueImpl.AbstractValue {
+        private final long value;
+
+        LongValue(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public Long longValue() {
+            return this.value;
+        }
+
+        @Override
+        public Double doubleValue() {
+            return (double) this.value;
+        }
+
+        @Override
+        public long primitiveLongValue() {
+            return this.value;
+        }
+
+        @Override
+        public double primitiveDoubleValue() {
+            return this.value;
+        }
+
+        @Override
+        public Object rawValue() {
+            return this.value;
+        }
+
+        @Override
+        public PropertyValue.Type type() {
+            return PropertyValue.Type.LONG;
+        }
+
+        @Override
+        public boolean isNull() {
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof LongValue) {
+                return this.value == ((LongValue) o).value;
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode(this.value);
+        }
+
+        static int hashCode(long value) {
+            return 31 * PropertyValue.Type.LONG.hashCode() + Long.hashCode(value);
+        }
+    }
+
+    static class DoubleValue extends PropertyValueImpl.AbstractValue {
+        private final double value;
+
+        DoubleValue(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public Long longValue() {
+            return (long) this.value;
+        }
+
+        @Override
+        public Double doubleValue() {
+            return this.value;
+        }
+
+        @Override
+        public long primitiveLongValue() {
+            return (long) this.value;
+        }
+
+        @Override
+        public double primitiveDoubleValue() {
+            return this.value;
+        }
+
+        @Override
+        public Object rawValue() {
+            return this.value;
+        }
+
+        @Override
+        public PropertyValue.Type type() {
+            return PropertyValue.Type.DOUBLE;
+        }
+
+        @Override
+        public boolean isNull() {
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof DoubleValue) {
+                return Double.doubleToLongBits(this.value) == Double.doubleToLongBits(((DoubleValue) o).value);
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode(this.value);
+        }
+
+        static int hashCode(double value) {
+            return 31 * PropertyValue.Type.DOUBLE.hashCode() + Double.hashCode(value);
+        }
+    }
+
+    static class BooleanValue extends PropertyValueImpl.AbstractValue {
+        static final BooleanValue TRUE = new BooleanValue(true);
+        static final BooleanValue FALSE = new BooleanValue(false);
+
+        static BooleanValue of(boolean value) {
+            return value ? TRUE : FALSE;
+        }
+
+        private final boolean value;
+
+        private BooleanValue(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        public Boolean booleanValue() {
+            return this.value;
+        }
+
+        @Override
+        public boolean primitiveBooleanValue() {
+            return this.value;
+        }
+
+        @Override
+        public Object rawValue() {
+            return this.value;
+        }
+
+        @Override
+        public PropertyValue.Type type() {
+            return PropertyValue.Type.BOOLEAN;
+        }
+
+        @Override
+        public boolean isNull() {
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof BooleanValue) {
+                return this.value == ((BooleanValue) o).value;
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode(this.value);
+        }
+
+        static int hashCode(boolean value) {
+            return 31 * PropertyValue.Type.BOOLEAN.hashCode() + Boolean.hashCode(value);
+        }
+    }
+
+    static abstract class PrimitiveArrayPropertyValue implements PropertyValue {
+
+        private volatile Value[] multiple;
+
+        protected abstract int size();
+        protected abstract Value value(int index);
+        protected abstract int valueHashCode(int index);
+
+        @Override
+        public Cardinality cardinality() {
+            return Cardinality.MULTIPLE;
+        }
+
+        @Override
+        public Object rawValue() {
+            return this.multiple();
+        }
+
+        @Override
+        public boolean isNullValue() {
+            return false;
+        }
+
+        @Override
+        public boolean isPrimitiveArray() {
+            return true;
+        }
+
+        @Override
+        public Value single() {
+            return this.size() > 0 ? this.value(0) : null;
+        }
+
+        @Override
+        public Value[] multiple() {
+            Value[] result = this.multiple;
+            if(result == null) {
+                result = new Value[this.size()];
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = this.value(i);
+                }
+                this.multiple = result;
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return PropertyValueImpl.propertyEquals(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            int valuesHashCode = 1;
+            for (int i = 0; i < this.size(); i++) {
+                valuesHashCode = 31 * valuesHashCode + this.valueHashCode(i);
+            }
+            return PropertyValueImpl.propertyHashCode(this.type(), this.cardinality(), valuesHashCode);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder result = new StringBuilder("[");
+            for (int i = 0; i < this.size(); i++) {
+                if(i > 0) {
+                    result.append(", ");
+                }
+                result.append(this.value(i));
+            }
+            return result.append("]").toString();
+        }
+    }
+
+    static class LongArrayPropertyValue extends PrimitiveArrayPropertyValue {
+        private final long[] values;
+
+        LongArrayPropertyValue(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Type type() {
+            return Type.LONG;
+        }
+
+        @Override
+        protected int size() {
+            return this.values.length;
+        }
+
+        @Override
+        protected Value value(int index) {
+            return new LongValue(this.values[index]);
+        }
+
+        @Override
+        protected int valueHashCode(int index) {
+            return LongValue.hashCode(this.values[index]);
+        }
+
+        @Override
+        public long[] longValues() {
+            return this.values.clone();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof LongArrayPropertyValue) {
+                return Arrays.equals(this.values, ((LongArrayPropertyValue) o).values);
+            }
+            return super.equals(o);
+        }
+    }
+
+    static class DoubleArrayPropertyValue extends PrimitiveArrayPropertyValue {
+        private final double[] values;
+
+        DoubleArrayPropertyValue(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Type type() {
+            return Type.DOUBLE;
+        }
+
+        @Override
+        protected int size() {
+            return this.values.length;
+        }
+
+        @Override
+        protected Value value(int index) {
+            return new DoubleValue(this.values[index]);
+        }
+
+        @Override
+        protected int valueHashCode(int index) {
+            return DoubleValue.hashCode(this.values[index]);
+        }
+
+        @Override
+        public double[] doubleValues() {
+            return this.values.clone();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof DoubleArrayPropertyValue) {
+                return Arrays.equals(this.values, ((DoubleArrayPropertyValue) o).values);
+            }
+            return super.equals(o);
+        }
+    }
+
+    static class BooleanArrayPropertyValue extends PrimitiveArrayPropertyValue {
+        private final boolean[] values;
+
+        BooleanArrayPropertyValue(boolean[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Type type() {
+            return Type.BOOLEAN;
+        }
+
+        @Override
+        protected int size() {
+            return this.values.length;
+        }
+
+        @Override
+        protected Value value(int index) {
+            return BooleanValue.of(this.values[index]);
+        }
+
+        @Override
+        protected int valueHashCode(int index) {
+            return BooleanValue.hashCode(this.values[index]);
+        }
+
+        @Override
+        public boolean[] booleanValues() {
+            return this.values.clone();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof BooleanArrayPropertyValue) {
+                return Arrays.equals(this.values, ((BooleanArrayPropertyValue) o).values);
+            }
+            return super.equals(o);
+        }
+    }
+}
@@ -51,6 +51,28 @@ public interface PropertyValue {
     }
 
 
+    static PropertyValue multipleLongs(long ... values) {
+        if(values == null) {
+            return new PropertyValueImpl(Type.LONG, Cardinality.MULTIPLE, null);
+        }
+        return new PrimitivePropertyValues.LongArrayPropertyValue(values.clone());
+    }
+
+    static PropertyValue multipleDoubles(double ... values) {
+        if(values == null) {
+            return new PropertyValueImpl(Type.DOUBLE, Cardinality.MULTIPLE, null);
+        }
+        return new PrimitivePropertyValues.DoubleArrayPropertyValue(values.clone());
+    }
+
+    static PropertyValue multipleBooleans(boolean ... values) {
+        if(values == null) {
+            return new PropertyValueImpl(Type.BOOLEAN, Cardinality.MULTIPLE, null);
+        }
+        return new PrimitivePropertyValues.BooleanArrayPropertyValue(values.clone());
+    }
+
+
     class Builder {
         private Type type = Type.OBJECT;
         private Object raw = null;
@@ -129,14 +151,31 @@ public interface PropertyValue {
         }
 
         public PropertyValue build() {
-            return new PropertyValueImpl(
-                    this.type,
-                    Cardinality.SINGLE,
-                    new Value[] {this.buildValue()}
-            );
+            PropertyValue cached = PropertyValueCache.cached(this.type, this.raw);
+            if(cached != null) {
+                return cached;
+            }
+            return new SinglePropertyValueImpl(this.type, this.newValue());
         }
 
         public Value buildValue() {
+            PropertyValue cached = PropertyValueCache.cached(this.type, this.raw);
+            if(cached != null) {
+                return cached.single();
+            }
+            return this.newValue();
+        }
+
+        private Value newValue() {
+            if(this.type == Type.LONG && this.raw instanceof Long) {
+                return new PrimitivePropertyValues.LongValue((Long) this.raw);
+            }
+            if(this.type == Type.DOUBLE && this.raw instanceof Double) {
+                return new PrimitivePropertyValues.DoubleValue((Double) this.raw);
+            }
+            if(this.type == Type.BOOLEAN && this.raw instanceof Boolean) {
+                return PrimitivePropertyValues.BooleanValue.of((Boolean) this.raw);
+            }
             return new PropertyValueImpl.ValueImpl(this.type, this.raw);
         }
 
@@ -236,6 +275,14 @@ public interface PropertyValue {
     Object rawValue();
     boolean isNullValue();
 
+    /**
+     * @return true when values are held in a primitive array (see multipleLongs, multipleDoubles and multipleBooleans),
+     * longValues, doubleValues or booleanValues can then be used for the property type without building Values.
+     */
+    default boolean isPrimitiveArray() {
+        return false;
+    }
+
     interface Value {
         String stringValue();
         Long longValue();
@@ -252,11 +299,53 @@ public interface PropertyValue {
         Type type();
 
         boolean isNull();
+
+        default long primitiveLongValue() {
+            return this.longValue();
+        }
+
+        default double primitiveDoubleValue() {
+            return this.doubleValue();
+        }
+
+        default boolean primitiveBooleanValue() {
+            return this.booleanValue();
+        }
     }
 
     Value single();
     Value[] multiple();
 
+    default long[] longValues() {
+        Value[] values = this.multiple();
+        if(values == null) return null;
+        long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i].primitiveLongValue();
+        }
+        return result;
+    }
+
+    default double[] doubleValues() {
+        Value[] values = this.multiple();
+        if(values == null) return null;
+        double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i].primitiveDoubleValue();
+        }
+        return result;
+    }
+
+    default boolean[] booleanValues() {
+        Value[] values = this.multiple();
+        if(values == null) return null;
+        boolean[] result = new boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i].primitiveBooleanValue();
+        }
+        return result;
+    }
+
     interface Changer {
         PropertyValue.Builder configure(PropertyValue.Builder builder);
     }
@@ -268,6 +357,15 @@ public interface PropertyValue {
     static PropertyValue fromObject(Object object) throws Type.UnsupportedTypeException {
         if(object == null) return null;
 
+        if(object instanceof long[]) {
+            return PropertyValue.multipleLongs((long[]) object);
+        }
+        if(object instanceof double[]) {
+            return PropertyValue.multipleDoubles((double[]) object);
+        }
+        if(object instanceof boolean[]) {
+            return PropertyValue.multipleBooleans((boolean[]) object);
+        }
         if(object instanceof Object[]) {
             object = Arrays.asList((Object[]) object);
         }
@@ -0,0 +1,105 @@
+package org.codingmatters.value.objects.values;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical single property values shared by PropertyValue.Builder : null values, booleans, empty string, longs from
+ * value.objects.property.value.cache.long.min (default -128) to value.objects.property.value.cache.long.max
+ * (default 1024), and, when value.objects.property.value.cache.string.pool.size is set, a bounded pool of strings no
+ * longer than value.objects.property.value.cache.string.max.length (default 32).
+ * <p>
+ * The long range is clamped to LONG_CACHE_MAX_SIZE values from its min, an inverted range disables the long cache.
+ */
+class PropertyValueCache {
+
+    static public final String LONG_MIN_PROPERTY = "value.objects.property.value.cache.long.min";
+    static public final String LONG_MAX_PROPERTY = "value.objects.property.value.cache.long.max";
+    static public final String STRING_POOL_SIZE_PROPERTY = "value.objects.property.value.cache.string.pool.size";
+    static public final String STRING_MAX_LENGTH_PROPERTY = "value.objects.property.value.cache.string.max.length";
+
+    static public final int LONG_CACHE_MAX_SIZE = 1 << 16;
+
+    static private final long LONG_MIN = Long.getLong(LONG_MIN_PROPERTY, -128L);
+    static private final int LONG_CACHE_SIZE = longCacheSize(LONG_MIN, Long.getLong(LONG_MAX_PROPERTY, 1024L));
+    static private final int STRING_POOL_SIZE = Integer.getInteger(STRING_POOL_SIZE_PROPERTY, 0);
+    static private final int STRING_MAX_LENGTH = Integer.getInteger(STRING_MAX_LENGTH_PROPERTY, 32);
+
+    static private final PropertyValue[] NULLS = new PropertyValue[PropertyValue.Type.values().length];
+    static private final PropertyValue TRUE = new SinglePropertyValueImpl(PropertyValue.Type.BOOLEAN, PrimitivePropertyValues.BooleanValue.TRUE);
+    static private final PropertyValue FALSE = new SinglePropertyValueImpl(PropertyValue.Type.BOOLEAN, PrimitivePropertyValues.BooleanValue.FALSE);
+    static private final PropertyValue EMPTY_STRING = single(PropertyValue.Type.STRING, new PropertyValueImpl.ValueImpl(PropertyValue.Type.STRING, ""));
+    static private final PropertyValue[] LONGS = new PropertyValue[LONG_CACHE_SIZE];
+    static private final Map<String, PropertyValue> STRINGS = new ConcurrentHashMap<>();
+
+    static {
+        for (PropertyValue.Type type : PropertyValue.Type.values()) {
+            NULLS[type.ordinal()] = single(type, new PropertyValueImpl.ValueImpl(type, null));
+        }
+        for (int i = 0; i < LONGS.length; i++) {
+            LONGS[i] = single(PropertyValue.Type.LONG, new PrimitivePropertyValues.LongValue(LONG_MIN + i));
+        }
+    }
+
+    static int longCacheSize(long min, long max) {
+        if(max < min) {
+            return 0;
+        }
+        long size = max - min + 1;
+        if(size <= 0 || size > LONG_CACHE_MAX_SIZE) {
+            return LONG_CACHE_MAX_SIZE;
+        }
+        return (int) size;
+    }
+
+    static private PropertyValue single(PropertyValue.Type type, PropertyValue.Value value) {
+        return new SinglePropertyValueImpl(type, value);
+    }
+
+    static PropertyValue cached(PropertyValue.Type type, Object raw) {
+        if(raw == null) {
+            return NULLS[type.ordinal()];
+        }
+        switch (type) {
+            case BOOLEAN:
+                if(raw instanceof Boolean) {
+                    return (Boolean) raw ? TRUE : FALSE;
+                }
+                return null;
+            case LONG:
+                if(raw instanceof Long) {
+                    long value = (Long) raw;
+                    long index = value - LONG_MIN;
+                    if(value >= LONG_MIN && index >= 0 && index < LONGS.length) {
+                        return LONGS[(int) index];
+                    }
+                }
+                return null;
+            case STRING:
+                if(raw instanceof String) {
+                    return pooled((String) raw);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    static private PropertyValue pooled(String value) {
+        if(value.isEmpty()) {
+            return EMPTY_STRING;
+        }
+        if(STRING_POOL_SIZE <= 0 || value.length() > STRING_MAX_LENGTH) {
+            return null;
+        }
+        PropertyValue result = STRINGS.get(value);
+        if(result == null && STRINGS.size() < STRING_POOL_SIZE) {
+            result = single(PropertyValue.Type.STRING, new PropertyValueImpl.ValueImpl(PropertyValue.Type.STRING, value));
+            PropertyValue existing = STRINGS.putIfAbsent(value, result);
+            if(existing != null) {
+                result = existing;
+            }
+        }
+        return result;
+    }
+}
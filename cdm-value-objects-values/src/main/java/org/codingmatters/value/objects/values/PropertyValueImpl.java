@@ -7,119 +7,142 @@ import java.util.Arrays;
 
 class PropertyValueImpl implements PropertyValue {
 
-    static class ValueImpl implements PropertyValue.Value {
-        private final Type type;
-        private final Object value;
-
-        public ValueImpl(Type type, Object value) {
-            this.type = type;
-            this.value = value;
-        }
+    static abstract class AbstractValue implements PropertyValue.Value {
 
         @Override
         public String stringValue() {
-            assert this.type.equals(Type.STRING);
-            return (String) this.value;
+            assert this.type().equals(Type.STRING);
+            return (String) this.rawValue();
         }
 
         @Override
         public Long longValue() {
-            if( this.type.equals( Type.DOUBLE ) ){
+            if( this.type().equals( Type.DOUBLE ) ){
                 return this.doubleValue().longValue();
             } else {
-                assert this.type.equals( Type.LONG );
-                return (Long) this.value;
+                assert this.type().equals( Type.LONG );
+                return (Long) this.rawValue();
             }
         }
 
         @Override
         public Double doubleValue() {
-            if( this.type.equals( Type.LONG ) ){
+            if( this.type().equals( Type.LONG ) ){
                 return this.longValue().doubleValue();
             } else {
-                assert this.type.equals( Type.DOUBLE );
-                return (Double) this.value;
+                assert this.type().equals( Type.DOUBLE );
+                return (Double) this.rawValue();
             }
         }
 
         @Override
         public Boolean booleanValue() {
-            assert this.type.equals(Type.BOOLEAN);
-            return (Boolean) this.value;
+            assert this.type().equals(Type.BOOLEAN);
+            return (Boolean) this.rawValue();
         }
 
         @Override
         public byte[] bytesValue() {
-            assert this.type.equals(Type.BYTES);
-            return (byte[]) this.value;
+            assert this.type().equals(Type.BYTES);
+            return (byte[]) this.rawValue();
         }
 
         @Override
         public LocalDate dateValue() {
-            assert this.type.equals(Type.DATE);
-            return (LocalDate) this.value;
+            assert this.type().equals(Type.DATE);
+            return (LocalDate) this.rawValue();
         }
 
         @Override
         public LocalTime timeValue() {
-            assert this.type.equals(Type.TIME);
-            return (LocalTime) this.value;
+            assert this.type().equals(Type.TIME);
+            return (LocalTime) this.rawValue();
         }
 
         @Override
         public LocalDateTime datetimeValue() {
-            assert this.type.equals(Type.DATETIME);
-            return (LocalDateTime) this.value;
+            assert this.type().equals(Type.DATETIME);
+            return (LocalDateTime) this.rawValue();
         }
 
         @Override
         public ObjectValue objectValue() {
-            assert this.type.equals(Type.OBJECT);
-            return (ObjectValue) this.value;
-        }
-
-        @Override
-        public Object rawValue() {
-            return this.value;
+            assert this.type().equals(Type.OBJECT);
+            return (ObjectValue) this.rawValue();
         }
 
         @Override
         public boolean isa(Type type) {
-            return this.type.equals(type);
-        }
-
-        @Override
-        public Type type() {
-            return this.type;
+            return this.type().equals(type);
         }
 
         @Override
         public boolean isNull() {
-            return this.value == null;
+            return this.rawValue() == null;
         }
 
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
+            if (o == null || ! (o instanceof AbstractValue)) return false;
 
-            ValueImpl value1 = (ValueImpl) o;
+            AbstractValue value1 = (AbstractValue) o;
 
-            if (type != value1.type) return false;
-            return value != null ? value.equals(value1.value) : value1.value == null;
+            if (this.type() != value1.type()) return false;
+            Object value = this.rawValue();
+            return value != null ? value.equals(value1.rawValue()) : value1.rawValue() == null;
         }
 
         @Override
         public int hashCode() {
-            int result = type != null ? type.hashCode() : 0;
+            Object value = this.rawValue();
+            int result = this.type() != null ? this.type().hashCode() : 0;
             result = 31 * result + (value != null ? value.hashCode() : 0);
             return result;
         }
 
         @Override
         public String toString() {
-            return value + " (" + type + ")";
+            return this.rawValue() + " (" + this.type() + ")";
+        }
+    }
+
+    static class ValueImpl extends AbstractValue {
+        private final Type type;
+        private final Object value;
+
+        public ValueImpl(Type type, Object value) {
+            this.type = type;
+            this.value = value;
         }
+
+        @Override
+        public Object rawValue() {
+            return this.value;
+        }
+
+        @Override
+        public Type type() {
+            return this.type;
+        }
+    }
+
+    static boolean propertyEquals(PropertyValue property, Object o) {
+        if (property == o) return true;
+        if (o == null || ! (o instanceof PropertyValue)) return false;
+
+        PropertyValue that = (PropertyValue) o;
+
+        if (property.type() != that.type()) return false;
+        if (property.cardinality() != that.cardinality()) return false;
+        return Arrays.deepEquals(property.multiple(), that.multiple());
+    }
+
+    static int propertyHashCode(Type type, Cardinality cardinality, int valuesHashCode) {
+        int result = type != null ? type.hashCode() : 0;
+        result = 31 * result + (cardinality != null ? cardinality.hashCode() : 0);
+        result = 31 * result + valuesHashCode;
+        return result;
     }
 
     private final Type type;
@@ -172,22 +195,16 @@ class PropertyValueImpl implements PropertyValue {
 
     @Override
     public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-
-        PropertyValueImpl that = (PropertyValueImpl) o;
-
-        if (type != that.type) return false;
-        if (cardinality != that.cardinality) return false;
-        return Arrays.deepEquals(value, that.value);
+        if (o != null && getClass() == o.getClass()) {
+            PropertyValueImpl that = (PropertyValueImpl) o;
+            return type == that.type && cardinality == that.cardinality && Arrays.deepEquals(value, that.value);
+        }
+        return propertyEquals(this, o);
     }
 
     @Override
     public int hashCode() {
-        int result = type != null ? type.hashCode() : 0;
-        result = 31 * result + (cardinality != null ? cardinality.hashCode() : 0);
-        result = 31 * result + Arrays.hashCode(value);
-        return result;
+        return propertyHashCode(this.type, this.cardinality, Arrays.hashCode(value));
     }
 
     @Override
@@ -0,0 +1,67 @@
+package org.codingmatters.value.objects.values;
+
+class SinglePropertyValueImpl implements PropertyValue {
+
+    private final Type type;
+    private final Value value;
+    private volatile Value[] multiple;
+
+    SinglePropertyValueImpl(Type type, Value value) {
+        this.type = type;
+        this.value = value;
+    }
+
+    @Override
+    public Type type() {
+        return this.type;
+    }
+
+    @Override
+    public Cardinality cardinality() {
+        return Cardinality.SINGLE;
+    }
+
+    @Override
+    public Object rawValue() {
+        return this.multiple();
+    }
+
+    @Override
+    public boolean isNullValue() {
+        return this.value == null || this.value.isNull();
+    }
+
+    @Override
+    public Value single() {
+        return this.value;
+    }
+
+    @Override
+    public Value[] multiple() {
+        Value[] result = this.multiple;
+        if(result == null) {
+            result = new Value[] {this.value};
+            this.multiple = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o != null && getClass() == o.getClass()) {
+            SinglePropertyValueImpl that = (SinglePropertyValueImpl) o;
+            return this.type == that.type && (this.value != null ? this.value.equals(that.value) : that.value == null);
+        }
+        return PropertyValueImpl.propertyEquals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return PropertyValueImpl.propertyHashCode(this.type, Cardinality.SINGLE, 31 + (this.value != null ? this.value.hashCode() : 0));
+    }
+
+    @Override
+    public String toString() {
+        return "" + this.value;
+    }
+}
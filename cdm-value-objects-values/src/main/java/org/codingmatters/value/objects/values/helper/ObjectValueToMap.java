@@ -11,9 +11,7 @@ import java.util.Map;
 public class ObjectValueToMap {
     static public Map<String, Object> toMap(ObjectValue value) {
         HashMap<String, Object> result = new HashMap<>();
-        for (String key : value.propertyNames()) {
-            result.put(key, toMap(value.property(key)));
-        }
+        value.forEachProperty((key, property) -> result.put(key, toMap(property)));
         return result;
     }
 
@@ -21,9 +19,13 @@ public class ObjectValueToMap {
         if(property == null || property.isNullValue()) {
             return null;
         }
+        if(property.isPrimitiveArray()) {
+            return primitives(property);
+        }
         if(property.cardinality().equals(PropertyValue.Cardinality.MULTIPLE)) {
-            List<Object> values = new ArrayList<>(property.multiple().length);
-            for (PropertyValue.Value value : property.multiple()) {
+            PropertyValue.Value[] multiple = property.multiple();
+            List<Object> values = new ArrayList<>(multiple.length);
+            for (PropertyValue.Value value : multiple) {
                 values.add(toObject(value));
             }
             return values;
@@ -32,6 +34,33 @@ public class ObjectValueToMap {
         }
     }
 
+    private static List<Object> primitives(PropertyValue property) {
+        List<Object> values;
+        switch (property.type()) {
+            case LONG:
+                long[] longs = property.longValues();
+                values = new ArrayList<>(longs.length);
+                for (long value : longs) {
+                    values.add(value);
+                }
+                return values;
+            case DOUBLE:
+                double[] doubles = property.doubleValues();
+                values = new ArrayList<>(doubles.length);
+                for (double value : doubles) {
+                    values.add(value);
+                }
+                return values;
+            default:
+                boolean[] booleans = property.booleanValues();
+                values = new ArrayList<>(booleans.length);
+                for (boolean value : booleans) {
+                    values.add(value);
+                }
+                return values;
+        }
+    }
+
     private static Object toObject(PropertyValue.Value value) {
         switch (value.type()) {
             case STRING:
@@ -0,0 +1,18 @@
+package org.codingmatters.value.objects.values.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * JsonFactory shared by the static read, writeTo and toBytes methods of ObjectValueReader and ObjectValueWriter.
+ * Streams passed by the caller are neither closed on read nor on write.
+ */
+public final class JsonFactoryHolder {
+    static public final JsonFactory FACTORY = new JsonFactory()
+            .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private JsonFactoryHolder() {
+    }
+}
@@ -0,0 +1,177 @@
+package org.codingmatters.value.objects.values.json;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Paths selecting subtrees of a json document, for instance <code>a.b[*].c</code>.
+ *
+ * Path segments are property names, <code>*</code> for any property, <code>[n]</code> for the n-th array element and
+ * <code>[*]</code> for any array element. The empty path selects the whole document.
+ *
+ * Matching is expressed with masks (one bit per path, at most 64 paths) so that walking a document doesn't allocate :
+ * a value at depth d is reached by the paths of its mask, and is selected by the paths of length d of its mask.
+ */
+public class JsonProjection {
+
+    static public JsonProjection of(String ... paths) {
+        if(paths == null || paths.length == 0) {
+            throw new IllegalArgumentException("at least one path is required");
+        }
+        if(paths.length > 64) {
+            throw new IllegalArgumentException("at most 64 paths are supported, was " + paths.length);
+        }
+        Segment[][] segments = new Segment[paths.length][];
+        for (int i = 0; i < paths.length; i++) {
+            segments[i] = parse(paths[i]);
+        }
+        return new JsonProjection(paths, segments);
+    }
+
+    static private Segment[] parse(String path) {
+        if(path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+        List<Segment> result = new ArrayList<>();
+        int i = 0;
+        while(i < path.length()) {
+            char c = path.charAt(i);
+            if(c == '.') {
+                i++;
+            } else if(c == '[') {
+                int end = path.indexOf(']', i);
+                if(end == -1) {
+                    throw new IllegalArgumentException("unclosed index in path : " + path);
+                }
+                String index = path.substring(i + 1, end).trim();
+                if(index.equals("*")) {
+                    result.add(Segment.ANY_ELEMENT);
+                } else {
+                    try {
+                        result.add(Segment.element(Integer.parseInt(index)));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("invalid index in path : " + path, e);
+                    }
+                }
+                i = end + 1;
+            } else {
+                int end = i;
+                while(end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                String name = path.substring(i, end);
+                result.add(name.equals("*") ? Segment.ANY_PROPERTY : Segment.property(name));
+                i = end;
+            }
+        }
+        return result.toArray(new Segment[result.size()]);
+    }
+
+    private final String[] paths;
+    private final Segment[][] segments;
+    private final long all;
+    private final int maxDepth;
+
+    private JsonProjection(String[] paths, Segment[][] segments) {
+        this.paths = paths;
+        this.segments = segments;
+        this.all = segments.length == 64 ? -1L : (1L << segments.length) - 1;
+        int maxDepth = 0;
+        for (Segment[] path : segments) {
+            maxDepth = Math.max(maxDepth, path.length);
+        }
+        this.maxDepth = maxDepth;
+    }
+
+    public int pathCount() {
+        return this.paths.length;
+    }
+
+    public String path(int index) {
+        return this.paths[index];
+    }
+
+    /**
+     * @return the length of the longest path, i.e. the deepest container a walk has to enter
+     */
+    public int maxDepth() {
+        return this.maxDepth;
+    }
+
+    /**
+     * @return the mask of the document root
+     */
+    public long root() {
+        return this.all;
+    }
+
+    /**
+     * @return the paths of mask reaching the name property of an object at depth
+     */
+    public long property(long mask, int depth, String name) {
+        long result = 0L;
+        for (int i = 0; i < this.segments.length; i++) {
+            if((mask & (1L << i)) != 0 && this.segments[i].length > depth && this.segments[i][depth].matchesProperty(name)) {
+                result |= 1L << i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the paths of mask reaching the index element of an array at depth
+     */
+    public long element(long mask, int depth, int index) {
+        long result = 0L;
+        for (int i = 0; i < this.segments.length; i++) {
+            if((mask & (1L << i)) != 0 && this.segments[i].length > depth && this.segments[i][depth].matchesElement(index)) {
+                result |= 1L << i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the paths of mask selecting a value at depth
+     */
+    public long selected(long mask, int depth) {
+        long result = 0L;
+        for (int i = 0; i < this.segments.length; i++) {
+            if((mask & (1L << i)) != 0 && this.segments[i].length == depth) {
+                result |= 1L << i;
+            }
+        }
+        return result;
+    }
+
+    static private class Segment {
+        static final Segment ANY_PROPERTY = new Segment(null, -1, true);
+        static final Segment ANY_ELEMENT = new Segment(null, -1, false);
+
+        static Segment property(String name) {
+            return new Segment(name, -1, true);
+        }
+
+        static Segment element(int index) {
+            return new Segment(null, index, false);
+        }
+
+        private final String name;
+        private final int index;
+        private final boolean property;
+
+        private Segment(String name, int index, boolean property) {
+            this.name = name;
+            this.index = index;
+            this.property = property;
+        }
+
+        boolean matchesProperty(String name) {
+            return this.property && (this.name == null || this.name.equals(name));
+        }
+
+        boolean matchesElement(int index) {
+            return ! this.property && (this.index == -1 || this.index == index);
+        }
+    }
+}
@@ -6,14 +6,44 @@ import org.codingmatters.value.objects.values.ObjectValue;
 import org.codingmatters.value.objects.values.PropertyValue;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.text.NumberFormat;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
 public class ObjectValueReader {
 
+    static public ObjectValue read(byte[] json) throws IOException {
+        try(JsonParser parser = JsonFactoryHolder.FACTORY.createParser(json)) {
+            return new ObjectValueReader().read(parser);
+        }
+    }
+
+    /**
+     * Reads the remaining bytes, buffer position is left unchanged.
+     */
+    static public ObjectValue read(ByteBuffer json) throws IOException {
+        if(json.hasArray()) {
+            try(JsonParser parser = JsonFactoryHolder.FACTORY.createParser(json.array(), json.arrayOffset() + json.position(), json.remaining())) {
+                return new ObjectValueReader().read(parser);
+            }
+        }
+        byte[] bytes = new byte[json.remaining()];
+        json.duplicate().get(bytes);
+        return read(bytes);
+    }
+
+    static public ObjectValue read(InputStream json) throws IOException {
+        try(JsonParser parser = JsonFactoryHolder.FACTORY.createParser(json)) {
+            return new ObjectValueReader().read(parser);
+        }
+    }
+
     public ObjectValue read(JsonParser parser) throws IOException {
         if(parser.getCurrentToken() == null) {
             parser.nextToken();
@@ -38,11 +68,7 @@ public class ObjectValueReader {
             PropertyValue propertyValue = null;
 
             parser.nextToken();
-            if(parser.currentToken() == JsonToken.START_ARRAY) {
-                propertyValue = this.multiplePropertyValue(parser);
-            } else {
-                propertyValue = this.singlePropertyValue(parser);
-            }
+            propertyValue = this.readPropertyValue(parser);
 
             builder.property(propertyName, propertyValue);
 
@@ -50,9 +76,54 @@ public class ObjectValueReader {
         return builder;
     }
 
+    PropertyValue readPropertyValue(JsonParser parser) throws IOException {
+        if(parser.currentToken() == JsonToken.START_ARRAY) {
+            return this.multiplePropertyValue(parser);
+        } else {
+            return this.singlePropertyValue(parser);
+        }
+    }
+
+    PropertyValue.Value readValue(JsonParser parser) throws IOException {
+        return this.valueBuilder(parser).buildValue();
+    }
+
     private PropertyValue multiplePropertyValue(JsonParser parser) throws IOException {
-        List<PropertyValue.Value> values = new LinkedList<>();
-        while (parser.nextToken() != JsonToken.END_ARRAY) {
+        List<PropertyValue.Value> values = new ArrayList<>();
+        JsonToken token = parser.nextToken();
+        if(token != null && token.isNumeric()) {
+            double[] doubles = new double[8];
+            int size = 0;
+            for (; token != null && token.isNumeric() ; token = parser.nextToken()) {
+                if(size == doubles.length) {
+                    doubles = Arrays.copyOf(doubles, size * 2);
+                }
+                doubles[size++] = parser.getDoubleValue();
+            }
+            if(token == JsonToken.END_ARRAY) {
+                return PropertyValue.multipleDoubles(Arrays.copyOf(doubles, size));
+            }
+            for (int i = 0; i < size; i++) {
+                values.add(PropertyValue.builder().doubleValue(doubles[i]).buildValue());
+            }
+        } else if(token != null && token.isBoolean()) {
+            boolean[] booleans = new boolean[8];
+            int size = 0;
+            for (; token != null && token.isBoolean() ; token = parser.nextToken()) {
+                if(size == booleans.length) {
+                    booleans = Arrays.copyOf(booleans, size * 2);
+                }
+                booleans[size++] = token == JsonToken.VALUE_TRUE;
+            }
+            if(token == JsonToken.END_ARRAY) {
+                return PropertyValue.multipleBooleans(Arrays.copyOf(booleans, size));
+            }
+            for (int i = 0; i < size; i++) {
+                values.add(PropertyValue.builder().booleanValue(booleans[i]).buildValue());
+            }
+        }
+
+        for (; token != JsonToken.END_ARRAY ; token = parser.nextToken()) {
             values.add(this.valueBuilder(parser).buildValue());
         }
 
@@ -64,13 +135,16 @@ public class ObjectValueReader {
         if(parser.currentToken() == JsonToken.VALUE_NULL) {
             return PropertyValue.builder()
                     .stringValue(null);
+        } else if(parser.currentToken() == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return PropertyValue.builder()
+                    .bytesValue(parser.getBinaryValue());
         } else if(parser.currentToken().isScalarValue()) {
             if (parser.currentToken().isBoolean()) {
                 return PropertyValue.builder()
-                        .booleanValue(Boolean.parseBoolean(parser.getText()));
+                        .booleanValue(parser.currentToken() == JsonToken.VALUE_TRUE);
             } else if (parser.currentToken().isNumeric()) {
                 return PropertyValue.builder()
-                            .doubleValue(Double.parseDouble(parser.getText()));
+                            .doubleValue(parser.getDoubleValue());
 //                try {
 //                    Number number = NumberFormat.getNumberInstance().parse(parser.getText());
 //                    return PropertyValue.builder()
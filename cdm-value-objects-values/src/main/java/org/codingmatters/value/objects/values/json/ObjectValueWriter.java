@@ -1,13 +1,37 @@
 package org.codingmatters.value.objects.values.json;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.BufferRecyclers;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import org.codingmatters.value.objects.values.ObjectValue;
 import org.codingmatters.value.objects.values.PropertyValue;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 public class ObjectValueWriter {
+
+    static public void writeTo(OutputStream out, ObjectValue value) throws IOException {
+        try(JsonGenerator generator = JsonFactoryHolder.FACTORY.createGenerator(out)) {
+            new ObjectValueWriter().write(generator, value);
+        }
+    }
+
+    static public byte[] toBytes(ObjectValue value) throws IOException {
+        ByteArrayBuilder bytes = new ByteArrayBuilder(BufferRecyclers.getBufferRecycler());
+        try {
+            try(JsonGenerator generator = JsonFactoryHolder.FACTORY.createGenerator(bytes)) {
+                new ObjectValueWriter().write(generator, value);
+            }
+            return bytes.toByteArray();
+        } finally {
+            bytes.release();
+        }
+    }
+
     public void write(JsonGenerator generator, ObjectValue value) throws IOException {
         this.writeObject(generator, value);
     }
@@ -24,29 +48,94 @@ public class ObjectValueWriter {
         }
     }
 
+    public void writeIterable(JsonGenerator generator, Iterable<ObjectValue> values) throws IOException {
+        this.writeIterator(generator, values != null ? values.iterator() : null, 0);
+    }
+
+    public void writeIterator(JsonGenerator generator, Iterator<ObjectValue> values) throws IOException {
+        this.writeIterator(generator, values, 0);
+    }
+
+    /**
+     * Writes values as they are iterated, flushing the generator every flushEvery values when flushEvery is positive.
+     */
+    public void writeIterator(JsonGenerator generator, Iterator<ObjectValue> values, int flushEvery) throws IOException {
+        if (values == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        int pending = 0;
+        while (values.hasNext()) {
+            ObjectValue value = values.next();
+            if (value != null) {
+                this.write(generator, value);
+            } else {
+                generator.writeNull();
+            }
+            if (flushEvery > 0 && ++pending == flushEvery) {
+                generator.flush();
+                pending = 0;
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeStream(JsonGenerator generator, Stream<ObjectValue> values) throws IOException {
+        this.writeStream(generator, values, 0);
+    }
+
+    public void writeStream(JsonGenerator generator, Stream<ObjectValue> values, int flushEvery) throws IOException {
+        this.writeIterator(generator, values != null ? values.iterator() : null, flushEvery);
+    }
+
     private void writeValue(JsonGenerator generator, PropertyValue property) throws IOException {
         if (property == null || property.isNullValue()) {
             generator.writeNull();
         } else if (PropertyValue.Cardinality.SINGLE.equals(property.cardinality())) {
             this.writeSingleValue(generator, property.single(), property.type());
+        } else if (property.isPrimitiveArray()) {
+            this.writePrimitiveArray(generator, property);
         } else if (PropertyValue.Cardinality.MULTIPLE.equals(property.cardinality())) {
             this.writeMultipleValue(generator, property.multiple(), property.type());
         }
     }
 
+    private void writePrimitiveArray(JsonGenerator generator, PropertyValue property) throws IOException {
+        switch (property.type()) {
+            case LONG:
+                long[] longs = property.longValues();
+                generator.writeArray(longs, 0, longs.length);
+                break;
+            case DOUBLE:
+                double[] doubles = property.doubleValues();
+                generator.writeArray(doubles, 0, doubles.length);
+                break;
+            case BOOLEAN:
+                generator.writeStartArray();
+                for (boolean value : property.booleanValues()) {
+                    generator.writeBoolean(value);
+                }
+                generator.writeEndArray();
+                break;
+            default:
+                this.writeMultipleValue(generator, property.multiple(), property.type());
+        }
+    }
+
     private void writeSingleValue(JsonGenerator generator, PropertyValue.Value value, PropertyValue.Type type) throws IOException {
         switch (type) {
             case STRING:
                 generator.writeString(value.stringValue());
                 break;
             case LONG:
-                generator.writeNumber(value.longValue());
+                generator.writeNumber(value.primitiveLongValue());
                 break;
             case DOUBLE:
-                generator.writeNumber(value.doubleValue());
+                generator.writeNumber(value.primitiveDoubleValue());
                 break;
             case BOOLEAN:
-                generator.writeBoolean(value.booleanValue());
+                generator.writeBoolean(value.primitiveBooleanValue());
                 break;
             case BYTES:
                 generator.writeBinary(value.bytesValue());
@@ -68,7 +157,7 @@ public class ObjectValueWriter {
 
     private void writeObject(JsonGenerator generator, ObjectValue objectValue) throws IOException {
         generator.writeStartObject();
-        for (String property : objectValue.propertyNames()) {
+        for (String property : objectValue.propertyNameList()) {
             generator.writeFieldName(property);
             this.writeValue(generator, objectValue.property(property));
         }
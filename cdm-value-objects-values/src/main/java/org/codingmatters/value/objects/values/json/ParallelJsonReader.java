@@ -0,0 +1,276 @@
+package org.codingmatters.value.objects.values.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Reads big newline delimited json files, or files holding a top level json array, on a pool of threads.
+ *
+ * The memory mapped file is split in chunks of about chunkSize bytes on value boundaries (new lines, or commas
+ * separating the top level array elements), each chunk is parsed with the element reader by a worker thread. Values
+ * are passed to the consumer from the calling thread, in file order when ordered, as chunks complete otherwise.
+ *
+ * The element reader is typically a generated reader's read method (<code>new BookReader()::read</code>), it is
+ * called concurrently and is given a parser positioned on the value's first token.
+ */
+public class ParallelJsonReader<V> {
+
+    @FunctionalInterface
+    public interface ElementReader<V> {
+        V read(JsonParser parser) throws IOException;
+    }
+
+    static public final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private final JsonFactory factory;
+    private final ElementReader<V> reader;
+    private final int parallelism;
+    private final int chunkSize;
+
+    public ParallelJsonReader(JsonFactory factory, ElementReader<V> reader, int parallelism) {
+        this(factory, reader, parallelism, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ParallelJsonReader(JsonFactory factory, ElementReader<V> reader, int parallelism, int chunkSize) {
+        if(chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk size must be positive, was " + chunkSize);
+        }
+        this.factory = factory;
+        this.reader = reader;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Reads a newline delimited json file, one value per line, blank lines are ignored.
+     */
+    public void readLines(File file, boolean ordered, Consumer<V> consumer) throws IOException {
+        try(MappedFile mapped = new MappedFile(file); Chunks chunks = new Chunks(ordered, consumer)) {
+            long start = 0;
+            while(start < mapped.size) {
+                long end = Math.min(start + this.chunkSize, mapped.size);
+                while(end < mapped.size && mapped.get(end - 1) != '\n') {
+                    end++;
+                }
+                chunks.submit(mapped, start, end, false);
+                start = end;
+            }
+            chunks.drain();
+        }
+    }
+
+    /**
+     * Reads a file holding a top level json array of values.
+     */
+    public void readArray(File file, boolean ordered, Consumer<V> consumer) throws IOException {
+        try(MappedFile mapped = new MappedFile(file); Chunks chunks = new Chunks(ordered, consumer)) {
+            long position = 0;
+            while(position < mapped.size && isWhitespace(mapped.get(position))) {
+                position++;
+            }
+            if(position >= mapped.size || mapped.get(position) != '[') {
+                throw new IOException("expected a top level json array in " + file.getAbsolutePath());
+            }
+
+            long start = position + 1;
+            int depth = 0;
+            boolean inString = false;
+            for (position = start; position < mapped.size; position++) {
+                byte b = mapped.get(position);
+                if(inString) {
+                    if(b == '\\') {
+                        position++;
+                    } else if(b == '"') {
+                        inString = false;
+                    }
+                } else if(b == '"') {
+                    inString = true;
+                } else if(b == '{' || b == '[') {
+                    depth++;
+                } else if(b == '}' || b == ']') {
+                    if(depth == 0) {
+                        chunks.submit(mapped, start, position, true);
+                        chunks.drain();
+                        return;
+                    }
+                    depth--;
+                } else if(b == ',' && depth == 0 && position - start >= this.chunkSize) {
+                    chunks.submit(mapped, start, position, true);
+                    start = position + 1;
+                }
+            }
+            throw new IOException("unterminated top level json array in " + file.getAbsolutePath());
+        }
+    }
+
+    private List<V> parse(MappedFile mapped, long start, long end, boolean arrayElements) throws IOException {
+        if(end - start > Integer.MAX_VALUE - 2) {
+            throw new IOException("value too big to be read at offset " + start);
+        }
+        int length = (int) (end - start);
+        List<V> result = new ArrayList<>();
+        if(arrayElements) {
+            byte[] bytes = new byte[length + 2];
+            bytes[0] = '[';
+            mapped.copy(start, bytes, 1, length);
+            bytes[length + 1] = ']';
+            try(JsonParser parser = this.factory.createParser(bytes)) {
+                parser.nextToken();
+                while(parser.nextToken() != JsonToken.END_ARRAY) {
+                    result.add(this.element(parser));
+                }
+            }
+        } else {
+            byte[] bytes = new byte[length];
+            mapped.copy(start, bytes, 0, length);
+            try(JsonParser parser = this.factory.createParser(bytes)) {
+                while(parser.nextToken() != null) {
+                    result.add(this.element(parser));
+                }
+            }
+        }
+        return result;
+    }
+
+    private V element(JsonParser parser) throws IOException {
+        if(parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return this.reader.read(parser);
+    }
+
+    static private boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    /**
+     * Submits chunks to the pool, at most two chunks per thread are pending.
+     */
+    private class Chunks implements AutoCloseable {
+        private final boolean ordered;
+        private final Consumer<V> consumer;
+        private final ExecutorService pool;
+        private final CompletionService<List<V>> completion;
+        private final Deque<Future<List<V>>> pending = new ArrayDeque<>();
+
+        Chunks(boolean ordered, Consumer<V> consumer) {
+            this.ordered = ordered;
+            this.consumer = consumer;
+            this.pool = parallelism > 1 ? Executors.newFixedThreadPool(parallelism) : null;
+            this.completion = this.pool != null && ! ordered ? new ExecutorCompletionService<>(this.pool) : null;
+        }
+
+        void submit(MappedFile mapped, long start, long end, boolean arrayElements) throws IOException {
+            if(this.pool == null) {
+                this.consume(parse(mapped, start, end, arrayElements));
+                return;
+            }
+            if(this.pending.size() >= 2 * parallelism) {
+                this.next();
+            }
+            Callable<List<V>> task = () -> parse(mapped, start, end, arrayElements);
+            this.pending.add(this.ordered ? this.pool.submit(task) : this.completion.submit(task));
+        }
+
+        void drain() throws IOException {
+            while(! this.pending.isEmpty()) {
+                this.next();
+            }
+        }
+
+        private void next() throws IOException {
+            try {
+                if(this.ordered) {
+                    this.consume(this.pending.poll().get());
+                } else {
+                    Future<List<V>> done = this.completion.take();
+                    this.pending.remove(done);
+                    this.consume(done.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("parallel read interrupted", e);
+            } catch (ExecutionException e) {
+                if(e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                } else if(e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                } else if(e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw new IOException("parallel read failed", e.getCause());
+            }
+        }
+
+        private void consume(List<V> values) {
+            for (V value : values) {
+                this.consumer.accept(value);
+            }
+        }
+
+        @Override
+        public void close() {
+            if(this.pool != null) {
+                this.pool.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Maps the file by segments, as a mapped buffer cannot exceed 2GB.
+     */
+    static private class MappedFile implements AutoCloseable {
+        static private final int SEGMENT_SHIFT = 30;
+        static private final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+        private final FileChannel channel;
+        private final MappedByteBuffer[] segments;
+        private final long size;
+
+        MappedFile(File file) throws IOException {
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            this.size = this.channel.size();
+            this.segments = new MappedByteBuffer[(int) ((this.size + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+            for (int i = 0; i < this.segments.length; i++) {
+                long offset = (long) i << SEGMENT_SHIFT;
+                this.segments[i] = this.channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(SEGMENT_MASK + 1, this.size - offset));
+            }
+        }
+
+        byte get(long position) {
+            return this.segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & SEGMENT_MASK));
+        }
+
+        void copy(long position, byte[] to, int offset, int length) {
+            while(length > 0) {
+                ByteBuffer segment = this.segments[(int) (position >>> SEGMENT_SHIFT)].duplicate();
+                int segmentPosition = (int) (position & SEGMENT_MASK);
+                int count = Math.min(length, segment.limit() - segmentPosition);
+                segment.position(segmentPosition);
+                segment.get(to, offset, count);
+                position += count;
+                offset += count;
+                length -= count;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.channel.close();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.codingmatters.value.objects.values.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.codingmatters.value.objects.values.ObjectValue;
+import org.codingmatters.value.objects.values.PropertyValue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads an ObjectValue keeping only the subtrees selected by a JsonProjection, the rest of the document is skipped
+ * without being built. Objects and arrays on the way to a selected value are kept when they contain a selected value.
+ */
+public class ProjectedObjectValueReader {
+
+    private final JsonProjection projection;
+    private final ObjectValueReader reader = new ObjectValueReader();
+
+    public ProjectedObjectValueReader(JsonProjection projection) {
+        this.projection = projection;
+    }
+
+    public ProjectedObjectValueReader(String ... paths) {
+        this(JsonProjection.of(paths));
+    }
+
+    public ObjectValue read(JsonParser parser) throws IOException {
+        if(parser.getCurrentToken() == null) {
+            parser.nextToken();
+        }
+        if(parser.currentToken() == null) return null;
+        if(parser.currentToken() == JsonToken.VALUE_NULL) return null;
+        if(parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new IOException(
+                    String.format("reading a %s object, was expecting %s, but was %s",
+                            ObjectValue.class.getName(), JsonToken.START_OBJECT, parser.currentToken()
+                    )
+            );
+        }
+
+        long root = this.projection.root();
+        if(this.projection.selected(root, 0) != 0) {
+            return this.reader.read(parser);
+        }
+        return this.objectValue(parser, root, 0).build();
+    }
+
+    private ObjectValue.Builder objectValue(JsonParser parser, long mask, int depth) throws IOException {
+        ObjectValue.Builder builder = ObjectValue.builder();
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String propertyName = parser.getCurrentName();
+            long propertyMask = this.projection.property(mask, depth, propertyName);
+            parser.nextToken();
+
+            if(propertyMask == 0L) {
+                parser.skipChildren();
+            } else if(this.projection.selected(propertyMask, depth + 1) != 0L) {
+                builder.property(propertyName, this.reader.readPropertyValue(parser));
+            } else if(parser.currentToken() == JsonToken.START_OBJECT) {
+                ObjectValue value = this.objectValue(parser, propertyMask, depth + 1).build();
+                if(! value.propertyNameList().isEmpty()) {
+                    builder.property(propertyName, PropertyValue.builder().objectValue(value).build());
+                }
+            } else if(parser.currentToken() == JsonToken.START_ARRAY) {
+                PropertyValue value = this.multiplePropertyValue(parser, propertyMask, depth + 1);
+                if(value != null) {
+                    builder.property(propertyName, value);
+                }
+            }
+        }
+        return builder;
+    }
+
+    private PropertyValue multiplePropertyValue(JsonParser parser, long mask, int depth) throws IOException {
+        List<PropertyValue.Value> values = new ArrayList<>();
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            long elementMask = this.projection.element(mask, depth, index++);
+            if(elementMask == 0L || parser.currentToken() == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+            } else if(this.projection.selected(elementMask, depth + 1) != 0L) {
+                values.add(this.reader.readValue(parser));
+            } else if(parser.currentToken() == JsonToken.START_OBJECT) {
+                ObjectValue value = this.objectValue(parser, elementMask, depth + 1).build();
+                if(! value.propertyNameList().isEmpty()) {
+                    values.add(PropertyValue.builder().objectValue(value).buildValue());
+                }
+            }
+        }
+        if(values.isEmpty()) return null;
+        return PropertyValue.multiple(values.get(0).type(), values.toArray(new PropertyValue.Value[values.size()]));
+    }
+}
@@ -1,20 +1,37 @@
 package org.codingmatters.value.objects.values.vals;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Objects;
 
 class ArrayValImpl implements Val.ArrayVal {
 
-    private final ArrayList<Val> vals;
+    private final Val[] vals;
+    private final int size;
 
-    protected ArrayValImpl(List<Val> vals) {
-        this.vals = new ArrayList<>(vals);
+    /**
+     * Takes ownership of the vals array, only the size first elements are the array's values.
+     */
+    ArrayValImpl(Val[] vals, int size) {
+        this.vals = vals;
+        this.size = size;
     }
 
     @Override
     public Val[] values() {
-        return this.vals.toArray(new Val[0]);
+        return Arrays.copyOf(this.vals, this.size);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Val get(int index) {
+        if(index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + this.size);
+        }
+        return this.vals[index];
     }
 
     @Override
@@ -29,7 +46,14 @@ class ArrayValImpl implements Val.ArrayVal {
 
     @Override
     public String toString() {
-        return this.vals.toString();
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            if(i > 0) {
+                result.append(", ");
+            }
+            result.append(this.vals[i]);
+        }
+        return result.append("]").toString();
     }
 
     @Override
@@ -37,11 +61,19 @@ class ArrayValImpl implements Val.ArrayVal {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ArrayValImpl arrayVal = (ArrayValImpl) o;
-        return Objects.deepEquals(vals, arrayVal.vals);
+        if (this.size != arrayVal.size) return false;
+        for (int i = 0; i < this.size; i++) {
+            if (! Objects.equals(this.vals[i], arrayVal.vals[i])) return false;
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(vals);
+        int result = 1;
+        for (int i = 0; i < this.size; i++) {
+            result = 31 * result + Objects.hashCode(this.vals[i]);
+        }
+        return 31 + result;
     }
 }
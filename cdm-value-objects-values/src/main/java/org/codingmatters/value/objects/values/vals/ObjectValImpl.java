@@ -1,16 +1,16 @@
 package org.codingmatters.value.objects.values.vals;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.function.BiConsumer;
 
 class ObjectValImpl implements Val.ObjectVal {
 
     private final HashMap<String, Val> props;
+    private final List<String> names;
 
     ObjectValImpl(Map<String, Val> props) {
         this.props = new HashMap<>(props);
+        this.names = Collections.unmodifiableList(new ArrayList<>(this.props.keySet()));
     }
 
     @Override
@@ -20,7 +20,17 @@ class ObjectValImpl implements Val.ObjectVal {
 
     @Override
     public String[] propertyNames() {
-        return this.props.keySet().toArray(new String[0]);
+        return this.names.toArray(new String[this.names.size()]);
+    }
+
+    @Override
+    public List<String> propertyNameList() {
+        return this.names;
+    }
+
+    @Override
+    public void forEachProperty(BiConsumer<String, Val> consumer) {
+        this.props.forEach(consumer);
     }
 
     @Override
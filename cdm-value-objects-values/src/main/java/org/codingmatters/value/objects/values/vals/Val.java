@@ -3,8 +3,8 @@ package org.codingmatters.value.objects.values.vals;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.*;
+import java.util.function.BiConsumer;
 
 public interface Val {
 
@@ -72,6 +72,10 @@ public interface Val {
         return ArrayVal.builder();
     }
 
+    static ArrayVal.Builder array(int capacity) {
+        return ArrayVal.builder(capacity);
+    }
+
     static ObjectVal.Builder object() {
         return ObjectVal.builder();
     }
@@ -79,32 +83,68 @@ public interface Val {
     interface ArrayVal extends Val {
         Val[] values();
 
+        default int size() {
+            return this.values().length;
+        }
+
+        default Val get(int index) {
+            return this.values()[index];
+        }
+
         static Builder builder() {
             return new Builder();
         }
+
+        static Builder builder(int capacity) {
+            return new Builder(capacity);
+        }
+
         class Builder {
-            private final LinkedList<Val> values = new LinkedList<>();
+            static private final Val[] EMPTY = new Val[0];
+
+            private Val[] values;
+            private int size = 0;
+            private boolean shared = false;
+
+            public Builder() {
+                this(0);
+            }
+
+            public Builder(int capacity) {
+                this.values = capacity > 0 ? new Val[capacity] : EMPTY;
+            }
 
             public Builder values(Val...vals) {
-                this.values.clear();
-                if(vals != null) {
-                    for (Val val : vals) {
-                        this.values.add(val);
-                    }
+                this.size = 0;
+                if(this.shared) {
+                    this.values = EMPTY;
+                    this.shared = false;
                 }
-                return this;
+                return this.with(vals);
             }
             public Builder with(Val... vals) {
                 if(vals != null) {
-                    for (Val val : vals) {
-                        this.values.add(val);
-                    }
+                    this.ensureCapacity(this.size + vals.length);
+                    System.arraycopy(vals, 0, this.values, this.size, vals.length);
+                    this.size += vals.length;
                 }
                 return this;
             }
 
+            private void ensureCapacity(int capacity) {
+                if(this.shared || capacity > this.values.length) {
+                    int length = this.values.length;
+                    while(length < capacity) {
+                        length = Math.max(length * 2, 8);
+                    }
+                    this.values = Arrays.copyOf(this.values, length);
+                    this.shared = false;
+                }
+            }
+
             public ArrayVal build() {
-                return new ArrayValImpl(this.values);
+                this.shared = this.values != EMPTY;
+                return new ArrayValImpl(this.values, this.size);
             }
         }
     }
@@ -113,6 +153,16 @@ public interface Val {
         Val property(String name);
         String[] propertyNames();
 
+        default List<String> propertyNameList() {
+            return Collections.unmodifiableList(Arrays.asList(this.propertyNames()));
+        }
+
+        default void forEachProperty(BiConsumer<String, Val> consumer) {
+            for (String name : this.propertyNames()) {
+                consumer.accept(name, this.property(name));
+            }
+        }
+
         static Builder builder() {
             return new Builder();
         }
@@ -0,0 +1,90 @@
+package org.codingmatters.value.objects.values.vals.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.codingmatters.value.objects.values.json.JsonProjection;
+import org.codingmatters.value.objects.values.vals.Val;
+
+import java.io.IOException;
+
+/**
+ * Reads a Val keeping only the subtrees selected by a JsonProjection, the rest of the document is skipped without
+ * being built. Objects and arrays on the way to a selected value are kept when they contain a selected value.
+ */
+public class ProjectedValReader {
+
+    private final JsonProjection projection;
+    private final ValReader reader = new ValReader();
+
+    public ProjectedValReader(JsonProjection projection) {
+        this.projection = projection;
+    }
+
+    public ProjectedValReader(String ... paths) {
+        this(JsonProjection.of(paths));
+    }
+
+    public Val read(JsonParser parser) throws IOException {
+        if(parser.currentToken() == null) {
+            parser.nextToken();
+        }
+        if(parser.currentToken() == null) return null;
+
+        return this.parse(parser, this.projection.root(), 0);
+    }
+
+    private Val parse(JsonParser parser, long mask, int depth) throws IOException {
+        if(this.projection.selected(mask, depth) != 0L) {
+            return this.reader.read(parser);
+        }
+        if(parser.currentToken() == JsonToken.START_OBJECT) {
+            return this.parseObject(parser, mask, depth);
+        } else if(parser.currentToken() == JsonToken.START_ARRAY) {
+            return this.parseArray(parser, mask, depth);
+        } else {
+            return null;
+        }
+    }
+
+    private Val parseArray(JsonParser parser, long mask, int depth) throws IOException {
+        Val.ArrayVal.Builder builder = null;
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            long elementMask = this.projection.element(mask, depth, index++);
+            if(elementMask == 0L) {
+                parser.skipChildren();
+            } else {
+                Val val = this.parse(parser, elementMask, depth + 1);
+                if(val != null) {
+                    if(builder == null) {
+                        builder = Val.array();
+                    }
+                    builder.with(val);
+                }
+            }
+        }
+        return builder != null ? builder.build() : null;
+    }
+
+    private Val parseObject(JsonParser parser, long mask, int depth) throws IOException {
+        Val.ObjectVal.Builder builder = null;
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String propertyName = parser.getCurrentName();
+            long propertyMask = this.projection.property(mask, depth, propertyName);
+            parser.nextToken();
+            if(propertyMask == 0L) {
+                parser.skipChildren();
+            } else {
+                boolean selected = this.projection.selected(propertyMask, depth + 1) != 0L;
+                Val val = this.parse(parser, propertyMask, depth + 1);
+                if(val != null || selected) {
+                    if(builder == null) {
+                        builder = Val.object();
+                    }
+                    builder.property(propertyName, val);
+                }
+            }
+        }
+        return builder != null ? builder.build() : null;
+    }
+}
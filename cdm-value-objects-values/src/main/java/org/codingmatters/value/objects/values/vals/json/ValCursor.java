@@ -0,0 +1,158 @@
+package org.codingmatters.value.objects.values.vals.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.codingmatters.value.objects.values.ObjectValue;
+import org.codingmatters.value.objects.values.json.JsonProjection;
+import org.codingmatters.value.objects.values.json.ObjectValueReader;
+import org.codingmatters.value.objects.values.vals.Val;
+
+import java.io.IOException;
+
+/**
+ * Pull cursor over the values of a json stream selected by a JsonProjection. Root values are read one after the
+ * other, so that a newline delimited json stream can be walked with a single cursor.
+ *
+ * Moving the cursor doesn't allocate : scalar values are accessed from the parser, selected objects and arrays are
+ * skipped unless they are explicitly read with readVal or readObjectValue.
+ */
+public class ValCursor {
+
+    private final JsonParser parser;
+    private final JsonProjection projection;
+
+    private final long[] masks;
+    private final boolean[] arrays;
+    private final int[] indexes;
+    private int depth = 0;
+
+    private long matched = 0L;
+    private String name;
+    private int index = -1;
+    private boolean pendingSkip = false;
+
+    public ValCursor(JsonParser parser, JsonProjection projection) {
+        this.parser = parser;
+        this.projection = projection;
+        this.masks = new long[projection.maxDepth()];
+        this.arrays = new boolean[projection.maxDepth()];
+        this.indexes = new int[projection.maxDepth()];
+    }
+
+    public ValCursor(JsonParser parser, String ... paths) {
+        this(parser, JsonProjection.of(paths));
+    }
+
+    /**
+     * Moves to the next selected value.
+     *
+     * @return false when the stream is exhausted
+     */
+    public boolean next() throws IOException {
+        if(this.pendingSkip) {
+            this.parser.skipChildren();
+            this.pendingSkip = false;
+        }
+        this.matched = 0L;
+
+        JsonToken token;
+        while ((token = this.parser.nextToken()) != null) {
+            long mask;
+            if(this.depth == 0) {
+                this.name = null;
+                this.index = -1;
+                mask = this.projection.root();
+            } else if(token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                this.depth--;
+                continue;
+            } else if(this.arrays[this.depth - 1]) {
+                this.name = null;
+                this.index = this.indexes[this.depth - 1]++;
+                mask = this.projection.element(this.masks[this.depth - 1], this.depth - 1, this.index);
+            } else {
+                this.name = this.parser.getCurrentName();
+                this.index = -1;
+                mask = this.projection.property(this.masks[this.depth - 1], this.depth - 1, this.name);
+                token = this.parser.nextToken();
+            }
+
+            if(mask == 0L) {
+                this.parser.skipChildren();
+                continue;
+            }
+
+            long selected = this.projection.selected(mask, this.depth);
+            if(selected != 0L) {
+                this.matched = selected;
+                this.pendingSkip = token.isStructStart();
+                return true;
+            }
+            if(token.isStructStart()) {
+                this.masks[this.depth] = mask;
+                this.arrays[this.depth] = token == JsonToken.START_ARRAY;
+                this.indexes[this.depth] = 0;
+                this.depth++;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the mask of the projection paths selecting the current value, bit i being set when path i matches
+     */
+    public long matched() {
+        return this.matched;
+    }
+
+    public boolean matches(int path) {
+        return (this.matched & (1L << path)) != 0L;
+    }
+
+    /**
+     * @return the property name of the current value, null if the current value is not an object property
+     */
+    public String fieldName() {
+        return this.name;
+    }
+
+    /**
+     * @return the index of the current value in its array, -1 if the current value is not an array element
+     */
+    public int index() {
+        return this.index;
+    }
+
+    public JsonToken currentToken() {
+        return this.parser.currentToken();
+    }
+
+    public boolean isNull() {
+        return this.parser.currentToken() == JsonToken.VALUE_NULL;
+    }
+
+    public long longValue() throws IOException {
+        return this.parser.getLongValue();
+    }
+
+    public double doubleValue() throws IOException {
+        return this.parser.getDoubleValue();
+    }
+
+    public boolean booleanValue() throws IOException {
+        return this.parser.getBooleanValue();
+    }
+
+    public String text() throws IOException {
+        return this.parser.getText();
+    }
+
+    public Val readVal() throws IOException {
+        this.pendingSkip = false;
+        return new ValReader().read(this.parser);
+    }
+
+    public ObjectValue readObjectValue() throws IOException {
+        this.pendingSkip = false;
+        return new ObjectValueReader().read(this.parser);
+    }
+}
@@ -31,13 +31,17 @@ public class ValReader {
 
     private Val parseBaseType(JsonParser parser) throws IOException {
         if (parser.currentToken().isBoolean()) {
-            return Val.booleanValue(Boolean.parseBoolean(parser.getText()));
-        } else if (parser.currentToken().isNumeric()) {
-            if (parser.getText().contains(".")) {
-                return Val.doubleValue(Double.parseDouble(parser.getText()));
+            return Val.booleanValue(parser.currentToken() == JsonToken.VALUE_TRUE);
+        } else if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                return Val.doubleValue(parser.getDoubleValue());
             } else {
-                return Val.longValue(Long.parseLong(parser.getText()));
+                return Val.longValue(parser.getLongValue());
             }
+        } else if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT) {
+            return Val.doubleValue(parser.getDoubleValue());
+        } else if (parser.currentToken() == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return Val.bytesValue(parser.getBinaryValue());
         } else {
             return Val.stringValue(parser.getText());
         }
@@ -36,10 +36,11 @@ public class ValWriter {
         public Optional<IOException> visitObject(Val.ObjectVal object) {
             try {
                 this.generator.writeStartObject();
-                for (String propertyName : object.propertyNames()) {
+                for (String propertyName : object.propertyNameList()) {
                     this.generator.writeFieldName(propertyName);
-                    if(object.property(propertyName) != null) {
-                        object.property(propertyName).accept(this);
+                    Val property = object.property(propertyName);
+                    if(property != null) {
+                        property.accept(this);
                     } else {
                         generator.writeNull();
                     }
@@ -55,8 +56,8 @@ public class ValWriter {
         public Optional<IOException> visitArray(Val.ArrayVal array) {
             try {
                 this.generator.writeStartArray();
-                for (Val value : array.values()) {
-                    value.accept(this);
+                for (int i = 0; i < array.size(); i++) {
+                    array.get(i).accept(this);
                 }
                 this.generator.writeEndArray();
             } catch(IOException e) {
@@ -0,0 +1,110 @@
+package org.codingmatters.value.objects.values;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ObjectValueImplTest {
+
+    @Test
+    public void givenSamePropertiesInDifferentOrder__whenBuilding__thenValuesAreEqual() throws Exception {
+        ObjectValue value = ObjectValue.builder()
+                .property("a", builder -> builder.stringValue("a"))
+                .property("b", builder -> builder.longValue(12L))
+                .build();
+        ObjectValue other = ObjectValue.builder()
+                .property("b", builder -> builder.longValue(12L))
+                .property("a", builder -> builder.stringValue("a"))
+                .build();
+
+        assertThat(value, is(other));
+        assertThat(value.hashCode(), is(other.hashCode()));
+        assertThat(value.propertyNames(), is(arrayContaining("a", "b")));
+    }
+
+    @Test
+    public void givenDifferentPropertySets__whenComparing__thenValuesAreNotEqual() throws Exception {
+        ObjectValue value = ObjectValue.builder()
+                .property("a", builder -> builder.stringValue("a"))
+                .build();
+        ObjectValue other = ObjectValue.builder()
+                .property("b", builder -> builder.stringValue("a"))
+                .build();
+
+        assertThat(value, is(not(other)));
+        assertThat(value.has("b"), is(false));
+        assertThat(value.property("b"), is(nullValue()));
+    }
+
+    @Test
+    public void givenNullPropertyValue__whenBuilding__thenPropertyIsPresentWithNullValue() throws Exception {
+        ObjectValue value = ObjectValue.builder()
+                .property("a", (PropertyValue) null)
+                .build();
+
+        assertThat(value.has("a"), is(true));
+        assertThat(value.property("a"), is(nullValue()));
+    }
+
+    @Test
+    public void givenSamePropertySet__whenBuilding__thenShapeIsShared() throws Exception {
+        Map<String, PropertyValue> properties = new HashMap<>();
+        properties.put("shared", PropertyValue.builder().stringValue("one").build());
+        Map<String, PropertyValue> otherProperties = new HashMap<>();
+        otherProperties.put("shared", PropertyValue.builder().stringValue("two").build());
+
+        assertThat(ObjectValueShape.of(properties.keySet()), is(sameInstance(ObjectValueShape.of(otherProperties.keySet()))));
+    }
+
+    @Test
+    public void givenUninternedShape__whenLookingUpProperties__thenFoundWithoutIndex() throws Exception {
+        Map<String, PropertyValue> properties = new HashMap<>();
+        properties.put(null, PropertyValue.builder().stringValue("null named").build());
+        properties.put("b", PropertyValue.builder().longValue(12L).build());
+        properties.put("a", PropertyValue.builder().stringValue("a").build());
+
+        ObjectValueImpl value = new ObjectValueImpl(properties);
+
+        assertThat(ObjectValueShape.of(properties.keySet()), is(not(sameInstance(ObjectValueShape.of(properties.keySet())))));
+        assertThat(value.property("a"), is(properties.get("a")));
+        assertThat(value.property("b"), is(properties.get("b")));
+        assertThat(value.property(null), is(properties.get(null)));
+        assertThat(value.has("c"), is(false));
+        assertThat(value, is(new ObjectValueImpl(properties)));
+    }
+
+    @Test
+    public void givenHashMapValue__whenComparingHashCode__thenSameAsMapHashCode() throws Exception {
+        Map<String, PropertyValue> properties = new HashMap<>();
+        properties.put("a", PropertyValue.builder().stringValue("a").build());
+        properties.put("b", PropertyValue.builder().booleanValue(true).build());
+
+        assertThat(new ObjectValueImpl(properties).hashCode(), is(properties.hashCode()));
+    }
+
+    @Test
+    public void givenObjectValue__whenVisitingProperties__thenPropertiesVisitedInNameOrder() throws Exception {
+        ObjectValue value = ObjectValue.builder()
+                .property("b", builder -> builder.longValue(12L))
+                .property("a", builder -> builder.stringValue("a"))
+                .build();
+
+        Map<String, PropertyValue> visited = new LinkedHashMap<>();
+        value.forEachProperty(visited::put);
+
+        assertThat(visited.keySet(), contains("a", "b"));
+        assertThat(visited.get("b"), is(value.property("b")));
+        assertThat(value.propertyNameList(), contains("a", "b"));
+        assertThat(value.propertyNameList(), is(sameInstance(value.propertyNameList())));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void givenObjectValue__whenModifyingPropertyNameList__thenUnsupported() throws Exception {
+        ObjectValue.builder().property("a", builder -> builder.stringValue("a")).build().propertyNameList().clear();
+    }
+}
@@ -0,0 +1,111 @@
+package org.codingmatters.value.objects.values;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class PrimitivePropertyValuesTest {
+
+    @Test
+    public void givenLongValue__whenBuilding__thenPrimitiveAndBoxedAccessorsAgree() throws Exception {
+        PropertyValue value = PropertyValue.builder().longValue(12L).build();
+
+        assertThat(value.single().primitiveLongValue(), is(12L));
+        assertThat(value.single().longValue(), is(12L));
+        assertThat(value.single().primitiveDoubleValue(), is(12.0));
+        assertThat(value.single().rawValue(), is(12L));
+        assertThat(value.isNullValue(), is(false));
+        assertThat(value.toString(), is("12 (LONG)"));
+    }
+
+    @Test
+    public void givenNullLongValue__whenBuilding__thenIsNullValue() throws Exception {
+        PropertyValue value = PropertyValue.builder().longValue(null).build();
+
+        assertThat(value.isNullValue(), is(true));
+        assertThat(value.single().longValue(), is(nullValue()));
+    }
+
+    @Test
+    public void givenPrimitiveValue__whenComparingWithBoxedValue__thenEqualWithSameHashCode() throws Exception {
+        PropertyValue.Value boxed = new PropertyValueImpl.ValueImpl(PropertyValue.Type.DOUBLE, 1.5);
+        PropertyValue.Value primitive = PropertyValue.builder().doubleValue(1.5).buildValue();
+
+        assertThat(primitive, is(boxed));
+        assertThat(boxed, is(primitive));
+        assertThat(primitive.hashCode(), is(boxed.hashCode()));
+    }
+
+    @Test
+    public void givenMultipleLongs__whenComparingWithValueArray__thenEqualWithSameHashCode() throws Exception {
+        PropertyValue compact = PropertyValue.multipleLongs(1L, 2L, 3L);
+        PropertyValue values = PropertyValue.multiple(PropertyValue.Type.LONG,
+                PropertyValue.builder().longValue(1L),
+                PropertyValue.builder().longValue(2L),
+                PropertyValue.builder().longValue(3L)
+        );
+
+        assertThat(compact, is(values));
+        assertThat(values, is(compact));
+        assertThat(compact.hashCode(), is(values.hashCode()));
+        assertThat(compact.toString(), is(values.toString()));
+        assertThat(compact.cardinality(), is(PropertyValue.Cardinality.MULTIPLE));
+        assertThat(compact.multiple()[1].longValue(), is(2L));
+        assertThat(compact.longValues(), is(new long[]{1L, 2L, 3L}));
+    }
+
+    @Test
+    public void givenMultipleDoublesAndBooleans__whenReading__thenValuesAreUnboxed() throws Exception {
+        assertThat(PropertyValue.multipleDoubles(1.5, 2.5).doubleValues(), is(new double[]{1.5, 2.5}));
+        assertThat(PropertyValue.multipleBooleans(true, false).booleanValues(), is(new boolean[]{true, false}));
+        assertThat(PropertyValue.multipleBooleans(true, false).single().booleanValue(), is(true));
+    }
+
+    @Test
+    public void givenPrimitiveArray__whenFromObject__thenCompactMultipleValue() throws Exception {
+        PropertyValue value = PropertyValue.fromObject(new long[]{4L, 2L});
+
+        assertThat(value, is(PropertyValue.multipleLongs(4L, 2L)));
+        assertThat(value.type(), is(PropertyValue.Type.LONG));
+    }
+
+    @Test
+    public void givenSingleValue__whenRawValue__thenOneElementValueArrayAsBefore() throws Exception {
+        PropertyValue value = PropertyValue.builder().stringValue("a").build();
+
+        assertThat(value.rawValue(), is(instanceOf(PropertyValue.Value[].class)));
+        assertThat((PropertyValue.Value[]) value.rawValue(), is(arrayContaining(value.single())));
+        assertThat(value.rawValue(), is(sameInstance(value.rawValue())));
+        assertThat(value.multiple(), is(sameInstance(value.rawValue())));
+        assertThat(PropertyValue.builder().longValue(12L).build().multiple(), is(arrayContaining(PropertyValue.builder().longValue(12L).buildValue())));
+    }
+
+    @Test
+    public void givenMultipleLongs__whenMultiple__thenValuesBoxedOnce() throws Exception {
+        PropertyValue compact = PropertyValue.multipleLongs(1L, 2L);
+
+        assertThat(compact.multiple(), is(sameInstance(compact.multiple())));
+        assertThat(compact.rawValue(), is(sameInstance(compact.multiple())));
+    }
+
+    @Test
+    public void givenPrimitiveArrays__whenToMap__thenBoxedLists() throws Exception {
+        ObjectValue value = ObjectValue.builder()
+                .property("longs", PropertyValue.multipleLongs(1L, 2L))
+                .property("doubles", PropertyValue.multipleDoubles(1.5))
+                .property("booleans", PropertyValue.multipleBooleans(true, false))
+                .build();
+
+        assertThat(value.toMap().get("longs"), is(Arrays.asList(1L, 2L)));
+        assertThat(value.toMap().get("doubles"), is(Arrays.asList(1.5)));
+        assertThat(value.toMap().get("booleans"), is(Arrays.asList(true, false)));
+    }
+
+    @Test
+    public void givenNullArray__whenMultipleLongs__thenNullValue() throws Exception {
+        assertThat(PropertyValue.multipleLongs((long[]) null).isNullValue(), is(true));
+    }
+}
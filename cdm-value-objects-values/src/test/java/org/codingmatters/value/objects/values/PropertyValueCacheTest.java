@@ -0,0 +1,68 @@
+package org.codingmatters.value.objects.values;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class PropertyValueCacheTest {
+
+    @Test
+    public void givenBooleans__whenBuilding__thenCanonicalInstances() throws Exception {
+        assertThat(PropertyValue.builder().booleanValue(true).build(), is(sameInstance(PropertyValue.builder().booleanValue(true).build())));
+        assertThat(PropertyValue.builder().booleanValue(false).build(), is(sameInstance(PropertyValue.builder().booleanValue(false).build())));
+        assertThat(PropertyValue.builder().booleanValue(true).build(), is(not(PropertyValue.builder().booleanValue(false).build())));
+    }
+
+    @Test
+    public void givenNullValues__whenBuilding__thenCanonicalInstancePerType() throws Exception {
+        assertThat(PropertyValue.builder().stringValue(null).build(), is(sameInstance(PropertyValue.builder().stringValue(null).build())));
+        assertThat(PropertyValue.builder().longValue(null).build(), is(sameInstance(PropertyValue.builder().longValue(null).build())));
+        assertThat(PropertyValue.builder().longValue(null).build().type(), is(PropertyValue.Type.LONG));
+        assertThat(PropertyValue.builder().build().isNullValue(), is(true));
+    }
+
+    @Test
+    public void givenSmallLongs__whenBuilding__thenCanonicalInstances() throws Exception {
+        assertThat(PropertyValue.builder().longValue(-128L).build(), is(sameInstance(PropertyValue.builder().longValue(-128L).build())));
+        assertThat(PropertyValue.builder().longValue(1024L).build(), is(sameInstance(PropertyValue.builder().longValue(1024L).build())));
+        assertThat(PropertyValue.builder().longValue(1024L).build().single().longValue(), is(1024L));
+    }
+
+    @Test
+    public void givenLongsOutOfRange__whenBuilding__thenNewEqualInstances() throws Exception {
+        PropertyValue value = PropertyValue.builder().longValue(1025L).build();
+        PropertyValue other = PropertyValue.builder().longValue(1025L).build();
+
+        assertThat(value, is(not(sameInstance(other))));
+        assertThat(value, is(other));
+    }
+
+    @Test
+    public void givenLongRangeBounds__whenComputingCacheSize__thenClampedWithoutOverflow() throws Exception {
+        assertThat(PropertyValueCache.longCacheSize(-128L, 1024L), is(1153));
+        assertThat(PropertyValueCache.longCacheSize(0L, 0L), is(1));
+        assertThat(PropertyValueCache.longCacheSize(10L, 0L), is(0));
+        assertThat(PropertyValueCache.longCacheSize(0L, Integer.MAX_VALUE), is(PropertyValueCache.LONG_CACHE_MAX_SIZE));
+        assertThat(PropertyValueCache.longCacheSize(Long.MIN_VALUE, Long.MAX_VALUE), is(PropertyValueCache.LONG_CACHE_MAX_SIZE));
+        assertThat(PropertyValueCache.longCacheSize(-1L, Long.MAX_VALUE), is(PropertyValueCache.LONG_CACHE_MAX_SIZE));
+    }
+
+    @Test
+    public void givenExtremeLongs__whenBuilding__thenNotTakenFromCache() throws Exception {
+        assertThat(PropertyValue.builder().longValue(Long.MAX_VALUE).build().single().longValue(), is(Long.MAX_VALUE));
+        assertThat(PropertyValue.builder().longValue(Long.MIN_VALUE).build().single().longValue(), is(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void givenStrings__whenBuildingWithoutPool__thenOnlyEmptyStringIsCanonical() throws Exception {
+        assertThat(PropertyValue.builder().stringValue("").build(), is(sameInstance(PropertyValue.builder().stringValue("").build())));
+        assertThat(PropertyValue.builder().stringValue("value").build(), is(not(sameInstance(PropertyValue.builder().stringValue("value").build()))));
+    }
+
+    @Test
+    public void givenFromObject__whenBoolean__thenCanonicalInstance() throws Exception {
+        assertThat(PropertyValue.fromObject(true), is(sameInstance(PropertyValue.builder().booleanValue(true).build())));
+        assertThat(PropertyValue.fromObject(12), is(sameInstance(PropertyValue.builder().longValue(12L).build())));
+    }
+}
@@ -0,0 +1,87 @@
+package org.codingmatters.value.objects.values.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.codingmatters.value.objects.values.ObjectValue;
+import org.codingmatters.value.objects.values.PropertyValue;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+public class ObjectValueBinaryFormatsTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final CBORFactory cborFactory = new CBORFactory();
+    private final SmileFactory smileFactory = new SmileFactory().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+
+    static private final ObjectValue VALUE = ObjectValue.builder()
+            .property("name", v -> v.stringValue("a name"))
+            .property("amount", v -> v.doubleValue(12.5))
+            .property("active", v -> v.booleanValue(true))
+            .property("date", v -> v.dateValue(LocalDate.parse("2020-01-15")))
+            .property("missing", v -> v.stringValue(null))
+            .property("tags", PropertyValue.multiple(PropertyValue.Type.STRING, t -> t.stringValue("tag"), t -> t.stringValue("tag")))
+            .property("ratios", PropertyValue.multipleDoubles(0.5, 1.5))
+            .property("embedded", v -> v.objectValue(o -> o.property("name", n -> n.stringValue("a name"))))
+            .build();
+
+    @Test
+    public void givenCbor__whenWritingThenReading__thenSameAsJson() throws Exception {
+        assertThat(this.roundTrip(VALUE, this.cborFactory), is(this.roundTrip(VALUE, this.jsonFactory)));
+    }
+
+    @Test
+    public void givenSmile__whenWritingThenReading__thenSameAsJson() throws Exception {
+        assertThat(this.roundTrip(VALUE, this.smileFactory), is(this.roundTrip(VALUE, this.jsonFactory)));
+    }
+
+    @Test
+    public void givenBinaryFormats__whenWritingBytes__thenBytesAreReadBackAsBytes() throws Exception {
+        ObjectValue value = ObjectValue.builder().property("bytes", v -> v.bytesValue(new byte[]{1, 2, 3})).build();
+
+        for (JsonFactory factory : new JsonFactory[]{this.cborFactory, this.smileFactory}) {
+            PropertyValue bytes = this.roundTrip(value, factory).property("bytes");
+            assertThat(bytes.type(), is(PropertyValue.Type.BYTES));
+            assertThat(bytes.single().bytesValue(), is(new byte[]{1, 2, 3}));
+        }
+        assertThat(this.roundTrip(value, this.jsonFactory).property("bytes").single().stringValue(), is("AQID"));
+    }
+
+    @Test
+    public void givenSmileWithSharedStrings__whenRepeatingKeysAndValues__thenSmallerThanJson() throws Exception {
+        ObjectValue[] values = new ObjectValue[50];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = VALUE;
+        }
+
+        assertThat(this.writeArray(values, this.smileFactory).length * 2, is(lessThan(this.writeArray(values, this.jsonFactory).length)));
+    }
+
+    private ObjectValue roundTrip(ObjectValue value, JsonFactory factory) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(JsonGenerator generator = factory.createGenerator(out)) {
+            new ObjectValueWriter().write(generator, value);
+        }
+        try(JsonParser parser = factory.createParser(out.toByteArray())) {
+            return new ObjectValueReader().read(parser);
+        }
+    }
+
+    private byte[] writeArray(ObjectValue[] values, JsonFactory factory) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(JsonGenerator generator = factory.createGenerator(out)) {
+            new ObjectValueWriter().writeArray(generator, values);
+        }
+        return out.toByteArray();
+    }
+}
@@ -5,6 +5,11 @@ import org.codingmatters.value.objects.values.ObjectValue;
 import org.codingmatters.value.objects.values.PropertyValue;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -104,6 +109,36 @@ public class ObjectValueReaderTest {
         );
     }
 
+    @Test
+    public void givenHomogeneousNumbersOrBooleans__whenReading__thenPrimitiveArrays() throws Exception {
+        String json = "{\"numbers\": [1, 2.5, 3, 4, 5, 6, 7, 8, 9], \"booleans\": [true, false]}";
+
+        ObjectValue value = new ObjectValueReader().read(jsonFactory.createParser(json));
+
+        assertThat(value.property("numbers").isPrimitiveArray(), is(true));
+        assertThat(value.property("numbers").doubleValues(), is(new double[] {1, 2.5, 3, 4, 5, 6, 7, 8, 9}));
+        assertThat(value.property("booleans").isPrimitiveArray(), is(true));
+        assertThat(value.property("booleans").booleanValues(), is(new boolean[] {true, false}));
+    }
+
+    @Test
+    public void givenNumbersFollowedByOtherValues__whenReading__thenValuesKeptInOrder() throws Exception {
+        String json = "{\"prop\": [1, 2, null, \"str\"]}";
+
+        ObjectValue value = new ObjectValueReader().read(jsonFactory.createParser(json));
+
+        assertThat(value.property("prop").isPrimitiveArray(), is(false));
+        assertThat(value, is(ObjectValue.builder()
+                .property("prop", PropertyValue.multiple(PropertyValue.Type.DOUBLE,
+                        builder -> builder.doubleValue(1.0),
+                        builder -> builder.doubleValue(2.0),
+                        builder -> builder.stringValue(null),
+                        builder -> builder.stringValue("str"))
+                )
+                .build()
+        ));
+    }
+
     @Test
     public void object() throws Exception {
         String json = "{\"prop\": {\"p\": \"v\"}, \"deep\": {\"prop\": {\"p\": \"v\"}}}";
@@ -132,4 +167,22 @@ public class ObjectValueReaderTest {
                 is(arrayContaining(ObjectValue.builder().property("prop", builder -> builder.stringValue("str")).build()))
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenBytesBufferOrStream__whenReadingWithSharedFactory__thenValueRead() throws Exception {
+        byte[] json = "[{\"prop\": \"str\"}]".getBytes(StandardCharsets.UTF_8);
+        ObjectValue expected = ObjectValue.builder().property("prop", builder -> builder.stringValue("str")).build();
+
+        assertThat(ObjectValueReader.read(Arrays.copyOfRange(json, 1, json.length - 1)), is(expected));
+
+        ByteBuffer heap = ByteBuffer.wrap(json, 1, json.length - 2);
+        assertThat(ObjectValueReader.read(heap), is(expected));
+        assertThat(heap.position(), is(1));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(json.length);
+        direct.put(json).position(1).limit(json.length - 1);
+        assertThat(ObjectValueReader.read(direct), is(expected));
+
+        assertThat(ObjectValueReader.read(new ByteArrayInputStream(json, 1, json.length - 2)), is(expected));
+    }
+}
@@ -8,7 +8,14 @@ import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -91,6 +98,19 @@ public class ObjectValueWriterTest {
         );
     }
 
+    @Test
+    public void givenPrimitiveArrays__whenWriting__thenWrittenAsArrays() throws Exception {
+        assertThat(
+                this.write(
+                        ObjectValue.builder()
+                                .property("longs", PropertyValue.multipleLongs(1L, 2L))
+                                .property("doubles", PropertyValue.multipleDoubles(1.5, 2.0))
+                                .property("booleans", PropertyValue.multipleBooleans(true, false))
+                ),
+                is("{\"booleans\":[true,false],\"doubles\":[1.5,2.0],\"longs\":[1,2]}")
+        );
+    }
+
     @Test
     public void object() throws Exception {
         assertThat(
@@ -103,6 +123,79 @@ public class ObjectValueWriterTest {
         );
     }
 
+    @Test
+    public void givenStream__whenWritingStream__thenArrayWrittenWithNullElements() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = this.jsonFactory.createGenerator(out)) {
+            new ObjectValueWriter().writeStream(generator, Stream.of(
+                    ObjectValue.builder().property("p", v -> v.stringValue("a")).build(),
+                    null,
+                    ObjectValue.builder().property("p", v -> v.stringValue("b")).build()
+            ));
+        }
+        assertThat(out.toString(), is("[{\"p\":\"a\"},null,{\"p\":\"b\"}]"));
+    }
+
+    @Test
+    public void givenNullIterable__whenWritingIterable__thenNull() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = this.jsonFactory.createGenerator(out)) {
+            new ObjectValueWriter().writeIterable(generator, null);
+        }
+        assertThat(out.toString(), is("null"));
+    }
+
+    @Test
+    public void givenFlushEvery__whenWritingIterator__thenOutputFlushedWhileIterating() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Integer> flushedSizes = new ArrayList<>();
+        Iterator<ObjectValue> values = new Iterator<ObjectValue>() {
+            private int count = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.count < 5;
+            }
+
+            @Override
+            public ObjectValue next() {
+                flushedSizes.add(out.size());
+                return ObjectValue.builder().property("n", v -> v.longValue((long) this.count++)).build();
+            }
+        };
+        try (JsonGenerator generator = this.jsonFactory.createGenerator(out)) {
+            new ObjectValueWriter().writeIterator(generator, values, 2);
+        }
+
+        assertThat(flushedSizes.subList(0, 2), contains(0, 0));
+        assertThat(flushedSizes.get(2), is(greaterThan(0)));
+        assertThat(flushedSizes.get(3), is(flushedSizes.get(2)));
+        assertThat(flushedSizes.get(4), is(greaterThan(flushedSizes.get(3))));
+        assertThat(out.toString(), is("[{\"n\":0},{\"n\":1},{\"n\":2},{\"n\":3},{\"n\":4}]"));
+    }
+
+    @Test
+    public void givenValue__whenToBytes__thenSameJsonAsWrite() throws Exception {
+        ObjectValue value = ObjectValue.builder().property("prop", builder -> builder.stringValue("str")).build();
+
+        assertThat(new String(ObjectValueWriter.toBytes(value), StandardCharsets.UTF_8), is(this.write(value)));
+    }
+
+    @Test
+    public void givenOutputStream__whenWritingTo__thenJsonWrittenAndStreamLeftOpen() throws Exception {
+        boolean[] closed = {false};
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        ObjectValueWriter.writeTo(out, ObjectValue.builder().property("prop", builder -> builder.stringValue("str")).build());
+
+        assertThat(out.toString(), is("{\"prop\":\"str\"}"));
+        assertThat(closed[0], is(false));
+    }
 
     private String write(ObjectValue.Builder builder) throws IOException {
         return this.write(builder.build());
@@ -0,0 +1,141 @@
+package org.codingmatters.value.objects.values.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.codingmatters.value.objects.values.ObjectValue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ParallelJsonReaderTest {
+
+    @Rule
+    public TemporaryFolder dir = new TemporaryFolder();
+
+    private final JsonFactory factory = new JsonFactory();
+
+    @Test
+    public void givenNdjson__whenReadingOrdered__thenValuesInFileOrder() throws Exception {
+        File file = this.file(this.lines(1000));
+
+        List<ObjectValue> values = new ArrayList<>();
+        new ParallelJsonReader<>(this.factory, new ObjectValueReader()::read, 4, 256).readLines(file, true, values::add);
+
+        assertThat(values, is(this.expected(1000)));
+    }
+
+    @Test
+    public void givenNdjson__whenReadingUnordered__thenAllValuesRead() throws Exception {
+        File file = this.file(this.lines(1000));
+
+        List<ObjectValue> values = new ArrayList<>();
+        new ParallelJsonReader<>(this.factory, new ObjectValueReader()::read, 4, 256).readLines(file, false, values::add);
+
+        assertThat(values, containsInAnyOrder(this.expected(1000).toArray()));
+    }
+
+    @Test
+    public void givenNdjsonWithBlankLinesAndNulls__whenReading__thenBlankLinesIgnoredAndNullsRead() throws Exception {
+        File file = this.file("{\"n\":1}\n\n\r\nnull\n{\"n\":2}");
+
+        List<ObjectValue> values = new ArrayList<>();
+        new ParallelJsonReader<>(this.factory, new ObjectValueReader()::read, 2, 1).readLines(file, true, values::add);
+
+        assertThat(values, contains(this.value(1), null, this.value(2)));
+    }
+
+    @Test
+    public void givenTopLevelArray__whenReadingOrdered__thenValuesInFileOrder() throws Exception {
+        File file = this.file("  [" + String.join(",\n", this.lines(1000).split("\n")) + "]  ");
+
+        List<ObjectValue> values = new ArrayList<>();
+        new ParallelJsonReader<>(this.factory, new ObjectValueReader()::read, 4, 256).readArray(file, true, values::add);
+
+        assertThat(values, is(this.expected(1000)));
+    }
+
+    @Test
+    public void givenTopLevelArrayWithStructuralCharactersInStrings__whenReading__thenChunksSplitOnElementBoundaries() throws Exception {
+        File file = this.file("[{\"s\":\"a, [b] {c}\"},{\"s\":\"\\\", ]\"},null,{\"l\":[1,2,{\"m\":\"}\"}]}]");
+
+        List<ObjectValue> values = new ArrayList<>();
+        new ParallelJsonReader<>(this.factory, new ObjectValueReader()::read, 3, 1).readArray(file, true, values::add);
+
+        assertThat(values, hasSize(4));
+        assertThat(values.get(0).property("s").single().stringValue(), is("a, [b] {c}"));
+        assertThat(values.get(1).property("s").single().stringValue(), is("\", ]"));
+        assertThat(values.get(2), is(nullValue()));
+        assertThat(values.get(3).property("l").multiple()[2].objectValue().property("m").single().stringValue(), is("}"));
+    }
+
+    @Test
+    public void givenEmptyArray__whenReading__thenNoValues() throws Exception {
+        List<ObjectValue> values = new ArrayList<>();
+        new ParallelJsonReader<>(this.factory, new ObjectValueReader()::read, 2).readArray(this.file("[ ]"), true, values::add);
+
+        assertThat(values, is(empty()));
+    }
+
+    @Test
+    public void givenSingleThread__whenReading__thenValuesReadInCallingThread() throws Exception {
+        List<ObjectValue> values = new ArrayList<>();
+        new ParallelJsonReader<>(this.factory, new ObjectValueReader()::read, 1, 64).readLines(this.file(this.lines(100)), false, values::add);
+
+        assertThat(values, is(this.expected(100)));
+    }
+
+    @Test(expected = IOException.class)
+    public void givenNotAnArray__whenReadingArray__thenIOException() throws Exception {
+        new ParallelJsonReader<>(this.factory, new ObjectValueReader()::read, 2).readArray(this.file("{\"n\":1}"), true, v -> {});
+    }
+
+    @Test(expected = IOException.class)
+    public void givenUnterminatedArray__whenReadingArray__thenIOException() throws Exception {
+        new ParallelJsonReader<>(this.factory, new ObjectValueReader()::read, 2).readArray(this.file("[{\"n\":1}"), true, v -> {});
+    }
+
+    @Test(expected = IOException.class)
+    public void givenMalformedValue__whenReading__thenWorkerIOExceptionIsRethrown() throws Exception {
+        new ParallelJsonReader<>(this.factory, new ObjectValueReader()::read, 2, 8).readLines(this.file(this.lines(10) + "\n{\"n\":}\n"), true, v -> {});
+    }
+
+    private String lines(int count) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if(i > 0) result.append('\n');
+            result.append("{\"n\":").append(i).append(",\"s\":\"value ").append(i).append("\"}");
+        }
+        return result.toString();
+    }
+
+    private List<ObjectValue> expected(int count) {
+        List<ObjectValue> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double n = i;
+            String text = "value " + i;
+            result.add(ObjectValue.builder()
+                    .property("n", v -> v.doubleValue(n))
+                    .property("s", v -> v.stringValue(text))
+                    .build());
+        }
+        return result;
+    }
+
+    private ObjectValue value(double n) {
+        return ObjectValue.builder().property("n", v -> v.doubleValue(n)).build();
+    }
+
+    private File file(String content) throws IOException {
+        File result = this.dir.newFile();
+        Files.write(result.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return result;
+    }
+}
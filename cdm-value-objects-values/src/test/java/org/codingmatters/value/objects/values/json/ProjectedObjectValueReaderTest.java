@@ -0,0 +1,83 @@
+package org.codingmatters.value.objects.values.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.codingmatters.value.objects.values.ObjectValue;
+import org.codingmatters.value.objects.values.PropertyValue;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class ProjectedObjectValueReaderTest {
+
+    private JsonFactory jsonFactory = new JsonFactory();
+
+    private static final String JSON = "{" +
+            "\"id\": \"doc\", " +
+            "\"big\": {\"x\": [1, 2, 3], \"y\": {\"z\": \"skipped\"}}, " +
+            "\"a\": {\"b\": [{\"c\": 1.5, \"d\": \"no\"}, {\"d\": \"no\"}, {\"c\": 2.5}], \"e\": true}" +
+            "}";
+
+    @Test
+    public void givenPropertyPath__whenReading__thenOnlyPropertyIsRead() throws Exception {
+        assertThat(
+                new ProjectedObjectValueReader("id").read(jsonFactory.createParser(JSON)),
+                is(ObjectValue.builder().property("id", v -> v.stringValue("doc")).build())
+        );
+    }
+
+    @Test
+    public void givenPathThroughArray__whenReading__thenMatchingElementsAreKeptWithTheirPath() throws Exception {
+        assertThat(
+                new ProjectedObjectValueReader("a.b[*].c").read(jsonFactory.createParser(JSON)),
+                is(ObjectValue.builder()
+                        .property("a", v -> v.objectValue(a -> a.property("b", PropertyValue.multiple(PropertyValue.Type.OBJECT,
+                                b -> b.objectValue(o -> o.property("c", c -> c.doubleValue(1.5))),
+                                b -> b.objectValue(o -> o.property("c", c -> c.doubleValue(2.5)))
+                        ))))
+                        .build())
+        );
+    }
+
+    @Test
+    public void givenIndexedAndSubtreePaths__whenReading__thenSubtreesAreFullyRead() throws Exception {
+        assertThat(
+                new ProjectedObjectValueReader("a.b[1]", "big.y").read(jsonFactory.createParser(JSON)),
+                is(ObjectValue.builder()
+                        .property("big", v -> v.objectValue(big -> big.property("y", y -> y.objectValue(o -> o.property("z", z -> z.stringValue("skipped"))))))
+                        .property("a", v -> v.objectValue(a -> a.property("b", PropertyValue.multiple(PropertyValue.Type.OBJECT,
+                                b -> b.objectValue(o -> o.property("d", d -> d.stringValue("no")))
+                        ))))
+                        .build())
+        );
+    }
+
+    @Test
+    public void givenNoMatch__whenReading__thenEmptyObjectAndParserAtEndOfDocument() throws Exception {
+        JsonParser parser = jsonFactory.createParser(JSON + " {\"id\": \"next\"}");
+
+        assertThat(new ProjectedObjectValueReader("missing.path").read(parser), is(ObjectValue.builder().build()));
+        assertThat(parser.currentToken(), is(JsonToken.END_OBJECT));
+
+        parser.nextToken();
+        assertThat(
+                new ProjectedObjectValueReader("id").read(parser),
+                is(ObjectValue.builder().property("id", v -> v.stringValue("next")).build())
+        );
+    }
+
+    @Test
+    public void givenEmptyPath__whenReading__thenWholeDocumentIsRead() throws Exception {
+        assertThat(
+                new ProjectedObjectValueReader("").read(jsonFactory.createParser(JSON)),
+                is(new ObjectValueReader().read(jsonFactory.createParser(JSON)))
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenUnclosedIndex__whenCreatingProjection__thenIllegalArgument() throws Exception {
+        JsonProjection.of("a.b[1");
+    }
+}
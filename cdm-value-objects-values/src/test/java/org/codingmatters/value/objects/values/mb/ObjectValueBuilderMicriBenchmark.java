@@ -1,19 +1,14 @@
 package org.codingmatters.value.objects.values.mb;
 
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonGenerator;
 import org.codingmatters.value.objects.values.ObjectValue;
 import org.codingmatters.value.objects.values.PropertyValue;
 import org.codingmatters.value.objects.values.json.ObjectValueWriter;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.UUID;
 
 public class ObjectValueBuilderMicriBenchmark {
 
-    private final JsonFactory jsonFactory = new JsonFactory();
-
     /**
      * MAVEN_OPTS=-Xmx64m mvn exec:java -Dexec.mainClass=org.codingmatters.value.objects.values.mb.ObjectValueBuildMicriBenchmark -Dexec.classpathScope="test"
      * @param args
@@ -55,9 +50,7 @@ public class ObjectValueBuilderMicriBenchmark {
             );
         }
         ObjectValue value = builder.build();
-        try(ByteArrayOutputStream out = new ByteArrayOutputStream() ; JsonGenerator gen = this.jsonFactory.createGenerator(out)) {
-            new ObjectValueWriter().write(gen, value);
-        }
+        ObjectValueWriter.toBytes(value);
     }
 
 
@@ -2,6 +2,10 @@ package org.codingmatters.value.objects.values.vals;
 
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThat;
@@ -28,6 +32,42 @@ public class ValTest {
         );
     }
 
+    @Test
+    public void array_indexedAccess() throws Exception {
+        Val.ArrayVal array = Val.array(2).with(Val.stringValue("hello"), Val.longValue(12L)).with(Val.booleanValue(true)).build();
+
+        assertThat(array.size(), is(3));
+        assertThat(array.get(0), is(Val.stringValue("hello")));
+        assertThat(array.get(2), is(Val.booleanValue(true)));
+        assertThat(array.values().length, is(3));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void array_getOutOfSize() throws Exception {
+        Val.array(10).with(Val.stringValue("hello")).build().get(1);
+    }
+
+    @Test
+    public void array_builderReusedAfterBuild() throws Exception {
+        Val.ArrayVal.Builder builder = Val.array().with(Val.longValue(1L));
+        Val.ArrayVal first = builder.build();
+        Val.ArrayVal second = builder.with(Val.longValue(2L)).build();
+        Val.ArrayVal third = builder.values(Val.longValue(3L)).build();
+
+        assertThat(first, is(Val.array().with(Val.longValue(1L)).build()));
+        assertThat(second, is(Val.array().with(Val.longValue(1L), Val.longValue(2L)).build()));
+        assertThat(third, is(Val.array().with(Val.longValue(3L)).build()));
+    }
+
+    @Test
+    public void array_valuesIsACopy() throws Exception {
+        Val.ArrayVal array = Val.array().with(Val.longValue(1L)).build();
+        array.values()[0] = Val.longValue(2L);
+
+        assertThat(array.get(0), is(Val.longValue(1L)));
+        assertThat(array.hashCode(), is(Val.array().with(Val.longValue(1L)).build().hashCode()));
+    }
+
     @Test
     public void nestedArray() throws Exception {
         assertThat(
@@ -140,4 +180,25 @@ public class ValTest {
                 is(not(Val.object().property("p1", Val.stringValue("v1")).build()))
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void object_forEachProperty() throws Exception {
+        Val.ObjectVal object = Val.object()
+                .property("str", Val.stringValue("hello"))
+                .property("long", Val.longValue(12L))
+                .build();
+
+        Map<String, Val> visited = new HashMap<>();
+        object.forEachProperty(visited::put);
+
+        assertThat(visited.size(), is(2));
+        assertThat(visited.get("str"), is(Val.stringValue("hello")));
+        assertThat(visited.get("long"), is(Val.longValue(12L)));
+        assertThat(object.propertyNameList(), contains(object.propertyNames()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void object_propertyNameListIsImmutable() throws Exception {
+        Val.object().property("str", Val.stringValue("hello")).build().propertyNameList().clear();
+    }
+}
@@ -0,0 +1,58 @@
+package org.codingmatters.value.objects.values.vals.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.codingmatters.value.objects.values.vals.Val;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ProjectedValReaderTest {
+
+    private JsonFactory jsonFactory = new JsonFactory();
+
+    private static final String JSON = "{" +
+            "\"id\": \"doc\", " +
+            "\"big\": {\"x\": [1, 2, 3], \"y\": {\"z\": \"skipped\"}}, " +
+            "\"a\": {\"b\": [{\"c\": 1, \"d\": \"no\"}, {\"d\": \"no\"}, {\"c\": [2, 3]}], \"e\": true}, " +
+            "\"n\": null" +
+            "}";
+
+    @Test
+    public void givenPathThroughArray__whenReading__thenMatchingElementsAreKeptWithTheirPath() throws Exception {
+        assertThat(
+                new ProjectedValReader("a.b[*].c").read(jsonFactory.createParser(JSON)),
+                is(Val.object()
+                        .property("a", Val.object().property("b", Val.array().with(
+                                Val.object().property("c", Val.longValue(1L)).build(),
+                                Val.object().property("c", Val.array().with(Val.longValue(2L), Val.longValue(3L)).build()).build()
+                        ).build()).build())
+                        .build())
+        );
+    }
+
+    @Test
+    public void givenWildcardAndIndexPaths__whenReading__thenMatchingValuesAreRead() throws Exception {
+        assertThat(
+                new ProjectedValReader("*.x[0]", "a.e").read(jsonFactory.createParser(JSON)),
+                is(Val.object()
+                        .property("big", Val.object().property("x", Val.array().with(Val.longValue(1L)).build()).build())
+                        .property("a", Val.object().property("e", Val.booleanValue(true)).build())
+                        .build())
+        );
+    }
+
+    @Test
+    public void givenSelectedNull__whenReading__thenNullPropertyIsKept() throws Exception {
+        assertThat(
+                new ProjectedValReader("n").read(jsonFactory.createParser(JSON)),
+                is(Val.object().property("n", null).build())
+        );
+    }
+
+    @Test
+    public void givenNoMatch__whenReading__thenNull() throws Exception {
+        assertThat(new ProjectedValReader("a.b[*].missing").read(jsonFactory.createParser(JSON)), is(nullValue()));
+    }
+}
@@ -0,0 +1,57 @@
+package org.codingmatters.value.objects.values.vals.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.codingmatters.value.objects.values.vals.Val;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ValBinaryFormatsTest {
+
+    static private final Val VALUE = Val.object()
+            .property("name", Val.stringValue("a name"))
+            .property("count", Val.longValue(Long.MAX_VALUE))
+            .property("ratio", Val.doubleValue(0.25))
+            .property("active", Val.booleanValue(false))
+            .property("missing", null)
+            .property("values", Val.array().with(Val.longValue(1L), Val.doubleValue(1.5), Val.stringValue("str")).build())
+            .property("nested", Val.array().with(Val.array().with(Val.object().property("p", Val.stringValue("v")).build()).build()).build())
+            .build();
+
+    @Test
+    public void givenCbor__whenWritingThenReading__thenIdempotent() throws Exception {
+        assertThat(this.roundTrip(VALUE, new CBORFactory()), is(VALUE));
+    }
+
+    @Test
+    public void givenSmile__whenWritingThenReading__thenIdempotent() throws Exception {
+        assertThat(this.roundTrip(VALUE, new SmileFactory()), is(VALUE));
+    }
+
+    @Test
+    public void givenBinaryFormats__whenWritingBytes__thenBytesAreReadBackAsBytes() throws Exception {
+        for (JsonFactory factory : new JsonFactory[]{new CBORFactory(), new SmileFactory()}) {
+            Val.BaseTypeVal bytes = (Val.BaseTypeVal) this.roundTrip(Val.bytesValue(new byte[]{1, 2, 3}), factory);
+            assertThat(bytes.type(), is(Val.bytesValue(null).type()));
+            assertThat(bytes.value(), is(new byte[]{1, 2, 3}));
+        }
+    }
+
+    private Val roundTrip(Val value, JsonFactory factory) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(JsonGenerator generator = factory.createGenerator(out)) {
+            new ValWriter().write(generator, value);
+        }
+        try(JsonParser parser = factory.createParser(out.toByteArray())) {
+            return new ValReader().read(parser);
+        }
+    }
+}
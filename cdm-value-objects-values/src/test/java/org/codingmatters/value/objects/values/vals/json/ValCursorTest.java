@@ -0,0 +1,98 @@
+package org.codingmatters.value.objects.values.vals.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import org.codingmatters.value.objects.values.ObjectValue;
+import org.codingmatters.value.objects.values.vals.Val;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ValCursorTest {
+
+    private JsonFactory jsonFactory = new JsonFactory();
+
+    private static final String NDJSON =
+            "{\"id\": 1, \"skip\": {\"deep\": [1, 2]}, \"a\": {\"b\": [{\"c\": 10}, {\"c\": 11}, {\"d\": 12}]}}\n" +
+            "{\"id\": 2, \"a\": {\"b\": [{\"c\": 20, \"sub\": {\"x\": \"y\"}}]}}\n" +
+            "{\"id\": 3, \"a\": null}\n";
+
+    @Test
+    public void givenNdjson__whenWalking__thenSelectedScalarsAreVisitedInDocumentOrder() throws Exception {
+        ValCursor cursor = new ValCursor(jsonFactory.createParser(NDJSON), "id", "a.b[*].c");
+
+        List<String> visited = new ArrayList<>();
+        long sum = 0L;
+        while(cursor.next()) {
+            visited.add(cursor.fieldName() + "=" + cursor.longValue());
+            if(cursor.matches(1)) {
+                sum += cursor.longValue();
+            }
+        }
+
+        assertThat(visited, contains("id=1", "c=10", "c=11", "id=2", "c=20", "id=3"));
+        assertThat(sum, is(41L));
+    }
+
+    @Test
+    public void givenSelectedContainers__whenNotRead__thenTheyAreSkipped() throws Exception {
+        ValCursor cursor = new ValCursor(jsonFactory.createParser(NDJSON), "a.b", "id");
+
+        List<String> visited = new ArrayList<>();
+        while(cursor.next()) {
+            visited.add(cursor.fieldName() + ":" + cursor.currentToken());
+        }
+
+        assertThat(visited, contains(
+                "id:" + JsonToken.VALUE_NUMBER_INT, "b:" + JsonToken.START_ARRAY,
+                "id:" + JsonToken.VALUE_NUMBER_INT, "b:" + JsonToken.START_ARRAY,
+                "id:" + JsonToken.VALUE_NUMBER_INT
+        ));
+    }
+
+    @Test
+    public void givenSelectedContainers__whenRead__thenValuesAreMaterialized() throws Exception {
+        ValCursor cursor = new ValCursor(jsonFactory.createParser(NDJSON), "a.b[0]");
+
+        assertThat(cursor.next(), is(true));
+        assertThat(cursor.readVal(), is(Val.object().property("c", Val.longValue(10L)).build()));
+
+        assertThat(cursor.next(), is(true));
+        assertThat(cursor.readObjectValue(), is(ObjectValue.builder()
+                .property("c", v -> v.doubleValue(20.0))
+                .property("sub", v -> v.objectValue(o -> o.property("x", x -> x.stringValue("y"))))
+                .build()));
+
+        assertThat(cursor.next(), is(false));
+    }
+
+    @Test
+    public void givenArrayElements__whenWalking__thenIndexIsTheElementPosition() throws Exception {
+        ValCursor cursor = new ValCursor(jsonFactory.createParser(NDJSON), "a.b[*]");
+
+        List<Integer> indexes = new ArrayList<>();
+        while(cursor.next()) {
+            indexes.add(cursor.index());
+        }
+
+        assertThat(indexes, contains(0, 1, 2, 0));
+    }
+
+    @Test
+    public void givenSelectedNull__whenWalking__thenIsNull() throws Exception {
+        ValCursor cursor = new ValCursor(jsonFactory.createParser(NDJSON), "a");
+
+        assertThat(cursor.next(), is(true));
+        assertThat(cursor.isNull(), is(false));
+        assertThat(cursor.next(), is(true));
+        assertThat(cursor.isNull(), is(false));
+        assertThat(cursor.next(), is(true));
+        assertThat(cursor.isNull(), is(true));
+        assertThat(cursor.next(), is(false));
+    }
+}
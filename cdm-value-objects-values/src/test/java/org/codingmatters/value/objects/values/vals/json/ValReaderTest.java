@@ -65,6 +65,35 @@ public class ValReaderTest {
         );
     }
 
+    @Test
+    public void exponentNotation() throws Exception {
+        assertThat(
+                new ValReader().read(jsonFactory.createParser("{\"prop\": 1e5, \"neg\": -2.5E-3}")),
+                is(Val.object()
+                        .property("prop", Val.doubleValue(100000.0))
+                        .property("neg", Val.doubleValue(-0.0025))
+                        .build())
+        );
+    }
+
+    @Test
+    public void longBounds() throws Exception {
+        assertThat(
+                new ValReader().read(jsonFactory.createParser("[" + Long.MAX_VALUE + ", " + Long.MIN_VALUE + ", -0]")),
+                is(Val.array()
+                        .with(Val.longValue(Long.MAX_VALUE), Val.longValue(Long.MIN_VALUE), Val.longValue(0L))
+                        .build())
+        );
+    }
+
+    @Test
+    public void bigInteger() throws Exception {
+        assertThat(
+                new ValReader().read(jsonFactory.createParser("{\"prop\": 123456789012345678901234567890}")),
+                is(Val.object().property("prop", Val.doubleValue(1.2345678901234568E29)).build())
+        );
+    }
+
     @Test
     public void multipleString() throws Exception {
         String json = "{\"prop\": [\"str1\", \"str2\"]}";